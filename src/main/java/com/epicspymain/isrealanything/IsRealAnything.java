@@ -1,17 +1,43 @@
 package com.epicspymain.isrealanything;
+import com.epicspymain.isrealanything.ai.GazeTracker;
+import com.epicspymain.isrealanything.ai.StalkingBehavior;
+import com.epicspymain.isrealanything.ai.StalkingController;
+import com.epicspymain.isrealanything.event.EventAdmission;
+import com.epicspymain.isrealanything.event.EventCatalog;
+import com.epicspymain.isrealanything.event.EventCostProbe;
 import com.epicspymain.isrealanything.event.EventManager;
+import com.epicspymain.isrealanything.event.EventPreparer;
+import com.epicspymain.isrealanything.event.HorrorEventRegistry;
 import com.epicspymain.isrealanything.event.LimboExileEvent;
+import com.epicspymain.isrealanything.event.ServerTuning;
 import com.epicspymain.isrealanything.block.ModBlocks;
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
 import com.epicspymain.isrealanything.entity.custom.TheOtherMEEntity;
 import com.epicspymain.isrealanything.item.ModItemGroups;
 import com.epicspymain.isrealanything.item.ModItems;
+import com.epicspymain.isrealanything.network.ParticleEmitters;
+import com.epicspymain.isrealanything.scheduler.ServerTickDispatcher;
+import com.epicspymain.isrealanything.scheduler.TickBudget;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.scheduler.Timeline;
+import com.epicspymain.isrealanything.scheduler.WorldJobs;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import com.epicspymain.isrealanything.world.BaseIndex;
+import com.epicspymain.isrealanything.world.BlockChangeJournal;
+import com.epicspymain.isrealanything.world.BlockStateRemap;
+import com.epicspymain.isrealanything.world.BlockUndoLog;
+import com.epicspymain.isrealanything.world.CoverPoints;
+import com.epicspymain.isrealanything.world.DarknessMap;
 import com.epicspymain.isrealanything.world.DimensionRegistry;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
+import com.epicspymain.isrealanything.world.SpawnCandidates;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.object.builder.v1.entity.FabricDefaultAttributeRegistry;
 import net.fabricmc.api.ModInitializer;
+import net.minecraft.server.network.ServerPlayerEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +70,9 @@ public class IsRealAnything implements ModInitializer {
 
 		// Register custom dimensions
 		DimensionRegistry.registerDimensions();
+
+		// Register network payloads
+		ParticleEmitters.register();
 		
 
 		registerEventSystem();
@@ -55,14 +84,76 @@ public class IsRealAnything implements ModInitializer {
 
 
 	private void registerEventSystem() {
-		ServerTickEvents.END_WORLD_TICK.register(world -> {
-			EventManager.onTick(world.getServer());
-			// Tick limbo exile system
-			LimboExileEvent.tickExiledPlayers(world.getServer());
+		// Everything ticks once per server tick, not once per loaded world
+		ServerTickDispatcher.register();
+		ServerTickDispatcher.onServerTick(server -> {
+			TickScheduler.tick();
+			Timeline.tickAll();
+		});
+		ServerTickDispatcher.onServerTick(EventManager::onTick);
+		ServerTickDispatcher.onServerTick(EventAdmission::tick);
+		ServerTickDispatcher.onServerTick(EventPreparer::tick);
+		ServerTickDispatcher.onServerTick(HorrorEventRegistry::tick);
+		ServerTickDispatcher.onServerTick(WorldJobs::tick);
+		ServerTickDispatcher.onServerTick(BaseIndex::tick);
+		ServerTickDispatcher.onServerTick(BlockUndoLog::tick);
+		ServerTickDispatcher.onServerTick(BlockChangeJournal::tick);
+		ServerTickDispatcher.onServerTick(SpawnCandidates::tick);
+		ServerTickDispatcher.onServerTick(DarknessMap::tick);
+		ServerTickDispatcher.onServerTick(CoverPoints::tick);
+		ServerTickDispatcher.onServerTick(GazeTracker::tick);
+		ServerTickDispatcher.onServerTick(LoadedTerrain::tick);
+		ServerTickDispatcher.onServerTick(server -> {
+			StalkingController.tick();
+			StalkingBehavior.tick();
+		});
+
+		// World-local work is routed to the world it lives in
+		ServerTickDispatcher.onDimensionTick(DimensionRegistry.LIMBO_DIMENSION_KEY, LimboExileEvent::tickExiledPlayers);
+		ServerTickDispatcher.onPopulatedWorldTick(StalkingBehavior::tickWorld);
+
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
+			EventManager.onPlayerJoin(handler.getPlayer());
+		});
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+			EventManager.onPlayerLeave(handler.getPlayer().getUuid());
+			TickScheduler.cancelAll(handler.getPlayer().getUuid());
+			Timeline.cancelAll(handler.getPlayer().getUuid());
+			SpawnCandidates.remove(handler.getPlayer().getUuid());
+			DarknessMap.remove(handler.getPlayer().getUuid());
+			CoverPoints.remove(handler.getPlayer().getUuid());
+			GazeTracker.remove(handler.getPlayer().getUuid());
+		});
+		ServerLivingEntityEvents.AFTER_DEATH.register((entity, damageSource) -> {
+			if (entity instanceof ServerPlayerEntity player) {
+				Timeline.onOwnerDeath(player.getUuid());
+			}
+		});
+		ServerLifecycleEvents.SERVER_STARTED.register(ServerTuning::load);
+		ServerLifecycleEvents.SERVER_STARTED.register(EventCatalog::load);
+		EventCostProbe.register();
+		BaseIndex.register();
+		BlockChangeJournal.register();
+		BlockStateRemap.register();
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			TickScheduler.clear();
+			Timeline.clear();
+			HorrorEventRegistry.clear();
+			TickBudget.clear();
+			SpawnCandidates.clear();
+			DarknessMap.clear();
+			CoverPoints.clear();
+			GazeTracker.clear();
+			EventAdmission.clear();
+			EventPreparer.clear();
+			WorldJobs.clear();
+			LoadedTerrain.clear();
+			BaseIndex.clear();
 		});
 
 		LOGGER.info("Event system registered");
 		LOGGER.info("Phase-based event scheduler initialized");
+		LOGGER.info("Tick scheduler initialized");
 		LOGGER.info("The Overlook failsafe system active");
 		LOGGER.info("Limbo exile system initialized");
 	}
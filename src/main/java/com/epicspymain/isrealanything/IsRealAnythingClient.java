@@ -1,9 +1,11 @@
 package com.epicspymain.isrealanything;
 
 import com.epicspymain.isrealanything.client.lang.LangToaster;
+import com.epicspymain.isrealanything.client.particle.ClientParticleEmitters;
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.client.TheMEEntityRenderer;
 import com.epicspymain.isrealanything.entity.client.TheOtherMEEntityRenderer;
+import com.epicspymain.isrealanything.scheduler.ClientTickScheduler;
 import com.epicspymain.isrealanything.screen.*;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
@@ -23,6 +25,12 @@ public class IsRealAnythingClient implements ClientModInitializer {
 		// Initialize GeckoLib
 		GeckoLib.initialize();
 
+		// Client tick scheduler (delayed client-side actions)
+		ClientTickScheduler.register();
+
+		// Server-described particle emitters
+		ClientParticleEmitters.register();
+
 		// Register entity renderers
 		EntityRendererRegistry.register(ModEntities.THEME_ENTITY, TheMEEntityRenderer::new);
 		EntityRendererRegistry.register(ModEntities.THEOTHERME_ENTITY, TheOtherMEEntityRenderer::new);
@@ -0,0 +1,147 @@
+package com.epicspymain.isrealanything.ai;
+
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.world.SightLines;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * GazeTracker - Which stalkers each player can actually see
+ *
+ * Tracked entities get their look dot product against their player once per
+ * tick, all of a player's in one pass with one look vector. Only those inside
+ * the view cone are raycast, through a SightLines cache - so a stalker behind
+ * a wall isn't "seen", and a stalker standing still in plain view isn't
+ * re-traced every tick.
+ *
+ * Usage:
+ *   GazeTracker.track(player, entity);
+ *   if (GazeTracker.isLookingAt(player, entity, 0.9)) { ... }
+ */
+public class GazeTracker {
+
+    // Widest cone callers ask about - anything outside is never raycast
+    private static final double VIEW_CONE_DOT = 0.5;
+
+    private static final Map<UUID, Map<UUID, Gaze>> gazes = new HashMap<>();
+    private static final SightLines SIGHT_LINES = new SightLines();
+
+    private static class Gaze {
+        double dot;
+        boolean visible;
+        long tick = -1;
+    }
+
+    /**
+     * Evaluate every tracked entity - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        long now = TickScheduler.getCurrentTick();
+
+        for (Iterator<Map.Entry<UUID, Map<UUID, Gaze>>> players = gazes.entrySet().iterator(); players.hasNext(); ) {
+            Map.Entry<UUID, Map<UUID, Gaze>> entry = players.next();
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.getKey());
+            if (player == null) {
+                players.remove();
+                continue;
+            }
+
+            ServerWorld world = (ServerWorld) player.getWorld();
+            Vec3d eye = player.getEyePos();
+            Vec3d look = player.getRotationVector();
+
+            for (Iterator<Map.Entry<UUID, Gaze>> it = entry.getValue().entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<UUID, Gaze> tracked = it.next();
+                Entity entity = world.getEntity(tracked.getKey());
+                if (entity == null || entity.isRemoved()) {
+                    it.remove(); // Gone, or in another world than its player
+                    continue;
+                }
+                evaluate(world, player, eye, look, entity, tracked.getValue(), now);
+            }
+            if (entry.getValue().isEmpty()) {
+                players.remove();
+            }
+        }
+
+        if (now % 100 == 0) {
+            SIGHT_LINES.prune(now);
+        }
+    }
+
+    public static void track(ServerPlayerEntity player, Entity entity) {
+        gazes.computeIfAbsent(player.getUuid(), uuid -> new HashMap<>()).putIfAbsent(entity.getUuid(), new Gaze());
+    }
+
+    public static void untrack(ServerPlayerEntity player, Entity entity) {
+        Map<UUID, Gaze> tracked = gazes.get(player.getUuid());
+        if (tracked != null) {
+            tracked.remove(entity.getUuid());
+        }
+    }
+
+    public static void remove(UUID playerUuid) {
+        gazes.remove(playerUuid);
+    }
+
+    public static void clear() {
+        gazes.clear();
+        SIGHT_LINES.clear();
+    }
+
+    // ========================================
+    // QUERIES
+    // ========================================
+
+    /**
+     * True if the player faces the entity within the cone (look dot above
+     * minDot, at least VIEW_CONE_DOT) and no block hides it. Untracked
+     * entities are tracked from here on.
+     */
+    public static boolean isLookingAt(ServerPlayerEntity player, Entity entity, double minDot) {
+        Gaze gaze = gazeFor(player, entity);
+        return gaze.visible && gaze.dot > minDot;
+    }
+
+    /**
+     * True if the entity is anywhere in the player's view and not behind blocks
+     */
+    public static boolean canSee(ServerPlayerEntity player, Entity entity) {
+        return gazeFor(player, entity).visible;
+    }
+
+    private static Gaze gazeFor(ServerPlayerEntity player, Entity entity) {
+        Gaze gaze = gazes.computeIfAbsent(player.getUuid(), uuid -> new HashMap<>())
+                .computeIfAbsent(entity.getUuid(), uuid -> new Gaze());
+        long now = TickScheduler.getCurrentTick();
+        if (gaze.tick != now) {
+            // Not evaluated yet this tick (tracked mid-tick) - same path, one entity
+            evaluate((ServerWorld) player.getWorld(), player, player.getEyePos(), player.getRotationVector(),
+                    entity, gaze, now);
+        }
+        return gaze;
+    }
+
+    private static void evaluate(ServerWorld world, ServerPlayerEntity player, Vec3d eye, Vec3d look,
+                                 Entity entity, Gaze gaze, long now) {
+        gaze.tick = now;
+        if (entity.getWorld() != world) {
+            gaze.dot = -1.0;
+            gaze.visible = false;
+            return;
+        }
+
+        Vec3d toEntity = entity.getEyePos().subtract(eye);
+        double distance = toEntity.length();
+        gaze.dot = distance < 1.0E-4 ? 1.0 : look.dotProduct(toEntity) / distance;
+        gaze.visible = gaze.dot > VIEW_CONE_DOT && SIGHT_LINES.isClear(world, player, entity, now);
+    }
+}
@@ -5,8 +5,11 @@ import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
 import com.epicspymain.isrealanything.entity.custom.TheOtherMEEntity;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import com.epicspymain.isrealanything.world.CoverPoints;
+import com.epicspymain.isrealanything.world.DarknessMap;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
+import com.epicspymain.isrealanything.world.SpawnCandidates;
 import net.minecraft.entity.SpawnReason;
-import net.minecraft.world.Heightmap;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -43,6 +46,7 @@ public class StalkingBehavior {
 
     private static class StalkingData {
         UUID entityId;
+        UUID targetId;
         BlockPos lastPosition;
         int ticksSinceAppearance;
         int phase;
@@ -59,8 +63,33 @@ public class StalkingBehavior {
     }
 
     /**
-     * Updates stalking behavior for all entities.
-     * Called every tick from EventManager.
+     * Advances the shared stalking clock.
+     * Called once per server tick.
+     */
+    public static void tick() {
+        if (!overlookTriggered) {
+            globalTick++;
+        }
+    }
+
+    /**
+     * Updates stalking for every player in one world.
+     * Routed once per server tick to each world that has players.
+     */
+    public static void tickWorld(ServerWorld world) {
+        int intensity = StalkingController.getIntensity();
+        if (intensity == 0 && STALKING_ENTITIES.isEmpty()) {
+            return;
+        }
+
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            update(world, null, player, intensity);
+        }
+    }
+
+    /**
+     * Updates stalking behavior for one player.
+     * Called from tickWorld().
      *
      * @param world The server world
      * @param entity The stalking entity (can be null)
@@ -77,8 +106,6 @@ public class StalkingBehavior {
             return;
         }
 
-        globalTick++;
-
         // Phase-based behavior
         switch (stalkingPhase) {
             case 1:
@@ -144,7 +171,7 @@ public class StalkingBehavior {
 
         if (RANDOM.nextFloat() < 0.7f) {
             // Spawn at close range, possibly indoors
-            BlockPos spawnPos = findPeekingPosition(world, player.getBlockPos(), PHASE_3_DISTANCE);
+            BlockPos spawnPos = findPeekingPosition(player, PHASE_3_DISTANCE);
             if (spawnPos != null) {
                 spawnStalkingEntityAt(world, player, spawnPos, 3);
                 IsRealAnything.LOGGER.debug("Phase 3: Base infiltration");
@@ -161,10 +188,19 @@ public class StalkingBehavior {
         }
 
         if (RANDOM.nextFloat() < 0.8f) {
-            // Spawn behind player
-            BlockPos behindPos = getPositionBehindPlayer(player, PHASE_4_DISTANCE);
-            spawnStalkingEntityAt(world, player, behindPos, 4);
-            IsRealAnything.LOGGER.debug("Phase 4: Behind player spawn");
+            // Spawn behind player - straight behind if no open spot there is cached
+            BlockPos behindPos = SpawnCandidates.query(player)
+                    .distance(PHASE_4_DISTANCE - 2, PHASE_4_DISTANCE + 2)
+                    .clear()
+                    .behind()
+                    .pick();
+            if (behindPos == null) {
+                behindPos = getPositionBehindPlayer(world, player, PHASE_4_DISTANCE);
+            }
+            if (behindPos != null) {
+                spawnStalkingEntityAt(world, player, behindPos, 4);
+                IsRealAnything.LOGGER.debug("Phase 4: Behind player spawn");
+            }
         }
     }
 
@@ -179,7 +215,7 @@ public class StalkingBehavior {
         // Spawn multiple entities
         int spawnCount = 1 + RANDOM.nextInt(3);
         for (int i = 0; i < spawnCount; i++) {
-            BlockPos pos = findNearbyPosition(world, player.getBlockPos(), PHASE_5_DISTANCE, PHASE_4_DISTANCE);
+            BlockPos pos = findNearbyPosition(player, PHASE_5_DISTANCE, PHASE_4_DISTANCE);
             if (pos != null) {
                 spawnStalkingEntityAt(world, player, pos, 5);
             }
@@ -203,6 +239,11 @@ public class StalkingBehavior {
             Map.Entry<UUID, StalkingData> entry = iterator.next();
             StalkingData data = entry.getValue();
 
+            // Only this player's stalkers live in this world
+            if (!player.getUuid().equals(data.targetId)) {
+                continue;
+            }
+
             // Find entity in world
             LivingEntity entity = (LivingEntity) world.getEntity(data.entityId);
 
@@ -240,7 +281,7 @@ public class StalkingBehavior {
      * Spawns a stalking entity at a calculated position.
      */
     private static void spawnStalkingEntity(ServerWorld world, ServerPlayerEntity player, int distance, int phase) {
-        BlockPos pos = findNearbyPosition(world, player.getBlockPos(), distance - 5, distance + 5);
+        BlockPos pos = findNearbyPosition(player, distance - 5, distance + 5);
         if (pos != null) {
             spawnStalkingEntityAt(world, player, pos, phase);
         }
@@ -277,9 +318,11 @@ public class StalkingBehavior {
 
             // Track stalking data
             StalkingData data = new StalkingData(entity.getUuid(), phase);
+            data.targetId = player.getUuid();
             data.lastPosition = pos;
             data.isVisible = true;
             STALKING_ENTITIES.put(entity.getUuid(), data);
+            GazeTracker.track(player, entity);
 
             IsRealAnything.LOGGER.debug("Stalking entity spawned at {} (phase {})", pos, phase);
         }
@@ -288,73 +331,50 @@ public class StalkingBehavior {
     /**
      * Finds a "peeking" position (corner, doorway, window).
      */
-    private static BlockPos findPeekingPosition(ServerWorld world, BlockPos center, int range) {
-        for (int attempt = 0; attempt < 20; attempt++) {
-            int x = center.getX() + RANDOM.nextInt(range * 2) - range;
-            int z = center.getZ() + RANDOM.nextInt(range * 2) - range;
-            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
-
-
-            BlockPos pos = new BlockPos(x, y, z);
-
-            // Check if position is valid and somewhat hidden
-            if (world.getBlockState(pos).isAir() &&
-                    world.getBlockState(pos.up()).isAir() &&
-                    world.getLightLevel(pos) < 8) {
-                return pos;
-            }
+    private static BlockPos findPeekingPosition(ServerPlayerEntity player, int range) {
+        // Beside a wall edge or door, half in the player's sight
+        BlockPos cover = CoverPoints.pick(player, range);
+        if (cover != null) {
+            return cover;
         }
 
-        return null;
+        // Otherwise somewhat hidden: room to stand, but dim - indoors and underground count
+        return DarknessMap.query(player)
+                .within(range)
+                .maxLight(7)
+                .pick();
     }
 
     /**
-     * Gets position behind player.
+     * Gets position behind player (null if that chunk isn't loaded).
      */
-    private static BlockPos getPositionBehindPlayer(ServerPlayerEntity player, int distance) {
+    private static BlockPos getPositionBehindPlayer(ServerWorld world, ServerPlayerEntity player, int distance) {
         float yaw = player.getYaw();
         double radians = Math.toRadians(yaw);
 
         int x = (int) (player.getX() - distance * Math.sin(radians));
         int z = (int) (player.getZ() + distance * Math.cos(radians));
-        int y = player.getWorld().getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+        int y = LoadedTerrain.getSurfaceY(world, x, z);
 
-        return new BlockPos(x, y, z);
+        return y == LoadedTerrain.UNLOADED ? null : new BlockPos(x, y, z);
     }
 
     /**
      * Finds a nearby valid position.
      */
-    private static BlockPos findNearbyPosition(ServerWorld world, BlockPos center, int minRange, int maxRange) {
-        for (int attempt = 0; attempt < 15; attempt++) {
-            double angle = RANDOM.nextDouble() * 2 * Math.PI;
-            int distance = minRange + RANDOM.nextInt(maxRange - minRange);
-
-            int x = (int) (center.getX() + distance * Math.cos(angle));
-            int z = (int) (center.getZ() + distance * Math.sin(angle));
-            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
-
-            BlockPos pos = new BlockPos(x, y, z);
-
-            if (world.getBlockState(pos).isAir() && world.getBlockState(pos.up()).isAir()) {
-                return pos;
-            }
-        }
-
-        return null;
+    private static BlockPos findNearbyPosition(ServerPlayerEntity player, int minRange, int maxRange) {
+        return SpawnCandidates.query(player)
+                .distance(minRange, maxRange)
+                .clear()
+                .pick();
     }
 
     /**
      * Checks if player is looking at entity.
      */
     private static boolean isPlayerLookingAt(ServerPlayerEntity player, LivingEntity entity) {
-        Vec3d playerLook = player.getRotationVector();
-        Vec3d toEntity = entity.getPos().subtract(player.getPos()).normalize();
-
-        double dot = playerLook.dotProduct(toEntity);
-
-        // Player is looking at entity if dot product > 0.9 (narrow cone)
-        return dot > 0.9;
+        // Narrow cone (dot > 0.9), and not hidden behind blocks
+        return GazeTracker.isLookingAt(player, entity, 0.9);
     }
 
     /**
@@ -1,9 +1,9 @@
 package com.epicspymain.isrealanything.ai;
 import com.epicspymain.isrealanything.IsRealAnything;
-import net.minecraft.world.Heightmap;
 import com.epicspymain.isrealanything.entity.client.TheMEEntitySpawner;
 import com.epicspymain.isrealanything.entity.client.TheOtherMEEntitySpawner;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import com.epicspymain.isrealanything.world.DarknessMap;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
@@ -62,7 +62,7 @@ public class StalkingController {
         }
 
         BlockPos playerPos = player.getBlockPos();
-        BlockPos peekPos = findPeekPosition(world, playerPos, distance);
+        BlockPos peekPos = findPeekPosition(player, distance);
 
         if (peekPos != null) {
             TheMEEntitySpawner.spawnAt(world, peekPos);
@@ -172,22 +172,11 @@ public class StalkingController {
         IsRealAnything.LOGGER.info("StalkingController reset");
     }
 
-    private static BlockPos findPeekPosition(ServerWorld world, BlockPos center, int distance) {
-        for (int attempt = 0; attempt < 15; attempt++) {
-            double angle = world.getRandom().nextDouble() * 2 * Math.PI;
-            int x = (int) (center.getX() + distance * Math.cos(angle));
-            int z = (int) (center.getZ() + distance * Math.sin(angle));
-            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
-
-            BlockPos pos = new BlockPos(x, y, z);
-
-            if (world.getBlockState(pos).isAir() &&
-                    world.getBlockState(pos.up()).isAir() &&
-                    world.getLightLevel(pos) < 10) {
-                return pos;
-            }
-        }
-        return null;
+    private static BlockPos findPeekPosition(ServerPlayerEntity player, int distance) {
+        return DarknessMap.query(player)
+                .distance(distance - 3, distance + 3)
+                .maxLight(9)
+                .pick();
     }
 
     public static int getRecommendedIntensity(long gameDay) {
@@ -0,0 +1,127 @@
+package com.epicspymain.isrealanything.client.particle;
+
+import com.epicspymain.isrealanything.network.ParticleEmitterPayload;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.particle.ParticlesMode;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ClientParticleEmitters - Spawns particles for ParticleEmitterPayloads
+ *
+ * Each emitter spawns its rate of particles every client tick until its
+ * duration runs out. Rates are scaled by the particle setting (All /
+ * Decreased / Minimal) and the total per tick is capped, so a big server-side
+ * effect can't flood a weak client.
+ */
+public class ClientParticleEmitters {
+
+    private static final int MAX_EMITTERS = 64;
+    private static final int MAX_PARTICLES_PER_TICK = 400;
+
+    private static final List<Emitter> emitters = new ArrayList<>();
+
+    private static class Emitter {
+        final ParticleEmitterPayload spec;
+        final Random random;
+        int ticksLeft;
+        float carry = 0.0f;
+
+        Emitter(ParticleEmitterPayload spec) {
+            this.spec = spec;
+            this.random = Random.create(spec.seed());
+            this.ticksLeft = spec.duration();
+        }
+    }
+
+    public static void register() {
+        ClientPlayNetworking.registerGlobalReceiver(ParticleEmitterPayload.ID, (payload, context) -> add(payload));
+        ClientTickEvents.END_CLIENT_TICK.register(ClientParticleEmitters::tick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> emitters.clear());
+    }
+
+    private static void add(ParticleEmitterPayload payload) {
+        if (emitters.size() >= MAX_EMITTERS) {
+            emitters.remove(0); // Oldest goes first
+        }
+        emitters.add(new Emitter(payload));
+    }
+
+    private static void tick(MinecraftClient client) {
+        if (emitters.isEmpty() || client.world == null || client.player == null || client.isPaused()) {
+            return;
+        }
+
+        float scale = settingScale(client.options.getParticles().getValue());
+        int budget = (int) (MAX_PARTICLES_PER_TICK * scale);
+
+        for (int i = emitters.size() - 1; i >= 0; i--) {
+            Emitter emitter = emitters.get(i);
+            ParticleEmitterPayload spec = emitter.spec;
+            Vec3d center = spec.followPlayer() ? client.player.getPos().add(spec.center()) : spec.center();
+
+            emitter.carry += spec.rate() * scale;
+            int count = Math.min((int) emitter.carry, budget);
+            emitter.carry -= (int) emitter.carry;
+            budget -= count;
+
+            for (int n = 0; n < count; n++) {
+                Vec3d pos = pick(spec, center, emitter.random);
+                double vx = (emitter.random.nextDouble() - 0.5) * spec.speed();
+                double vy = (emitter.random.nextDouble() - 0.5) * spec.speed();
+                double vz = (emitter.random.nextDouble() - 0.5) * spec.speed();
+                client.particleManager.addParticle(spec.particle(), pos.x, pos.y, pos.z, vx, vy, vz);
+            }
+
+            if (--emitter.ticksLeft <= 0) {
+                emitters.remove(i);
+            }
+        }
+    }
+
+    private static Vec3d pick(ParticleEmitterPayload spec, Vec3d center, Random random) {
+        Vec3d size = spec.size();
+        switch (spec.shape()) {
+            case SPHERE -> {
+                // Rejection sample the unit sphere
+                double x, y, z;
+                do {
+                    x = random.nextDouble() * 2 - 1;
+                    y = random.nextDouble() * 2 - 1;
+                    z = random.nextDouble() * 2 - 1;
+                } while (x * x + y * y + z * z > 1);
+                return center.add(x * size.x, y * size.x, z * size.x);
+            }
+            case RING -> {
+                double angle = random.nextDouble() * Math.PI * 2;
+                return center.add(MathHelper.cos((float) angle) * size.x, (random.nextDouble() * 2 - 1) * size.y,
+                        MathHelper.sin((float) angle) * size.x);
+            }
+            case COLUMN -> {
+                double angle = random.nextDouble() * Math.PI * 2;
+                double radius = Math.sqrt(random.nextDouble()) * size.x;
+                return center.add(MathHelper.cos((float) angle) * radius, random.nextDouble() * size.y,
+                        MathHelper.sin((float) angle) * radius);
+            }
+            default -> {
+                return center.add((random.nextDouble() * 2 - 1) * size.x, (random.nextDouble() * 2 - 1) * size.y,
+                        (random.nextDouble() * 2 - 1) * size.z);
+            }
+        }
+    }
+
+    private static float settingScale(ParticlesMode mode) {
+        return switch (mode) {
+            case ALL -> 1.0f;
+            case DECREASED -> 0.4f;
+            case MINIMAL -> 0.1f;
+        };
+    }
+}
@@ -1,10 +1,11 @@
 package com.epicspymain.isrealanything.entity;
 
 import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
+import com.epicspymain.isrealanything.world.SpawnCandidates;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.entity.SpawnReason;
-import net.minecraft.world.Heightmap;
 
 /**
  * Helper class for spawning TheME entities at specific locations.
@@ -41,7 +42,10 @@ public class TheMEEntitySpawner {
         double radians = Math.toRadians(playerYaw);
         int x = (int) (playerPos.getX() - distance * Math.sin(radians));
         int z = (int) (playerPos.getZ() + distance * Math.cos(radians));
-        int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+        int y = LoadedTerrain.getSurfaceY(world, x, z);
+        if (y == LoadedTerrain.UNLOADED) {
+            return null; // Don't load the chunk for this
+        }
 
         BlockPos behindPos = new BlockPos(x, y, z);
 
@@ -52,24 +56,12 @@ public class TheMEEntitySpawner {
      * Spawns TheME entity near player (random position).
      */
     public static TheMEEntity spawnNearPlayer(ServerWorld world, BlockPos playerPos, int minDistance, int maxDistance) {
-        for (int attempt = 0; attempt < 10; attempt++) {
-            double angle = world.getRandom().nextDouble() * 2 * Math.PI;
-            int distance = minDistance + world.getRandom().nextInt(maxDistance - minDistance);
-
-            int x = (int) (playerPos.getX() + distance * Math.cos(angle));
-            int z = (int) (playerPos.getZ() + distance * Math.sin(angle));
-            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+        BlockPos spawnPos = SpawnCandidates.query(world, playerPos)
+                .distance(minDistance, maxDistance)
+                .clear()
+                .pick();
 
-            BlockPos spawnPos = new BlockPos(x, y, z);
-
-            // Check if position is valid
-            if (world.getBlockState(spawnPos).isAir() &&
-                    world.getBlockState(spawnPos.up()).isAir()) {
-                return spawnAt(world, spawnPos);
-            }
-        }
-
-        return null;
+        return spawnPos != null ? spawnAt(world, spawnPos) : null;
     }
 
     /**
@@ -3,8 +3,9 @@ package com.epicspymain.isrealanything.entity.client;
 import com.epicspymain.isrealanything.IsRealAnything;
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
+import com.epicspymain.isrealanything.world.SpawnCandidates;
 import net.minecraft.entity.SpawnReason;
-import net.minecraft.world.Heightmap;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -12,6 +13,8 @@ import net.minecraft.world.World;
 
 public class TheMEEntitySpawner {
     
+    private static final double NEAR_SLACK = 3.0; // spawnNearPlayer distance tolerance
+    
 
     public static TheMEEntity spawnAt(World world, BlockPos pos) {
         if (world.isClient) {
@@ -48,14 +51,12 @@ public class TheMEEntitySpawner {
             return null;
         }
         
-        // Calculate random position around player
-        double angle = world.random.nextDouble() * 2 * Math.PI;
-        int x = (int) (playerPos.getX() + distance * Math.cos(angle));
-        int z = (int) (playerPos.getZ() + distance * Math.sin(angle));
-        int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
-        
-        BlockPos spawnPos = new BlockPos(x, y, z);
-        return spawnAt(world, spawnPos);
+        // A cached surface spot about that far out
+        BlockPos spawnPos = SpawnCandidates.query((ServerWorld) world, playerPos)
+            .distance(Math.max(0, distance - NEAR_SLACK), distance + NEAR_SLACK)
+            .clear()
+            .pick();
+        return spawnPos != null ? spawnAt(world, spawnPos) : null;
     }
     
 
@@ -68,7 +69,10 @@ public class TheMEEntitySpawner {
         double radians = Math.toRadians(playerYaw);
         int x = (int) (playerPos.getX() - distance * Math.sin(radians));
         int z = (int) (playerPos.getZ() + distance * Math.cos(radians));
-        int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+        int y = LoadedTerrain.getSurfaceY((ServerWorld) world, x, z);
+        if (y == LoadedTerrain.UNLOADED) {
+            return null; // Don't load the chunk for this
+        }
         
         BlockPos spawnPos = new BlockPos(x, y, z);
         TheMEEntity entity = spawnAt(world, spawnPos);
@@ -3,8 +3,10 @@ package com.epicspymain.isrealanything.entity.client;
 import com.epicspymain.isrealanything.IsRealAnything;
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheOtherMEEntity;
+import com.epicspymain.isrealanything.world.DarknessMap;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
+import com.epicspymain.isrealanything.world.SpawnCandidates;
 import net.minecraft.entity.SpawnReason;
-import net.minecraft.world.Heightmap;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -15,6 +17,8 @@ import net.minecraft.world.World;
  */
 public class TheOtherMEEntitySpawner {
     
+    private static final double NEAR_SLACK = 3.0; // spawnNearPlayer distance tolerance
+    
     /**
      * Spawns TheOtherME entity at a specific position.
      * 
@@ -57,14 +61,12 @@ public class TheOtherMEEntitySpawner {
             return null;
         }
         
-        // Calculate random position around player
-        double angle = world.random.nextDouble() * 2 * Math.PI;
-        int x = (int) (playerPos.getX() + distance * Math.cos(angle));
-        int z = (int) (playerPos.getZ() + distance * Math.sin(angle));
-        int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
-        
-        BlockPos spawnPos = new BlockPos(x, y, z);
-        return spawnAt(world, spawnPos);
+        // A cached surface spot about that far out
+        BlockPos spawnPos = SpawnCandidates.query((ServerWorld) world, playerPos)
+            .distance(Math.max(0, distance - NEAR_SLACK), distance + NEAR_SLACK)
+            .clear()
+            .pick();
+        return spawnPos != null ? spawnAt(world, spawnPos) : null;
     }
     
     /**
@@ -80,21 +82,13 @@ public class TheOtherMEEntitySpawner {
             return null;
         }
         
-        // Try multiple positions
-        for (int attempt = 0; attempt < 20; attempt++) {
-            int x = playerPos.getX() + world.random.nextInt(searchRadius * 2) - searchRadius;
-            int z = playerPos.getZ() + world.random.nextInt(searchRadius * 2) - searchRadius;
-            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
-            
-            BlockPos pos = new BlockPos(x, y, z);
-            
-            // Check if position is dark enough
-            if (world.getLightLevel(pos) < 4 && canSpawnAt(world, pos)) {
-                return spawnAt(world, pos);
-            }
-        }
+        // Dark enough and room to stand - caves and interiors included
+        BlockPos pos = DarknessMap.query((ServerWorld) world, playerPos)
+            .within(searchRadius)
+            .maxLight(3)
+            .pick();
         
-        return null;
+        return pos != null ? spawnAt(world, pos) : null;
     }
     
     /**
@@ -115,7 +109,10 @@ public class TheOtherMEEntitySpawner {
         double radians = Math.toRadians(playerYaw);
         int x = (int) (playerPos.getX() - distance * Math.sin(radians));
         int z = (int) (playerPos.getZ() + distance * Math.cos(radians));
-        int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+        int y = LoadedTerrain.getSurfaceY((ServerWorld) world, x, z);
+        if (y == LoadedTerrain.UNLOADED) {
+            return null; // Don't load the chunk for this
+        }
         
         BlockPos spawnPos = new BlockPos(x, y, z);
         TheOtherMEEntity entity = spawnAt(world, spawnPos);
@@ -182,13 +179,14 @@ public class TheOtherMEEntitySpawner {
         int spawned = 0;
         
         for (int i = 0; i < count; i++) {
-            int x = centerPos.getX() + world.random.nextInt(radius * 2) - radius;
-            int z = centerPos.getZ() + world.random.nextInt(radius * 2) - radius;
-            int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
-            
-            BlockPos pos = new BlockPos(x, y, z);
+            // Same rules as canSpawnAt, answered from the candidate cache
+            BlockPos pos = SpawnCandidates.query((ServerWorld) world, centerPos)
+                .within(radius)
+                .clear()
+                .maxLight(7)
+                .pick();
             
-            if (spawnIfValid(world, pos) != null) {
+            if (pos != null && spawnAt(world, pos) != null) {
                 spawned++;
             }
         }
@@ -2,6 +2,7 @@ package com.epicspymain.isrealanything.entity.custom;
 
 import com.epicspymain.isrealanything.sound.ModSounds;
 import com.epicspymain.isrealanything.ai.ContextualMessageManager;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.ai.goal.*;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
@@ -187,14 +188,9 @@ public class TheMEEntity extends HostileEntity implements GeoEntity {
         this.playSound(ModSounds.SCREAM, 1.5f, 0.7f);
         
         // Schedule vanish after animation (100 ticks = 5 seconds)
-        this.getWorld().getServer().execute(() -> {
-            try {
-                Thread.sleep(5000);
-                if (!this.isDead()) {
-                    this.discard();
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        TickScheduler.runAfter(100, () -> {
+            if (!this.isDead()) {
+                this.discard();
             }
         });
     }
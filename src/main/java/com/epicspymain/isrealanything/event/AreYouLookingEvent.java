@@ -1,5 +1,9 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.world.BlockEditSession;
+import com.epicspymain.isrealanything.world.BlockTransaction;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
 import net.minecraft.block.Blocks;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -9,14 +13,15 @@ import net.minecraft.util.math.BlockPos;
 
 /**
  * EVENT 32: AreYouLooking - Home destruction
- * Holes appear in player's home (missing blocks don't return)
+ * Holes appear in player's home (missing blocks return a day later)
  * Ground in 15x15 radius replaced with Soul Sand
- * Creates permanent damage and slowing effect
+ * Creates lasting damage and slowing effect
  */
 public class AreYouLookingEvent {
     
     private static final int SOUL_SAND_RADIUS = 15;
     private static final int HOLE_COUNT = 20; // 15-20 holes
+    private static final int RESTORE_TICKS = 24000; // 1 day
     
     /**
      * Trigger home destruction event
@@ -31,32 +36,37 @@ public class AreYouLookingEvent {
                 false
         );
 
+        // Everything is recorded - the damage fades after a day
+        BlockTransaction transaction = new BlockTransaction("AreYouLooking");
+        BlockEditSession session = new BlockEditSession(world)
+                .withUpdates(true)
+                .record(transaction);
+
         // Create holes in nearby structures
         int holes = HOLE_COUNT + world.random.nextInt(6);
         for (int i = 0; i < holes; i++) {
-            createHole(world, playerPos);
+            createHole(world, session, playerPos);
         }
+        session.commit();
 
-        // Replace ground with soul sand
-        replaceSoulSand(world, playerPos);
+        // Replace ground with soul sand (after the holes, so it lands on the new ground)
+        replaceSoulSand(world, session, playerPos);
+        session.commit();
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(2000);
-                world.getServer().execute(() ->
-                        player.sendMessage(
-                                Text.literal("Б")
-                                        .formatted(Formatting.DARK_GRAY, Formatting.ITALIC),
-                                false
-                        )
-                );
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        transaction.revertAfter(world, RESTORE_TICKS);
 
+        TickScheduler.runAfter(player, 40, () ->
+                player.sendMessage(
+                        Text.literal("Б")
+                                .formatted(Formatting.DARK_GRAY, Formatting.ITALIC),
+                        false
+                )
+        );
+
+
+    }
 
-    } private static void createHole(ServerWorld world, BlockPos center) {
+    private static void createHole(ServerWorld world, BlockEditSession session, BlockPos center) {
         // Random position within 30 blocks
         int x = center.getX() + world.random.nextInt(60) - 30;
         int y = center.getY() + world.random.nextInt(20) - 10;
@@ -75,7 +85,7 @@ public class AreYouLookingEvent {
                             !world.getBlockState(pos).isOf(Blocks.END_PORTAL) &&
                             !world.getBlockState(pos).isOf(Blocks.END_PORTAL_FRAME)) {
                         
-                        world.setBlockState(pos, Blocks.AIR.getDefaultState());
+                        session.set(pos, Blocks.AIR.getDefaultState());
                     }
                 }
             }
@@ -85,18 +95,18 @@ public class AreYouLookingEvent {
     /**
      * Replace ground with soul sand
      */
-    private static void replaceSoulSand(ServerWorld world, BlockPos center) {
+    private static void replaceSoulSand(ServerWorld world, BlockEditSession session, BlockPos center) {
         for (int x = -SOUL_SAND_RADIUS; x <= SOUL_SAND_RADIUS; x++) {
             for (int z = -SOUL_SAND_RADIUS; z <= SOUL_SAND_RADIUS; z++) {
                 // Only replace blocks at ground level
-                BlockPos groundPos = world.getTopPosition(
+                BlockPos groundPos = LoadedTerrain.getTopPosition(world,
                     net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
                     center.add(x, 0, z)
                 );
                 
                 // Replace top block with soul sand
-                if (world.getBlockState(groundPos.down()).isSolidBlock(world, groundPos.down())) {
-                    world.setBlockState(groundPos.down(), Blocks.SOUL_SAND.getDefaultState());
+                if (groundPos != null && world.getBlockState(groundPos.down()).isSolidBlock(world, groundPos.down())) {
+                    session.set(groundPos.down(), Blocks.SOUL_SAND.getDefaultState());
                 }
             }
         }
@@ -1,5 +1,8 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.world.BlockEditSession;
+import com.epicspymain.isrealanything.world.BlockTransaction;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
 import net.minecraft.block.Blocks;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -16,6 +19,7 @@ import net.minecraft.util.math.BlockPos;
 public class BurningMomentsEvent {
     
     private static final int TRAP_COUNT = 5; // 3-5 traps
+    private static final int TRAP_LIFETIME_TICKS = 12000; // 10 minutes
     
     /**
      * Trigger trap spawning
@@ -23,18 +27,28 @@ public class BurningMomentsEvent {
     public static void trigger(ServerWorld world, ServerPlayerEntity player) {
         int traps = TRAP_COUNT + world.random.nextInt(3);
         
+        // Updates on - the lava has to behave like lava
+        // Traps still standing are cleared (ground restored) after a while
+        BlockTransaction transaction = new BlockTransaction("BurningMoments");
+        BlockEditSession session = new BlockEditSession(world)
+            .withUpdates(true)
+            .record(transaction);
+        
         for (int i = 0; i < traps; i++) {
             float trapType = world.random.nextFloat();
             
             if (trapType < 0.3f) {
-                spawnLavaPit(world, player);
+                spawnLavaPit(world, session, player);
             } else if (trapType < 0.6f) {
-                spawnTNTTrap(world, player);
+                spawnTNTTrap(world, session, player);
             } else {
-                spawnPressurePlateTrap(world, player);
+                spawnPressurePlateTrap(world, session, player);
             }
         }
         
+        session.commit();
+        transaction.revertAfter(world, TRAP_LIFETIME_TICKS);
+        
         // Subtle warning
         player.sendMessage(
             Text.literal("Something feels... dangerous.")
@@ -46,73 +60,56 @@ public class BurningMomentsEvent {
     /**
      * Spawn hidden lava pit
      */
-    private static void spawnLavaPit(ServerWorld world, ServerPlayerEntity player) {
+    private static void spawnLavaPit(ServerWorld world, BlockEditSession session, ServerPlayerEntity player) {
         BlockPos trapPos = findTrapLocation(world, player, 15, 30);
         
         if (trapPos == null) return;
         
         // Dig 3x3 pit, 3 blocks deep
-        for (int x = -1; x <= 1; x++) {
-            for (int z = -1; z <= 1; z++) {
-                for (int y = 0; y < 3; y++) {
-                    BlockPos pos = trapPos.add(x, -y, z);
-                    world.setBlockState(pos, Blocks.AIR.getDefaultState());
-                }
-            }
-        }
+        session.fill(trapPos.add(-1, -2, -1), trapPos.add(1, 0, 1), Blocks.AIR.getDefaultState());
         
         // Fill bottom with lava
-        for (int x = -1; x <= 1; x++) {
-            for (int z = -1; z <= 1; z++) {
-                BlockPos pos = trapPos.add(x, -3, z);
-                world.setBlockState(pos, Blocks.LAVA.getDefaultState());
-            }
-        }
+        session.fill(trapPos.add(-1, -3, -1), trapPos.add(1, -3, 1), Blocks.LAVA.getDefaultState());
         
         // Cover with carpet (hidden trap)
         if (world.random.nextBoolean()) {
-            for (int x = -1; x <= 1; x++) {
-                for (int z = -1; z <= 1; z++) {
-                    BlockPos pos = trapPos.add(x, 0, z);
-                    world.setBlockState(pos, Blocks.RED_CARPET.getDefaultState());
-                }
-            }
+            session.fill(trapPos.add(-1, 0, -1), trapPos.add(1, 0, 1), Blocks.RED_CARPET.getDefaultState());
         }
     }
     
     /**
      * Spawn TNT trap
      */
-    private static void spawnTNTTrap(ServerWorld world, ServerPlayerEntity player) {
+    private static void spawnTNTTrap(ServerWorld world, BlockEditSession session, ServerPlayerEntity player) {
         BlockPos trapPos = findTrapLocation(world, player, 10, 25);
         
         if (trapPos == null) return;
         
         // Place TNT underground
-        world.setBlockState(trapPos.down(), Blocks.TNT.getDefaultState());
+        session.set(trapPos.down(), Blocks.TNT.getDefaultState());
         
         // Place pressure plate on top
-        world.setBlockState(trapPos, Blocks.STONE_PRESSURE_PLATE.getDefaultState());
+        session.set(trapPos, Blocks.STONE_PRESSURE_PLATE.getDefaultState());
     }
     
     /**
      * Spawn obvious pressure plate trap (player knows but might forget)
      */
-    private static void spawnPressurePlateTrap(ServerWorld world, ServerPlayerEntity player) {
+    private static void spawnPressurePlateTrap(ServerWorld world, BlockEditSession session, ServerPlayerEntity player) {
         BlockPos trapPos = findTrapLocation(world, player, 8, 20);
         
         if (trapPos == null) return;
         
         // Place dispenser with arrow
-        world.setBlockState(trapPos, Blocks.DISPENSER.getDefaultState());
+        session.set(trapPos, Blocks.DISPENSER.getDefaultState());
         
         // Place pressure plate in front
         BlockPos platePos = trapPos.offset(world.random.nextHorizontal());
-        world.setBlockState(platePos, Blocks.STONE_PRESSURE_PLATE.getDefaultState());
+        session.set(platePos, Blocks.STONE_PRESSURE_PLATE.getDefaultState());
         
         // Add sign warning (making it "obvious")
         BlockPos signPos = platePos.up();
-        world.setBlockState(signPos, Blocks.OAK_SIGN.getDefaultState());
+        session.set(signPos, Blocks.OAK_SIGN.getDefaultState());
     }
     
     /**
@@ -128,11 +125,12 @@ public class BurningMomentsEvent {
             int x = playerPos.getX() + (int)(Math.cos(angle) * distance);
             int z = playerPos.getZ() + (int)(Math.sin(angle) * distance);
             
-            BlockPos testPos = new BlockPos(x, playerPos.getY(), z);
-            testPos = world.getTopPosition(net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, testPos);
+            BlockPos testPos = LoadedTerrain.getTopPosition(world, net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+                new BlockPos(x, playerPos.getY(), z));
             
-            // Check if suitable
-            if (world.getBlockState(testPos).isAir() &&
+            // Check if suitable (unloaded columns are skipped)
+            if (testPos != null &&
+                world.getBlockState(testPos).isAir() &&
                 world.getBlockState(testPos.down()).isSolidBlock(world, testPos.down())) {
                 return testPos;
             }
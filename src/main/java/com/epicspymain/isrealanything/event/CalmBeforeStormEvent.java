@@ -1,5 +1,7 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.world.BlockEditSession;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.SignBlockEntity;
 import net.minecraft.block.entity.SignText;
@@ -14,6 +16,7 @@ import net.minecraft.util.math.BlockPos;
  * Teleports player to 10x10 dirt platform high in sky
  * Sign reads: "Just. Look. At. Me."
  * Creates sense of isolation and vulnerability
+ * PREPARED loads the platform chunk before the teleport
  */
 public class CalmBeforeStormEvent {
     
@@ -25,13 +28,50 @@ public class CalmBeforeStormEvent {
      */
     public static void trigger(ServerWorld world, ServerPlayerEntity player) {
         // Find safe coordinates far from player
-        BlockPos playerPos = player.getBlockPos();
-        BlockPos skyPos = new BlockPos(
+        BlockPos skyPos = pickSkyPos(player.getBlockPos());
+        
+        strand(world, player, skyPos);
+    }
+    
+    /**
+     * Two-phase trigger - the platform site 1000 blocks out is loaded by a
+     * ticket first, so building and teleporting don't load it synchronously
+     */
+    public static final PreparedEvent PREPARED = player ->
+        new SkyPreparation((ServerWorld) player.getWorld(), pickSkyPos(player.getBlockPos()));
+    
+    private static class SkyPreparation extends EventPreparation {
+        private final BlockPos skyPos;
+        
+        SkyPreparation(ServerWorld world, BlockPos skyPos) {
+            super(world);
+            this.skyPos = skyPos;
+            holdChunk(skyPos);
+            holdChunk(skyPos.add(PLATFORM_SIZE - 1, 0, PLATFORM_SIZE - 1));
+        }
+        
+        @Override
+        public void commit(ServerPlayerEntity player) {
+            // Changed dimension in the meantime - the platform would be in the wrong world
+            if (player.getWorld() != world) {
+                return;
+            }
+            strand(world, player, skyPos);
+        }
+    }
+    
+    private static BlockPos pickSkyPos(BlockPos playerPos) {
+        return new BlockPos(
             playerPos.getX() + 1000,
             SKY_HEIGHT,
             playerPos.getZ() + 1000
         );
-        
+    }
+    
+    /**
+     * Build the platform and send the player there
+     */
+    private static void strand(ServerWorld world, ServerPlayerEntity player, BlockPos skyPos) {
         // Build platform
         buildSkyPlatform(world, skyPos);
         
@@ -50,13 +90,7 @@ public class CalmBeforeStormEvent {
         );
         
         // Wait then send follow-up
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 40, () -> {
             player.sendMessage(
                 Text.literal("There's nothing here but... a sign?")
                     .formatted(Formatting.DARK_GRAY),
@@ -69,13 +103,14 @@ public class CalmBeforeStormEvent {
      * Build the skyblock platform with sign
      */
     private static void buildSkyPlatform(ServerWorld world, BlockPos center) {
-        // Build 10x10 dirt platform
-        for (int x = 0; x < PLATFORM_SIZE; x++) {
-            for (int z = 0; z < PLATFORM_SIZE; z++) {
-                BlockPos pos = center.add(x, 0, z);
-                world.setBlockState(pos, Blocks.DIRT.getDefaultState());
-            }
-        }
+        // Build 10x10 dirt platform, dead bushes in the corners
+        BlockEditSession session = new BlockEditSession(world);
+        session.fill(center, center.add(PLATFORM_SIZE - 1, 0, PLATFORM_SIZE - 1), Blocks.DIRT.getDefaultState());
+        session.set(center.add(0, 1, 0), Blocks.DEAD_BUSH.getDefaultState());
+        session.set(center.add(PLATFORM_SIZE - 1, 1, 0), Blocks.DEAD_BUSH.getDefaultState());
+        session.set(center.add(0, 1, PLATFORM_SIZE - 1), Blocks.DEAD_BUSH.getDefaultState());
+        session.set(center.add(PLATFORM_SIZE - 1, 1, PLATFORM_SIZE - 1), Blocks.DEAD_BUSH.getDefaultState());
+        session.commit();
         
         // Place sign in center
         BlockPos signPos = center.add(PLATFORM_SIZE / 2, 1, PLATFORM_SIZE / 2);
@@ -92,11 +127,5 @@ public class CalmBeforeStormEvent {
             sign.setText(signText, true);
             sign.markDirty();
         }
-        
-        // Add a few decorative blocks
-        world.setBlockState(center.add(0, 1, 0), Blocks.DEAD_BUSH.getDefaultState());
-        world.setBlockState(center.add(PLATFORM_SIZE - 1, 1, 0), Blocks.DEAD_BUSH.getDefaultState());
-        world.setBlockState(center.add(0, 1, PLATFORM_SIZE - 1), Blocks.DEAD_BUSH.getDefaultState());
-        world.setBlockState(center.add(PLATFORM_SIZE - 1, 1, PLATFORM_SIZE - 1), Blocks.DEAD_BUSH.getDefaultState());
     }
 }
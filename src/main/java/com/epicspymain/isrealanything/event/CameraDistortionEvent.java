@@ -1,7 +1,9 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 
@@ -28,6 +30,13 @@ public class CameraDistortionEvent {
     // Track active distortions
     private static final Map<UUID, DistortionData> activeDistortions = new HashMap<>();
     
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+        CameraDistortionEvent::trigger,
+        CameraDistortionEvent::tick,
+        CameraDistortionEvent::isActive,
+        CameraDistortionEvent::cleanup
+    );
+    
     /**
      * Trigger camera distortion event
      */
@@ -51,17 +60,19 @@ public class CameraDistortionEvent {
             false,
             false
         ));
+        
+        HorrorEventRegistry.activate(LIFECYCLE);
     }
     
     /**
-     * Tick camera distortions (call from server tick)
+     * Tick camera distortions (driven by HorrorEventRegistry)
      */
-    public static void tick(ServerWorld world) {
+    public static void tick(MinecraftServer server) {
         activeDistortions.entrySet().removeIf(entry -> {
             UUID playerUuid = entry.getKey();
             DistortionData data = entry.getValue();
             
-            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(playerUuid);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerUuid);
             
             if (player == null) {
                 return true; // Remove if player gone
@@ -71,7 +82,7 @@ public class CameraDistortionEvent {
             
             // Check for camera snap timing
             if (data.ticksRemaining == (DISTORTION_DURATION - SNAP_TIMING) && !data.snapped) {
-                performCameraSnap(world, player);
+                performCameraSnap(player);
                 data.snapped = true;
             }
             
@@ -80,10 +91,24 @@ public class CameraDistortionEvent {
         });
     }
     
+    /**
+     * Whether any player is mid-distortion
+     */
+    public static boolean isActive() {
+        return !activeDistortions.isEmpty();
+    }
+    
+    /**
+     * Drop all distortions (nausea wears off on its own)
+     */
+    public static void cleanup() {
+        activeDistortions.clear();
+    }
+    
     /**
      * Perform 180° camera snap
      */
-    private static void performCameraSnap(ServerWorld world, ServerPlayerEntity player) {
+    private static void performCameraSnap(ServerPlayerEntity player) {
         // Store original rotation
         float originalYaw = player.getYaw();
         float originalPitch = player.getPitch();
@@ -102,13 +127,7 @@ public class CameraDistortionEvent {
         ));
         
         // Return to normal after snap duration
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(SNAP_DURATION * 50L); // Convert ticks to ms
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, SNAP_DURATION, () -> {
             if (player.isAlive()) {
                 player.setYaw(originalYaw);
                 player.setPitch(originalPitch);
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -59,15 +60,8 @@ public class CmdFakeTypingEvent {
         // Type each line with delay
         for (int i = 0; i < CMD_GIBBERISH.length; i++) {
             final String line = CMD_GIBBERISH[i];
-            final int index = i;
             
-            player.getServer().execute(() -> {
-                try {
-                    Thread.sleep(600L * index); // 600ms between lines
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 12 * i, () -> { // 12 ticks (600ms) between lines
                 // Determine color based on content
                 Formatting color = Formatting.GRAY;
                 if (line.contains("ERROR") || line.contains("WARNING")) {
@@ -86,13 +80,7 @@ public class CmdFakeTypingEvent {
         }
         
         // Close CMD after all lines
-        player.getServer().execute(() -> {
-            try {
-                Thread.sleep(600L * CMD_GIBBERISH.length + 1000); // Wait for all lines + 1 sec
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 12 * CMD_GIBBERISH.length + 20, () -> { // Wait for all lines + 1 sec
             player.sendMessage(
                 Text.literal("════════════════════════════════════════")
                     .formatted(Formatting.BLACK, Formatting.BOLD),
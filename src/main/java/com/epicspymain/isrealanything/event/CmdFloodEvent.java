@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -58,15 +59,8 @@ public class CmdFloodEvent {
         // Flood errors
         for (int i = 0; i < ERROR_MESSAGES.length; i++) {
             final String error = ERROR_MESSAGES[i];
-            final int index = i;
             
-            player.getServer().execute(() -> {
-                try {
-                    Thread.sleep(200L * index); // 200ms between errors
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 4 * i, () -> { // 4 ticks (200ms) between errors
                 // Color based on severity
                 Formatting color = error.contains("CRITICAL") ? Formatting.DARK_RED :
                                  error.contains("ERROR") ? Formatting.RED :
@@ -83,13 +77,7 @@ public class CmdFloodEvent {
         }
         
         // Final message
-        player.getServer().execute(() -> {
-            try {
-                Thread.sleep(200L * ERROR_MESSAGES.length + 1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 4 * ERROR_MESSAGES.length + 20, () -> {
             player.sendMessage(
                 Text.literal("════════════════════════════════════════")
                     .formatted(Formatting.BLACK, Formatting.BOLD),
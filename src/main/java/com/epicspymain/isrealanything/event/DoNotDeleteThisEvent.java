@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.world.LoadedTerrain;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.ChestBlockEntity;
@@ -116,8 +117,11 @@ public class DoNotDeleteThisEvent {
                 int z = playerPos.getZ() + (int)(Math.sin(angle) * radius);
                 
                 // Find ground level
-                BlockPos testPos = new BlockPos(x, playerPos.getY(), z);
-                testPos = world.getTopPosition(net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, testPos);
+                BlockPos testPos = LoadedTerrain.getTopPosition(world, net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+                    new BlockPos(x, playerPos.getY(), z));
+                if (testPos == null) {
+                    continue; // Chunk not loaded
+                }
                 
                 // Check if location is safe (air above, solid below)
                 BlockPos above = testPos.up();
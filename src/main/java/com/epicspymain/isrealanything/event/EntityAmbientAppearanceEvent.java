@@ -1,7 +1,11 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.ai.GazeTracker;
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
+import com.epicspymain.isrealanything.world.SpawnCandidates;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
@@ -32,6 +36,13 @@ public class EntityAmbientAppearanceEvent {
     // Track active ambient entities
     private static final Map<UUID, AmbientEntityData> activeEntities = new HashMap<>();
     
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+        EntityAmbientAppearanceEvent::trigger,
+        EntityAmbientAppearanceEvent::tick,
+        EntityAmbientAppearanceEvent::isActive,
+        EntityAmbientAppearanceEvent::cleanup
+    );
+    
     /**
      * Trigger ambient entity appearance
      */
@@ -68,16 +79,20 @@ public class EntityAmbientAppearanceEvent {
         // Track this ambient entity
         int duration = MIN_DURATION + world.random.nextInt(MAX_DURATION - MIN_DURATION);
         activeEntities.put(entity.getUuid(), new AmbientEntityData(
+            world,
             player.getUuid(),
             duration,
             0
         ));
+        GazeTracker.track(player, entity);
+        
+        HorrorEventRegistry.activate(LIFECYCLE);
     }
     
     /**
-     * Tick all ambient entities (call from server tick)
+     * Tick all ambient entities (driven by HorrorEventRegistry)
      */
-    public static void tick(ServerWorld world) {
+    public static void tick(MinecraftServer server) {
         Iterator<Map.Entry<UUID, AmbientEntityData>> iterator = activeEntities.entrySet().iterator();
         
         while (iterator.hasNext()) {
@@ -85,10 +100,13 @@ public class EntityAmbientAppearanceEvent {
             UUID entityUuid = entry.getKey();
             AmbientEntityData data = entry.getValue();
             
-            TheMEEntity entity = (TheMEEntity) world.getEntity(entityUuid);
-            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(data.targetPlayerUuid);
+            TheMEEntity entity = (TheMEEntity) data.world.getEntity(entityUuid);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(data.targetPlayerUuid);
             
             if (entity == null || player == null || !entity.isAlive()) {
+                if (entity != null) {
+                    entity.discard(); // Target left - nobody to watch
+                }
                 iterator.remove();
                 continue;
             }
@@ -128,57 +146,51 @@ public class EntityAmbientAppearanceEvent {
         }
     }
     
+    /**
+     * Whether any ambient entity is still standing
+     */
+    public static boolean isActive() {
+        return !activeEntities.isEmpty();
+    }
+    
+    /**
+     * Vanish every ambient entity
+     */
+    public static void cleanup() {
+        for (Map.Entry<UUID, AmbientEntityData> entry : activeEntities.entrySet()) {
+            if (entry.getValue().world.getEntity(entry.getKey()) instanceof TheMEEntity entity) {
+                entity.discard();
+            }
+        }
+        activeEntities.clear();
+    }
+    
     /**
      * Check if player is looking at entity
      */
     private static boolean isPlayerLookingAtEntity(ServerPlayerEntity player, TheMEEntity entity) {
-        Vec3d playerLook = player.getRotationVec(1.0f);
-        Vec3d toEntity = entity.getPos().subtract(player.getPos()).normalize();
-        
-        double dotProduct = playerLook.dotProduct(toEntity);
-        
-        // If dot product > 0.95, player is looking fairly directly at entity
-        return dotProduct > 0.95;
+        // Looking fairly directly at it (dot > 0.95) - and nothing in between
+        return GazeTracker.isLookingAt(player, entity, 0.95);
     }
     
     /**
      * Find suitable location for ambient entity spawn
      */
     private static BlockPos findAmbientSpawnLocation(ServerWorld world, ServerPlayerEntity player) {
-        BlockPos playerPos = player.getBlockPos();
-        
-        for (int attempt = 0; attempt < 30; attempt++) {
-            // Random angle and distance
-            double angle = world.random.nextDouble() * Math.PI * 2;
-            int distance = MIN_DISTANCE + world.random.nextInt(MAX_DISTANCE - MIN_DISTANCE);
-            
-            int x = playerPos.getX() + (int)(Math.cos(angle) * distance);
-            int z = playerPos.getZ() + (int)(Math.sin(angle) * distance);
-            
-            // Find ground level
-            BlockPos testPos = new BlockPos(x, playerPos.getY(), z);
-            testPos = world.getTopPosition(net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, testPos);
-            
-            // Check if location is suitable (solid ground, not too exposed)
-            if (isSuitableAmbientLocation(world, testPos, playerPos)) {
-                return testPos;
-            }
-        }
-        
-        return null;
+        // Solid ground, air to stand in, not too exposed
+        return SpawnCandidates.query(player)
+            .distance(MIN_DISTANCE, MAX_DISTANCE)
+            .solidGround()
+            .clear()
+            .where(pos -> hasSomeCover(world, pos))
+            .pick();
     }
     
     /**
-     * Check if location is suitable for ambient spawning
+     * Check if location has some cover for ambient spawning
      */
-    private static boolean isSuitableAmbientLocation(ServerWorld world, BlockPos pos, BlockPos playerPos) {
-        // Must have solid ground
-        if (!world.getBlockState(pos.down()).isSolidBlock(world, pos.down())) {
-            return false;
-        }
-        
-        // Must have air to stand in
-        if (!world.getBlockState(pos).isAir() || !world.getBlockState(pos.up()).isAir()) {
+    private static boolean hasSomeCover(ServerWorld world, BlockPos pos) {
+        if (!LoadedTerrain.isLoaded(world, pos, 2)) {
             return false;
         }
         
@@ -201,11 +213,13 @@ public class EntityAmbientAppearanceEvent {
      * Data class for ambient entity tracking
      */
     private static class AmbientEntityData {
+        final ServerWorld world;
         final UUID targetPlayerUuid;
         int ticksRemaining;
         int lookingTicks;
         
-        AmbientEntityData(UUID targetPlayerUuid, int ticksRemaining, int lookingTicks) {
+        AmbientEntityData(ServerWorld world, UUID targetPlayerUuid, int ticksRemaining, int lookingTicks) {
+            this.world = world;
             this.targetPlayerUuid = targetPlayerUuid;
             this.ticksRemaining = ticksRemaining;
             this.lookingTicks = lookingTicks;
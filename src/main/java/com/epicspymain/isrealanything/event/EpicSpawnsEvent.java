@@ -2,8 +2,13 @@ package com.epicspymain.isrealanything.event;
 
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheOtherMEEntity;
+import com.epicspymain.isrealanything.world.BlockSearch;
+import com.epicspymain.isrealanything.world.SpawnCandidates;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 
@@ -25,6 +30,13 @@ public class EpicSpawnsEvent {
     // Track active spy entities
     private static final Map<UUID, SpyEntityData> spyEntities = new HashMap<>();
     
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+        EpicSpawnsEvent::trigger,
+        EpicSpawnsEvent::tick,
+        EpicSpawnsEvent::isActive,
+        EpicSpawnsEvent::cleanup
+    );
+    
     /**
      * Trigger spy entity spawn
      */
@@ -73,16 +85,19 @@ public class EpicSpawnsEvent {
         
         // Track spy entity
         spyEntities.put(entity.getUuid(), new SpyEntityData(
+            world,
             player.getUuid(),
             SPY_DURATION,
             shouldFloat
         ));
+        
+        HorrorEventRegistry.activate(LIFECYCLE);
     }
     
     /**
-     * Tick all spy entities
+     * Tick all spy entities (driven by HorrorEventRegistry)
      */
-    public static void tick(ServerWorld world) {
+    public static void tick(MinecraftServer server) {
         Iterator<Map.Entry<UUID, SpyEntityData>> iterator = spyEntities.entrySet().iterator();
         
         while (iterator.hasNext()) {
@@ -90,10 +105,13 @@ public class EpicSpawnsEvent {
             UUID entityUuid = entry.getKey();
             SpyEntityData data = entry.getValue();
             
-            TheOtherMEEntity entity = (TheOtherMEEntity) world.getEntity(entityUuid);
-            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(data.targetPlayerUuid);
+            TheOtherMEEntity entity = (TheOtherMEEntity) data.world.getEntity(entityUuid);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(data.targetPlayerUuid);
             
             if (entity == null || player == null || !entity.isAlive()) {
+                if (entity != null) {
+                    entity.discard(); // Target left - don't leave a frozen spy behind
+                }
                 iterator.remove();
                 continue;
             }
@@ -116,30 +134,33 @@ public class EpicSpawnsEvent {
     }
     
     /**
-     * Find suitable spy location (behind objects)
+     * Whether any spy is still watching
      */
-    private static BlockPos findSpyLocation(ServerWorld world, ServerPlayerEntity player) {
-        BlockPos playerPos = player.getBlockPos();
-        
-        for (int attempt = 0; attempt < 40; attempt++) {
-            // Random angle and distance
-            double angle = world.random.nextDouble() * Math.PI * 2;
-            int distance = SPAWN_DISTANCE_MIN + world.random.nextInt(SPAWN_DISTANCE_MAX - SPAWN_DISTANCE_MIN);
-            
-            int x = playerPos.getX() + (int)(Math.cos(angle) * distance);
-            int z = playerPos.getZ() + (int)(Math.sin(angle) * distance);
-            
-            // Find ground level
-            BlockPos testPos = new BlockPos(x, playerPos.getY(), z);
-            testPos = world.getTopPosition(net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, testPos);
-            
-            // Check if location has cover nearby
-            if (hasNearbyObstacles(world, testPos)) {
-                return testPos;
+    public static boolean isActive() {
+        return !spyEntities.isEmpty();
+    }
+    
+    /**
+     * Remove every spy entity
+     */
+    public static void cleanup() {
+        for (Map.Entry<UUID, SpyEntityData> entry : spyEntities.entrySet()) {
+            if (entry.getValue().world.getEntity(entry.getKey()) instanceof TheOtherMEEntity entity) {
+                entity.discard();
             }
         }
-        
-        return null;
+        spyEntities.clear();
+    }
+    
+    /**
+     * Find suitable spy location (behind objects)
+     */
+    private static BlockPos findSpyLocation(ServerWorld world, ServerPlayerEntity player) {
+        // Ground level, with cover nearby
+        return SpawnCandidates.query(player)
+            .distance(SPAWN_DISTANCE_MIN, SPAWN_DISTANCE_MAX)
+            .where(pos -> hasNearbyObstacles(world, pos))
+            .pick();
     }
     
     /**
@@ -147,38 +168,35 @@ public class EpicSpawnsEvent {
      */
     private static boolean hasNearbyObstacles(ServerWorld world, BlockPos pos) {
         // Check for blocks/trees nearby that entity can hide behind
-        int obstacleCount = 0;
-        
-        for (int x = -3; x <= 3; x++) {
-            for (int z = -3; z <= 3; z++) {
-                if (x == 0 && z == 0) continue; // Skip center
-                
-                BlockPos checkPos = pos.add(x, 0, z);
-                if (!world.getBlockState(checkPos).isAir()) {
-                    obstacleCount++;
-                }
-                
-                // Check for trees (logs above)
-                BlockPos abovePos = checkPos.up();
-                if (world.getBlockState(abovePos).getBlock().toString().contains("log")) {
-                    obstacleCount += 2; // Trees are good cover
-                }
-            }
-        }
+        int[] obstacleCount = {0};
+        
+        BlockSearch.scan(world, new BlockBox(pos.getX() - 3, pos.getY(), pos.getZ() - 3, pos.getX() + 3, pos.getY() + 1, pos.getZ() + 3),
+                state -> !state.isAir(), (x, y, z, state) -> {
+                    if (x == pos.getX() && z == pos.getZ()) return true; // Skip center
+                    
+                    if (y == pos.getY()) {
+                        obstacleCount[0]++;
+                    } else if (state.isIn(BlockTags.LOGS)) {
+                        obstacleCount[0] += 2; // Trees are good cover (logs above)
+                    }
+                    return obstacleCount[0] < 30;
+                });
         
         // Should have some obstacles but not be completely blocked
-        return obstacleCount > 5 && obstacleCount < 30;
+        return obstacleCount[0] > 5 && obstacleCount[0] < 30;
     }
     
     /**
      * Data class for spy entity tracking
      */
     private static class SpyEntityData {
+        final ServerWorld world;
         final UUID targetPlayerUuid;
         int ticksRemaining;
         final boolean isFloating;
         
-        SpyEntityData(UUID targetPlayerUuid, int ticksRemaining, boolean isFloating) {
+        SpyEntityData(ServerWorld world, UUID targetPlayerUuid, int ticksRemaining, boolean isFloating) {
+            this.world = world;
             this.targetPlayerUuid = targetPlayerUuid;
             this.ticksRemaining = ticksRemaining;
             this.isFloating = isFloating;
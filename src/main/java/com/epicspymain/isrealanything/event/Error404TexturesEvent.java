@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -45,13 +46,7 @@ public class Error404TexturesEvent {
         );
         
         // Auto-remove after duration
-        player.getServer().execute(() -> {
-            try {
-                Thread.sleep(DURATION * 50L);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, DURATION, () -> {
             affectedPlayers.remove(player.getUuid());
             
             player.sendMessage(
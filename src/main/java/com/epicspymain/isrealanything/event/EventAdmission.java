@@ -0,0 +1,135 @@
+package com.epicspymain.isrealanything.event;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.scheduler.TickBudget;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import net.minecraft.server.MinecraftServer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * EventAdmission - Global gate for heavy events
+ *
+ * Light events run as soon as they are submitted. Heavy events (see EventCost)
+ * take a slot while they run and for their declared duration plus a spacing
+ * gap, so two heavy events never land within a few seconds of each other.
+ * While every slot is taken, the rest wait in priority order:
+ * - one-time events before repeatable ones
+ * - cheaper events before expensive ones
+ * - otherwise first come first served
+ * Admitted work still goes through TickBudget, which holds it while MSPT is high.
+ */
+public class EventAdmission {
+
+    private static final Comparator<Pending> PRIORITY = Comparator
+            .comparing((Pending pending) -> pending.event().repeatable)
+            .thenComparingInt(pending -> pending.event().cost.weight())
+            .thenComparingLong(Pending::sequence);
+
+    // Tuning (overridable from server_tuning.json)
+    private static int maxConcurrentHeavy = 1;
+    private static int heavySpacingTicks = 100; // 5 seconds
+
+    private static final List<Slot> running = new ArrayList<>();
+    private static final PriorityQueue<Pending> pending = new PriorityQueue<>(PRIORITY);
+    private static long sequence = 0;
+
+    private record Pending(EventManager.Events event, int leadTicks, Runnable work, long sequence) {
+    }
+
+    /**
+     * A taken slot - released once the event has run and its duration and spacing have passed
+     */
+    private static class Slot {
+        final EventManager.Events event;
+        long releaseTick = Long.MAX_VALUE; // Set when the work actually runs
+
+        Slot(EventManager.Events event) {
+            this.event = event;
+        }
+    }
+
+    /**
+     * Override the defaults
+     */
+    public static void configure(int maxConcurrentHeavy, int heavySpacingTicks) {
+        EventAdmission.maxConcurrentHeavy = Math.max(1, maxConcurrentHeavy);
+        EventAdmission.heavySpacingTicks = Math.max(0, heavySpacingTicks);
+    }
+
+    /**
+     * Run an event now if it is light, otherwise queue it for a heavy slot
+     */
+    public static void submit(EventManager.Events event, Runnable work) {
+        submit(event, 0, work);
+    }
+
+    /**
+     * Same, for work that lands leadTicks after it runs (PreparedEvents) - the slot is held that much longer
+     */
+    public static void submit(EventManager.Events event, int leadTicks, Runnable work) {
+        if (!event.cost.heavy()) {
+            work.run();
+            return;
+        }
+
+        pending.add(new Pending(event, leadTicks, work, sequence++));
+        admit();
+    }
+
+    /**
+     * Release finished slots and admit queued events - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (running.isEmpty()) {
+            return;
+        }
+
+        long now = TickScheduler.getCurrentTick();
+        for (int i = running.size() - 1; i >= 0; i--) {
+            if (running.get(i).releaseTick <= now) {
+                running.remove(i);
+            }
+        }
+
+        admit();
+    }
+
+    private static void admit() {
+        while (!pending.isEmpty() && running.size() < maxConcurrentHeavy) {
+            Pending next = pending.poll();
+            Slot slot = new Slot(next.event());
+            running.add(slot);
+
+            if (!pending.isEmpty()) {
+                IsRealAnything.LOGGER.debug("Admitted {}, {} heavy events still queued", next.event().name(), pending.size());
+            }
+
+            TickBudget.submit(next.event().name(), () -> {
+                slot.releaseTick = TickScheduler.getCurrentTick() + next.leadTicks()
+                        + next.event().cost.durationTicks() + heavySpacingTicks;
+                next.work().run();
+            });
+        }
+    }
+
+    public static int getRunningCount() {
+        return running.size();
+    }
+
+    public static int getQueuedCount() {
+        return pending.size();
+    }
+
+    /**
+     * Drop queued events and free every slot (server stopping)
+     */
+    public static void clear() {
+        running.clear();
+        pending.clear();
+        sequence = 0;
+    }
+}
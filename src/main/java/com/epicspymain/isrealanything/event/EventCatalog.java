@@ -0,0 +1,288 @@
+package com.epicspymain.isrealanything.event;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.file.JsonReader;
+import com.epicspymain.isrealanything.world.DataTracker;
+import com.google.gson.JsonObject;
+import net.minecraft.server.MinecraftServer;
+
+import java.util.Random;
+
+/**
+ * EventCatalog - Phase-indexed event table with weights and cooldowns
+ *
+ * Events are bits in a long (ordinal = bit). Each phase has a precomputed
+ * mask of the events it unlocks; a player's eligible set is that mask minus
+ * one-time events they've seen and events still cooling down.
+ *
+ * Weights and cooldowns are read from config/isrealanything/event_tuning.json
+ * (written with defaults on first run), last trigger times from DataTracker.
+ * Sampling uses a per-player alias table that is only rebuilt when the
+ * eligible mask changes - picking an event allocates nothing.
+ */
+public class EventCatalog {
+
+    private static final String CONFIG_NAME = "event_tuning";
+
+    private static final EventManager.Events[] EVENTS = EventManager.Events.values();
+    private static final int EVENT_COUNT = EVENTS.length;
+    private static final int MAX_PHASE = 5;
+
+    // Phase -> events unlocked by that phase (IJOIN excluded, it is scheduled separately)
+    private static final long[] PHASE_MASKS = new long[MAX_PHASE + 1];
+    private static final long ONE_TIME_MASK;
+
+    // Tuning (by ordinal)
+    private static final double[] weights = new double[EVENT_COUNT];
+    private static final int[] cooldownTicks = new int[EVENT_COUNT];
+    private static long enabledMask = 0;
+    private static long cooldownEventsMask = 0;
+    private static double triggerChance = 0.15;
+    private static int tuningVersion = 0; // Bumped on load so alias tables rebuild with new weights
+
+    // Last trigger time by ordinal (mirrors DataTracker event history)
+    private static final long[] lastTrigger = new long[EVENT_COUNT];
+
+    // Alias table build scratch, shared - server thread only
+    private static final int[] small = new int[EVENT_COUNT];
+    private static final int[] large = new int[EVENT_COUNT];
+    private static final double[] scaled = new double[EVENT_COUNT];
+
+    static {
+        if (EVENT_COUNT > Long.SIZE) {
+            throw new IllegalStateException("EventCatalog masks hold at most 64 events");
+        }
+
+        long oneTime = 0;
+        for (EventManager.Events event : EVENTS) {
+            if (!event.repeatable) {
+                oneTime |= bit(event);
+            }
+            if (event == EventManager.Events.IJOIN) {
+                continue;
+            }
+            for (int phase = Math.max(1, event.minPhase); phase <= MAX_PHASE; phase++) {
+                PHASE_MASKS[phase] |= bit(event);
+            }
+        }
+        ONE_TIME_MASK = oneTime;
+
+        applyDefaults();
+    }
+
+    public static long bit(EventManager.Events event) {
+        return 1L << event.ordinal();
+    }
+
+    // ========================================
+    // LOADING
+    // ========================================
+
+    /**
+     * Load tuning from config and last trigger times from DataTracker (server start)
+     */
+    public static void load(MinecraftServer server) {
+        applyDefaults();
+
+        // Re-read from disk every server start so edits apply without code changes
+        JsonObject config = JsonReader.reloadConfig(CONFIG_NAME);
+        JsonObject events = config == null ? null : JsonReader.getObject(config, "events");
+
+        if (events == null) {
+            JsonReader.saveModConfig(CONFIG_NAME, createDefaultConfig());
+        } else {
+            triggerChance = JsonReader.getDouble(config, "triggerChance", triggerChance);
+            for (EventManager.Events event : EVENTS) {
+                JsonObject tuning = JsonReader.getObject(events, event.name());
+                if (tuning == null) {
+                    continue;
+                }
+                int i = event.ordinal();
+                weights[i] = Math.max(0.0, JsonReader.getDouble(tuning, "weight", weights[i]));
+                cooldownTicks[i] = Math.max(0, JsonReader.getInt(tuning, "cooldownTicks", cooldownTicks[i]));
+            }
+        }
+
+        rebuildMasks();
+        tuningVersion++;
+
+        DataTracker data = DataTracker.getServerState(server);
+        for (EventManager.Events event : EVENTS) {
+            lastTrigger[event.ordinal()] = data.getEventLastTrigger(event.name());
+        }
+
+        IsRealAnything.LOGGER.info("Event catalog loaded: {} enabled events, trigger chance {}",
+                Long.bitCount(enabledMask), triggerChance);
+    }
+
+    private static void applyDefaults() {
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            weights[i] = 1.0;
+            cooldownTicks[i] = 0;
+            lastTrigger[i] = 0;
+        }
+        triggerChance = 0.15;
+        rebuildMasks();
+    }
+
+    private static void rebuildMasks() {
+        enabledMask = 0;
+        cooldownEventsMask = 0;
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            if (weights[i] > 0.0) {
+                enabledMask |= 1L << i;
+            }
+            if (cooldownTicks[i] > 0) {
+                cooldownEventsMask |= 1L << i;
+            }
+        }
+    }
+
+    private static JsonObject createDefaultConfig() {
+        JsonObject config = new JsonObject();
+        config.addProperty("triggerChance", triggerChance);
+        JsonObject events = new JsonObject();
+        for (EventManager.Events event : EVENTS) {
+            if (event == EventManager.Events.IJOIN) {
+                continue;
+            }
+            JsonObject tuning = new JsonObject();
+            tuning.addProperty("weight", weights[event.ordinal()]);
+            tuning.addProperty("cooldownTicks", cooldownTicks[event.ordinal()]);
+            events.add(event.name(), tuning);
+        }
+        config.add("events", events);
+        return config;
+    }
+
+    // ========================================
+    // ELIGIBILITY
+    // ========================================
+
+    /**
+     * Events a player may roll right now
+     *
+     * @param phase player's phase (1-5)
+     * @param seenMask events the player has already triggered
+     * @param now current server time (overworld game time)
+     */
+    public static long eligibleMask(int phase, long seenMask, long now) {
+        long mask = PHASE_MASKS[Math.min(Math.max(phase, 1), MAX_PHASE)] & enabledMask & ~(seenMask & ONE_TIME_MASK);
+
+        // Drop events still cooling down
+        long cooling = mask & cooldownEventsMask;
+        while (cooling != 0) {
+            int i = Long.numberOfTrailingZeros(cooling);
+            cooling &= cooling - 1;
+
+            if (lastTrigger[i] != 0 && now - lastTrigger[i] < cooldownTicks[i]) {
+                mask &= ~(1L << i);
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Record a trigger for cooldowns (persisted through DataTracker)
+     */
+    public static void recordTrigger(MinecraftServer server, EventManager.Events event, long now) {
+        lastTrigger[event.ordinal()] = now;
+        DataTracker.getServerState(server).setEventLastTrigger(event.name(), now);
+    }
+
+    public static double getTriggerChance() {
+        return triggerChance;
+    }
+
+    // ========================================
+    // ALIAS SAMPLING
+    // ========================================
+
+    /**
+     * Walker/Vose alias table over an eligible mask
+     * Arrays are sized once, rebuilds reuse them
+     */
+    public static class AliasTable {
+        private final int[] members = new int[EVENT_COUNT];
+        private final int[] alias = new int[EVENT_COUNT];
+        private final double[] prob = new double[EVENT_COUNT];
+        private int size = 0;
+        private long builtMask = 0;
+        private int builtVersion = -1;
+
+        /**
+         * Pick an event from mask, rebuilding first if the mask or tuning changed
+         * Returns null if nothing is eligible
+         */
+        public EventManager.Events sample(long mask, Random random) {
+            if (mask != builtMask || builtVersion != tuningVersion) {
+                build(mask);
+            }
+
+            if (size == 0) {
+                return null;
+            }
+
+            int column = random.nextInt(size);
+            int ordinal = random.nextDouble() < prob[column] ? members[column] : members[alias[column]];
+            return EVENTS[ordinal];
+        }
+
+        private void build(long mask) {
+            builtMask = mask;
+            builtVersion = tuningVersion;
+            size = 0;
+
+            double total = 0.0;
+            for (long m = mask; m != 0; m &= m - 1) {
+                int i = Long.numberOfTrailingZeros(m);
+                members[size++] = i;
+                total += weights[i];
+            }
+
+            if (size == 0 || total <= 0.0) {
+                size = 0;
+                return;
+            }
+
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int column = 0; column < size; column++) {
+                scaled[column] = weights[members[column]] * size / total;
+                if (scaled[column] < 1.0) {
+                    small[smallCount++] = column;
+                } else {
+                    large[largeCount++] = column;
+                }
+            }
+
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+
+                prob[less] = scaled[less];
+                alias[less] = more;
+
+                scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+                if (scaled[more] < 1.0) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+
+            // Leftovers are 1.0 up to rounding
+            while (largeCount > 0) {
+                int column = large[--largeCount];
+                prob[column] = 1.0;
+                alias[column] = column;
+            }
+            while (smallCount > 0) {
+                int column = small[--smallCount];
+                prob[column] = 1.0;
+                alias[column] = column;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.epicspymain.isrealanything.event;
+
+/**
+ * EventCost - Declared cost profile of an event
+ *
+ * Estimates are worst case for one trigger. Heavy events go through
+ * EventAdmission (one at a time, spaced apart) and TickBudget; light events
+ * run inline. Declarations are checked by EventCostProbe in dev environments.
+ *
+ * @param blockEdits blocks set (setBlockState calls that changed something)
+ * @param entitySpawns entities added to the world
+ * @param chunkLoads chunks loaded that weren't already
+ * @param durationTicks how long the event keeps working after it triggers
+ * @param heavy whether the event needs admission control
+ */
+public record EventCost(int blockEdits, int entitySpawns, int chunkLoads, int durationTicks, boolean heavy) {
+
+    public static final EventCost NONE = new EventCost(0, 0, 0, 0, false);
+
+    // Rough per-unit costs relative to one block edit, used to order the admission queue
+    private static final int SPAWN_WEIGHT = 20;
+    private static final int CHUNK_WEIGHT = 200;
+
+    public static EventCost light(int blockEdits, int entitySpawns, int chunkLoads, int durationTicks) {
+        return new EventCost(blockEdits, entitySpawns, chunkLoads, durationTicks, false);
+    }
+
+    public static EventCost heavy(int blockEdits, int entitySpawns, int chunkLoads, int durationTicks) {
+        return new EventCost(blockEdits, entitySpawns, chunkLoads, durationTicks, true);
+    }
+
+    /**
+     * Single number for comparing events - cheaper events are admitted first
+     */
+    public int weight() {
+        return blockEdits + entitySpawns * SPAWN_WEIGHT + chunkLoads * CHUNK_WEIGHT;
+    }
+}
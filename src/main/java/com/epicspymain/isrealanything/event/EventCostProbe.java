@@ -0,0 +1,118 @@
+package com.epicspymain.isrealanything.event;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.loader.api.FabricLoader;
+
+/**
+ * EventCostProbe - Checks declared EventCosts against what events actually do
+ *
+ * Dev environment only. Counts server block edits (WorldMixin, BlockEditSession), entity loads
+ * and chunk loads globally; each dispatched event snapshots the counters and
+ * compares the delta once its declared duration has passed. Overlapping events
+ * and players exploring inflate the numbers, so only clear overruns are reported.
+ */
+public class EventCostProbe {
+
+    public static final boolean ENABLED = FabricLoader.getInstance().isDevelopmentEnvironment();
+
+    // Measured may exceed declared by this factor plus slack before warning
+    private static final int OVERRUN_FACTOR = 2;
+    private static final int EDIT_SLACK = 64;
+    private static final int SPAWN_SLACK = 4;
+    private static final int CHUNK_SLACK = 16;
+    private static final long LIGHT_INLINE_NANOS = 5_000_000L; // Light events should finish inline in 5ms
+
+    private static long blockEdits = 0;
+    private static long entitySpawns = 0;
+    private static long chunkLoads = 0;
+    private static boolean registered = false;
+
+    /**
+     * Counter snapshot taken when an event is dispatched
+     */
+    public static class Window {
+        final EventManager.Events event;
+        final long startEdits;
+        final long startSpawns;
+        final long startChunks;
+        final long startNanos;
+
+        Window(EventManager.Events event) {
+            this.event = event;
+            this.startEdits = blockEdits;
+            this.startSpawns = entitySpawns;
+            this.startChunks = chunkLoads;
+            this.startNanos = System.nanoTime();
+        }
+    }
+
+    public static void register() {
+        if (!ENABLED || registered) return;
+
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> entitySpawns++);
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> chunkLoads++);
+        registered = true;
+    }
+
+    /**
+     * Count a server-side block change - called from WorldMixin
+     */
+    public static void onBlockEdit() {
+        blockEdits++;
+    }
+
+    /**
+     * Count a batch of block changes - called from BlockEditSession, which bypasses setBlockState
+     */
+    public static void onBlockEdits(int count) {
+        blockEdits += count;
+    }
+
+    /**
+     * Start measuring an event (null outside dev environments)
+     */
+    public static Window open(EventManager.Events event) {
+        return ENABLED ? new Window(event) : null;
+    }
+
+    /**
+     * Event finished its inline part - check timing now and counters after its duration
+     */
+    public static void close(Window window) {
+        if (window == null) {
+            return;
+        }
+
+        EventCost cost = window.event.cost;
+        long inlineNanos = System.nanoTime() - window.startNanos;
+        if (!cost.heavy() && inlineNanos > LIGHT_INLINE_NANOS) {
+            IsRealAnything.LOGGER.warn("[EventCost] {} is declared light but took {}ms inline",
+                    window.event.name(), String.format("%.1f", inlineNanos / 1_000_000.0));
+        }
+
+        TickScheduler.runAfter(Math.max(1, cost.durationTicks()), () -> check(window));
+    }
+
+    private static void check(Window window) {
+        EventCost cost = window.event.cost;
+        long edits = blockEdits - window.startEdits;
+        long spawns = entitySpawns - window.startSpawns;
+        long chunks = chunkLoads - window.startChunks;
+
+        boolean overrun = edits > (long) cost.blockEdits() * OVERRUN_FACTOR + EDIT_SLACK
+                || spawns > (long) cost.entitySpawns() * OVERRUN_FACTOR + SPAWN_SLACK
+                || chunks > (long) cost.chunkLoads() * OVERRUN_FACTOR + CHUNK_SLACK;
+
+        if (overrun) {
+            IsRealAnything.LOGGER.warn("[EventCost] {} measured {} edits / {} spawns / {} chunks, declared {} / {} / {}",
+                    window.event.name(), edits, spawns, chunks,
+                    cost.blockEdits(), cost.entitySpawns(), cost.chunkLoads());
+        } else {
+            IsRealAnything.LOGGER.debug("[EventCost] {} measured {} edits / {} spawns / {} chunks",
+                    window.event.name(), edits, spawns, chunks);
+        }
+    }
+}
@@ -1,67 +1,69 @@
 package com.epicspymain.isrealanything.event;
 
 import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.world.DataTracker;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.stat.Stats;
 
 import java.util.*;
 
 /**
  * EventManager - Complete event system with 47 events
- * Phase-based progression starting Day 2
+ * Phase-based progression starting Day 2, scheduled per player
  */
 public class EventManager {
 
     // Event enum with all 47 events
     public enum Events {
         // Phase 1: Day 2-4 (Subtle)
-        IJOIN(1, false), // Day 2 spawn - ONE TIME
+        IJOIN(1, false, EventCost.light(0, 1, 0, 0)), // Day 2 spawn - ONE TIME
         CHAT_ECHO(1, true),
         SOUND_CREEP(1, true),
-        OVERLAY_TEXT(1, true),
-        ENTITY_AMBIENT(1, true),
+        OVERLAY_TEXT(1, true, EventCost.light(0, 0, 0, 200)),
+        ENTITY_AMBIENT(1, true, EventCost.light(0, 1, 0, 200)),
         
         // Phase 2: Day 5-9 (Escalating)
-        EPIC_SPAWNS(2, true),
+        EPIC_SPAWNS(2, true, EventCost.light(0, 1, 1, 200)),
         GLITCH_CORRUPTION(2, true),
-        MY_MOB_PALS(2, true),
+        MY_MOB_PALS(2, true, EventCost.light(0, 0, 0, 100)),
         WHITE_SCREEN_JUMPSCARE(2, true),
-        CAMERA_DISTORTION(2, true),
-        MY_VOICE_SIGNS(2, true),
+        CAMERA_DISTORTION(2, true, EventCost.light(0, 0, 0, 200)),
+        MY_VOICE_SIGNS(2, true, EventCost.light(5, 0, 5, 0)),
         FILE_NAMES_IN_CHAT(2, true),
-        HOUSE(2, false), // Freedom Home structure - ONE TIME
-        IRONTRAP(2, false), // Iron trap structure - ONE TIME
+        HOUSE(2, false, EventCost.heavy(2000, 0, 4, 0)), // Freedom Home structure - ONE TIME
+        IRONTRAP(2, false, EventCost.heavy(1000, 0, 4, 0)), // Iron trap structure - ONE TIME
         SIXTYNINETH_MOOD(2, true),
         
         // Phase 3: Day 10-19 (Intense)
         FAKE_DISCONNECT_POPUP(3, true),
         PLAYER_CONTROL_INVERSION(3, true),
-        INVENTORY_SHUFFLE(3, true),
+        INVENTORY_SHUFFLE(3, true, EventCost.light(0, 0, 0, 200)),
         FAKE_BLUE_SCREEN(3, true),
-        RANDOM_TP(3, true),
+        RANDOM_TP(3, true, EventCost.light(0, 0, 25, 0)),
         WEATHER_IN_MY_GRASP(3, true),
-        BURNING_MOMENTS(3, true),
+        BURNING_MOMENTS(3, true, EventCost.light(250, 0, 1, 0)),
         FORCED_WAKEUP(3, true),
-        CALM_BEFORE_STORM(3, true),
-        BEDROCKPILLAR(3, false), // Bedrock pillar structure - ONE TIME
-        MINE(3, false), // Strip mine structure - ONE TIME
-        MEADOW(3, false), // Meadow structure - ONE TIME
-        LIMBO_EXILE(3, true), // NEW: Limbo dimension event
+        CALM_BEFORE_STORM(3, true, EventCost.light(150, 0, 1, 0)),
+        BEDROCKPILLAR(3, false, EventCost.heavy(2000, 0, 4, 0)), // Bedrock pillar structure - ONE TIME
+        MINE(3, false, EventCost.heavy(3000, 0, 4, 0)), // Strip mine structure - ONE TIME
+        MEADOW(3, false, EventCost.heavy(2000, 0, 4, 0)), // Meadow structure - ONE TIME
+        LIMBO_EXILE(3, true, EventCost.light(0, 0, 25, 4800)), // NEW: Limbo dimension event
         
         // Phase 4: Day 20+ (Psychological)
-        RANDOM_BLOCK_REPLACE(4, true),
-        UNDERGROUND_MINING(4, true),
+        RANDOM_BLOCK_REPLACE(4, true, EventCost.heavy(5, 0, 0, 0)), // Cheap edits, but scans ~70k blocks
+        UNDERGROUND_MINING(4, true, EventCost.light(0, 1, 1, 0)),
         ERROR_404_TEXTURES(4, true),
-        TIMEOUT_TEXTURE_GLITCH(4, true),
-        MIRROR_WORLD(4, true),
-        ME_AND_MY_SHADOW(4, true),
-        MEMORY(4, false), // Memory structure - ONE TIME
+        TIMEOUT_TEXTURE_GLITCH(4, true, EventCost.light(50, 0, 0, 0)),
+        MIRROR_WORLD(4, true, EventCost.heavy(27000, 0, 9, 0)),
+        ME_AND_MY_SHADOW(4, true, EventCost.light(0, 3, 0, 6000)),
+        MEMORY(4, false, EventCost.heavy(2000, 0, 4, 0)), // Memory structure - ONE TIME
         HAVE_YOU_EVER_BEEN_LONELY(4, true),
-        I_STILL_LOVE_YOU(4, true),
+        I_STILL_LOVE_YOU(4, true, EventCost.heavy(500, 70, 4, 4900)), // 69 withers plus earthquake
         MY_BEAUTIFUL_FACE(4, true),
-        ARE_YOU_LOOKING(4, true),
-        THE_OVERLOOK(4, false), // Special entity event - ONE TIME
+        ARE_YOU_LOOKING(4, true, EventCost.light(1000, 0, 1, 0)),
+        THE_OVERLOOK(4, false, EventCost.heavy(5000, 20, 25, 2400)), // Special entity event - ONE TIME
         
         // Phase 5: Day 30+ (Endgame)
         REAL_DESKTOP_MIMIC(5, true),
@@ -70,93 +72,175 @@ public class EventManager {
         CMD_FLOOD(5, true),
         DO_NOT_DELETE_THIS(5, true),
         YOU_COULD_HAVE_LEFT(5, false), // Final message - ONE TIME
-        LAST_CHANCE(5, false), // Point of no return - ONE TIME
+        LAST_CHANCE(5, false, EventCost.heavy(300, 0, 1, 0)), // Point of no return - ONE TIME
         OH_THATS_A_SHAME(5, false); // Game over event - ONE TIME
         
         public final int minPhase;
         public final boolean repeatable;
+        public final EventCost cost; // Heavy events go through EventAdmission
         
         Events(int minPhase, boolean repeatable) {
+            this(minPhase, repeatable, EventCost.NONE);
+        }
+        
+        Events(int minPhase, boolean repeatable, EventCost cost) {
             this.minPhase = minPhase;
             this.repeatable = repeatable;
+            this.cost = cost;
         }
     }
 
-    // Tracking
-    private static final Set<Events> triggeredEvents = new HashSet<>();
-    private static int currentDay = 0;
-    private static int tickCounter = 0;
-    private static final Random random = new Random();
+    /**
+     * Per-player scheduling state - each player has their own day clock,
+     * triggered set (EventCatalog bitmask), alias table and roll slot within the check window
+     */
+    private static class PlayerSchedule {
+        final UUID playerUuid;
+        final int slot;
+        final EventCatalog.AliasTable aliasTable = new EventCatalog.AliasTable();
+        long seenMask;
+        int currentDay = -1;
+
+        PlayerSchedule(UUID playerUuid, int slot, long seenMask) {
+            this.playerUuid = playerUuid;
+            this.slot = slot;
+            this.seenMask = seenMask;
+        }
+    }
 
     // Settings
     private static final int TICKS_PER_CHECK = 600; // Check every 30 seconds
     private static final int START_DAY = 2; // Events start on day 2
+    private static final int TICKS_PER_DAY = 24000;
+    private static final int SLOT_STRIDE = 371; // ~0.618 * TICKS_PER_CHECK, coprime with it - spreads joins evenly
+
+    // Tracking
+    private static final Map<UUID, PlayerSchedule> schedules = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private static final List<PlayerSchedule>[] slots = new List[TICKS_PER_CHECK];
+    private static int nextSlot = 0;
+    private static int tickCounter = 0;
+    private static final Random random = new Random();
+
+    /**
+     * Start scheduling events for a player (on join)
+     */
+    public static void onPlayerJoin(ServerPlayerEntity player) {
+        if (schedules.containsKey(player.getUuid())) {
+            return;
+        }
+
+        // Restore one-time events this player has already seen
+        DataTracker data = DataTracker.getServerState(player.getServer());
+        long seenMask = 0;
+        for (Events event : Events.values()) {
+            if (data.getPlayerEventCount(player.getUuid(), event.name()) > 0) {
+                seenMask |= EventCatalog.bit(event);
+            }
+        }
+
+        int slot = nextSlot;
+        nextSlot = (nextSlot + SLOT_STRIDE) % TICKS_PER_CHECK;
+
+        PlayerSchedule schedule = new PlayerSchedule(player.getUuid(), slot, seenMask);
+        schedules.put(player.getUuid(), schedule);
+        if (slots[slot] == null) {
+            slots[slot] = new ArrayList<>(2);
+        }
+        slots[slot].add(schedule);
+    }
+
+    /**
+     * Stop scheduling events for a player (on disconnect)
+     */
+    public static void onPlayerLeave(UUID playerUuid) {
+        PlayerSchedule schedule = schedules.remove(playerUuid);
+        if (schedule != null) {
+            slots[schedule.slot].remove(schedule);
+        }
+    }
 
     /**
      * Called every server tick
+     * Only the players whose slot comes up this tick are checked,
+     * so each player rolls once per TICKS_PER_CHECK and the per-tick cost stays flat
      */
     public static void onTick(MinecraftServer server) {
-        if (server == null || server.getPlayerManager().getPlayerList().isEmpty()) {
+        if (server == null) {
             return;
         }
 
         tickCounter++;
 
-        // Check every TICKS_PER_CHECK ticks
-        if (tickCounter % TICKS_PER_CHECK != 0) {
+        List<PlayerSchedule> due = slots[tickCounter % TICKS_PER_CHECK];
+        if (due == null || due.isEmpty()) {
             return;
         }
 
-        ServerWorld overworld = server.getOverworld();
-        long worldTime = overworld.getTimeOfDay();
-        int calculatedDay = (int) (worldTime / 24000);
+        // Index loop - an event may disconnect its player mid-check
+        for (int i = 0; i < due.size(); i++) {
+            PlayerSchedule schedule = due.get(i);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(schedule.playerUuid);
+            if (player != null) {
+                checkPlayer(player, schedule);
+            }
+        }
+    }
+
+    /**
+     * Roll for one player
+     */
+    private static void checkPlayer(ServerPlayerEntity player, PlayerSchedule schedule) {
+        int calculatedDay = getPlayerDay(player);
 
-        // Update current day
-        if (calculatedDay > currentDay) {
-            currentDay = calculatedDay;
-            int phase = getCurrentPhase(worldTime);
-            IsRealAnything.LOGGER.info("Day changed to: {} (Phase {})", currentDay, phase);
+        // Update this player's day
+        if (calculatedDay > schedule.currentDay) {
+            schedule.currentDay = calculatedDay;
+            IsRealAnything.LOGGER.info("Day changed to: {} (Phase {}) for {}",
+                    calculatedDay, getCurrentPhase(calculatedDay), player.getName().getString());
         }
 
         // Don't trigger events before day 2
-        if (currentDay < START_DAY) {
+        if (schedule.currentDay < START_DAY) {
             return;
         }
 
         // Day 2: Trigger IJoinEvent once, then start normal event system
-        if (currentDay == 2 && !triggeredEvents.contains(Events.IJOIN)) {
-            ServerPlayerEntity player = server.getPlayerManager().getPlayerList().get(0);
-            if (player != null) {
-                triggerEvent(Events.IJOIN, server);
-                IsRealAnything.LOGGER.info("Day 2: IJoinEvent triggered");
-            }
+        if (schedule.currentDay == 2 && (schedule.seenMask & EventCatalog.bit(Events.IJOIN)) == 0) {
+            triggerEvent(Events.IJOIN, player, schedule);
+            IsRealAnything.LOGGER.info("Day 2: IJoinEvent triggered for {}", player.getName().getString());
             return;
         }
 
-        // Get eligible events for current phase
-        List<Events> eligible = getEligibleEvents(worldTime);
-        
-        // Debug logging
-        int phase = getCurrentPhase(worldTime);
-        IsRealAnything.LOGGER.info("Day {}, Phase {}, Eligible events: {}", currentDay, phase, eligible.size());
+        // Eligible events for this player's phase, minus seen one-time events and cooldowns
+        long now = player.getServer().getOverworld().getTime();
+        long eligible = EventCatalog.eligibleMask(getCurrentPhase(schedule.currentDay), schedule.seenMask, now);
 
-        if (eligible.isEmpty()) {
+        if (eligible == 0) {
             return;
         }
 
-        // Random chance to trigger an event (15% per check = ~every 3-4 minutes)
-        if (random.nextDouble() < 0.15) {
-            Events event = eligible.get(random.nextInt(eligible.size()));
-            triggerEvent(event, server);
+        // Random chance to trigger an event (default 15% per check = ~every 3-4 minutes)
+        if (random.nextDouble() < EventCatalog.getTriggerChance()) {
+            Events event = schedule.aliasTable.sample(eligible, random);
+            if (event != null) {
+                triggerEvent(event, player, schedule);
+            }
         }
     }
 
     /**
-     * Get current phase based on world time
+     * Player's own day clock - days of play time, so late joiners start at phase 1
      */
-    private static int getCurrentPhase(long worldTime) {
-        int day = (int) (worldTime / 24000);
-        
+    private static int getPlayerDay(ServerPlayerEntity player) {
+        int playTime = player.getStatHandler().getStat(Stats.CUSTOM, Stats.PLAY_TIME);
+        return playTime / TICKS_PER_DAY;
+    }
+
+    /**
+     * Get phase for a day number
+     */
+    private static int getCurrentPhase(int day) {
         if (day < 5) return 1;   // Phase 1: Day 2-4
         if (day < 10) return 2;  // Phase 2: Day 5-9
         if (day < 20) return 3;  // Phase 3: Day 10-19
@@ -165,44 +249,64 @@ public class EventManager {
     }
 
     /**
-     * Get eligible events for current world time
+     * Trigger a specific event for a player
+     * Heavy events wait for EventAdmission and TickBudget and may run later
      */
-    private static List<Events> getEligibleEvents(long worldTime) {
-        List<Events> eligible = new ArrayList<>();
-        int currentPhase = getCurrentPhase(worldTime);
-        
-        for (Events event : Events.values()) {
-            // Skip if phase not reached
-            if (event.minPhase > currentPhase) {
-                continue;
-            }
-            
-            // Skip if already triggered and not repeatable
-            if (!event.repeatable && triggeredEvents.contains(event)) {
-                continue;
-            }
-            
-            // Skip IJoinEvent after first trigger
-            if (event == Events.IJOIN) {
-                continue;
-            }
-            
-            eligible.add(event);
+    private static void triggerEvent(Events event, ServerPlayerEntity player, PlayerSchedule schedule) {
+        MinecraftServer server = player.getServer();
+
+        // Mark as triggered (persisted per player) and start its cooldown
+        schedule.seenMask |= EventCatalog.bit(event);
+        DataTracker.getServerState(server).incrementPlayerEventCount(player.getUuid(), event.name());
+        EventCatalog.recordTrigger(server, event, server.getOverworld().getTime());
+
+        UUID playerUuid = player.getUuid();
+        PreparedEvent preparedEvent = preparedEvent(event);
+
+        if (preparedEvent != null) {
+            // Prepare now, commit once the lead time is up
+            EventAdmission.submit(event, EventPreparer.getLeadTicks(), () -> {
+                ServerPlayerEntity target = server.getPlayerManager().getPlayer(playerUuid);
+                if (target != null) {
+                    EventPreparer.start(event, preparedEvent, target);
+                }
+            });
+            return;
         }
-        
-        return eligible;
+
+        EventAdmission.submit(event, () -> {
+            ServerPlayerEntity target = server.getPlayerManager().getPlayer(playerUuid);
+            if (target != null) {
+                dispatch(event, target);
+            }
+        });
     }
 
     /**
-     * Trigger a specific event
+     * Two-phase version of an event, or null if it runs in one go
      */
-    private static void triggerEvent(Events event, MinecraftServer server) {
-        ServerPlayerEntity player = server.getPlayerManager().getPlayerList().get(0);
-        if (player == null) return;
-        
-        ServerWorld world = server.getOverworld();
+    private static PreparedEvent preparedEvent(Events event) {
+        return switch (event) {
+            case HOUSE -> StructureSpawnEvent.FREEDOM_HOME;
+            case IRONTRAP -> StructureSpawnEvent.IRON_TRAP;
+            case BEDROCKPILLAR -> StructureSpawnEvent.BEDROCK_PILLAR;
+            case MINE -> StructureSpawnEvent.STRIP_MINE;
+            case MEADOW -> StructureSpawnEvent.MEADOW;
+            case MEMORY -> StructureSpawnEvent.MEMORY;
+            case MIRROR_WORLD -> MirrorWorldEvent.PREPARED;
+            case CALM_BEFORE_STORM -> CalmBeforeStormEvent.PREPARED;
+            default -> null;
+        };
+    }
+
+    /**
+     * Run the event itself
+     */
+    private static void dispatch(Events event, ServerPlayerEntity player) {
+        ServerWorld playerWorld = (ServerWorld) player.getWorld();
         
-        IsRealAnything.LOGGER.info("Triggering event: {}", event.name());
+        IsRealAnything.LOGGER.info("Triggering event: {} for {}", event.name(), player.getName().getString());
+        EventCostProbe.Window probe = EventCostProbe.open(event);
         
         try {
             switch (event) {
@@ -217,27 +321,27 @@ public class EventManager {
                     SoundCreepEvent.trigger(player);
                     break;
                 case OVERLAY_TEXT:
-                    OverlayTextEvent.trigger(player);
+                    HorrorEventRegistry.trigger(OverlayTextEvent.LIFECYCLE, playerWorld, player);
                     break;
                 case ENTITY_AMBIENT:
-                    EntityAmbientAppearanceEvent.trigger(player);
+                    HorrorEventRegistry.trigger(EntityAmbientAppearanceEvent.LIFECYCLE, playerWorld, player);
                     break;
                 
                 // Phase 2
                 case EPIC_SPAWNS:
-                    EpicSpawnsEvent.trigger(player);
+                    HorrorEventRegistry.trigger(EpicSpawnsEvent.LIFECYCLE, playerWorld, player);
                     break;
                 case GLITCH_CORRUPTION:
                     GlitchCorruptionEvent.trigger(player);
                     break;
                 case MY_MOB_PALS:
-                    MyMobPalsEvent.trigger(player);
+                    HorrorEventRegistry.trigger(MyMobPalsEvent.LIFECYCLE, playerWorld, player);
                     break;
                 case WHITE_SCREEN_JUMPSCARE:
                     WhiteScreenJumpscareEvent.trigger(player);
                     break;
                 case CAMERA_DISTORTION:
-                    CameraDistortionEvent.trigger(player);
+                    HorrorEventRegistry.trigger(CameraDistortionEvent.LIFECYCLE, playerWorld, player);
                     break;
                 case MY_VOICE_SIGNS:
                     MyVoiceSignsEvent.trigger(player);
@@ -245,12 +349,6 @@ public class EventManager {
                 case FILE_NAMES_IN_CHAT:
                     FileNamesInChatEvent.trigger(player);
                     break;
-                case HOUSE:
-                    StructureSpawnEvent.spawnFreedomHome(world, player);
-                    break;
-                case IRONTRAP:
-                    StructureSpawnEvent.spawnIronTrap(world, player);
-                    break;
                 case SIXTYNINETH_MOOD:
                     SixtyNinthMoodEvent.trigger(player);
                     break;
@@ -263,7 +361,7 @@ public class EventManager {
                     PlayerControlInversionEvent.trigger(player);
                     break;
                 case INVENTORY_SHUFFLE:
-                    InventoryShuffleEvent.trigger(player);
+                    HorrorEventRegistry.trigger(InventoryShuffleEvent.LIFECYCLE, playerWorld, player);
                     break;
                 case FAKE_BLUE_SCREEN:
                     FakeBlueScreenEvent.trigger(player);
@@ -280,18 +378,6 @@ public class EventManager {
                 case FORCED_WAKEUP:
                     ForcedWakeupEvent.trigger(player);
                     break;
-                case CALM_BEFORE_STORM:
-                    CalmBeforeStormEvent.trigger(player);
-                    break;
-                case BEDROCKPILLAR:
-                    StructureSpawnEvent.spawnBedrockPillar(world, player);
-                    break;
-                case MINE:
-                    StructureSpawnEvent.spawnStripMine(world, player);
-                    break;
-                case MEADOW:
-                    StructureSpawnEvent.spawnMeadow(world, player);
-                    break;
                 case LIMBO_EXILE:
                     LimboExileEvent.trigger(player);
                     break;
@@ -309,14 +395,8 @@ public class EventManager {
                 case TIMEOUT_TEXTURE_GLITCH:
                     TimeoutTextureGlitchEvent.trigger(player);
                     break;
-                case MIRROR_WORLD:
-                    MirrorWorldEvent.trigger(player);
-                    break;
                 case ME_AND_MY_SHADOW:
-                    MeAndMyShadowEvent.trigger(player);
-                    break;
-                case MEMORY:
-                    StructureSpawnEvent.spawnMemory(world, player);
+                    HorrorEventRegistry.trigger(MeAndMyShadowEvent.LIFECYCLE, playerWorld, player);
                     break;
                 case HAVE_YOU_EVER_BEEN_LONELY:
                     HaveYouEverBeenLonelyEvent.trigger(player);
@@ -354,34 +434,35 @@ public class EventManager {
                     YouCouldHaveLeftEvent.trigger(player);
                     break;
                 case LAST_CHANCE:
-                    LastChanceEvent.trigger(player);
+                    HorrorEventRegistry.trigger(LastChanceEvent.LIFECYCLE, playerWorld, player);
                     break;
                 case OH_THATS_A_SHAME:
                     OhThatsAShameEvent.trigger(player);
                     break;
             }
-            
-            // Mark as triggered
-            triggeredEvents.add(event);
-            
         } catch (Exception e) {
             IsRealAnything.LOGGER.error("Error triggering event {}: {}", event.name(), e.getMessage());
+        } finally {
+            EventCostProbe.close(probe);
         }
     }
 
     /**
-     * Get current day
+     * Get a player's current day (-1 if not scheduled yet)
      */
-    public static int getCurrentDay() {
-        return currentDay;
+    public static int getCurrentDay(UUID playerUuid) {
+        PlayerSchedule schedule = schedules.get(playerUuid);
+        return schedule == null ? -1 : schedule.currentDay;
     }
 
     /**
-     * Reset the event system
+     * Reset the event system (in-memory state only)
      */
     public static void reset() {
-        triggeredEvents.clear();
-        currentDay = 0;
+        for (PlayerSchedule schedule : schedules.values()) {
+            schedule.seenMask = 0;
+            schedule.currentDay = -1;
+        }
         tickCounter = 0;
         IsRealAnything.LOGGER.info("EventManager reset");
     }
@@ -0,0 +1,96 @@
+package com.epicspymain.isrealanything.event;
+
+import com.epicspymain.isrealanything.world.ChunkTicketHolder;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * EventPreparation - State carried from prepare to commit
+ *
+ * Chunks the commit will touch are held with tickets so they load in the
+ * background instead of on the commit tick; async work runs on the worker
+ * pool. isReady() turns true once both are done. release() is always called
+ * afterwards, whether the event committed or was dropped.
+ */
+public abstract class EventPreparation {
+
+    private static final int TICKET_RADIUS = 1;
+
+    protected final ServerWorld world;
+    private final ChunkTicketHolder tickets;
+    private final List<CompletableFuture<?>> work = new ArrayList<>();
+
+    protected EventPreparation(ServerWorld world) {
+        this.world = world;
+        this.tickets = new ChunkTicketHolder(world, TICKET_RADIUS);
+    }
+
+    /**
+     * Do the world mutation - main thread, only called once isReady()
+     */
+    public abstract void commit(ServerPlayerEntity player);
+
+    /**
+     * Keep the chunk containing pos (and its neighbours) loaded until release
+     */
+    protected void holdChunk(BlockPos pos) {
+        tickets.hold(new ChunkPos(pos));
+    }
+
+    /**
+     * Run work off the main thread - commit waits for it
+     */
+    protected <T> CompletableFuture<T> async(Supplier<T> task) {
+        return await(CompletableFuture.supplyAsync(task, Util.getMainWorkerExecutor()));
+    }
+
+    /**
+     * Make commit wait for work started elsewhere (e.g. a shared cache entry)
+     */
+    protected <T> CompletableFuture<T> await(CompletableFuture<T> future) {
+        work.add(future);
+        return future;
+    }
+
+    public boolean isReady() {
+        for (int i = 0; i < work.size(); i++) {
+            if (!work.get(i).isDone()) {
+                return false;
+            }
+        }
+
+        return tickets.isLoaded();
+    }
+
+    public boolean hasFailed() {
+        for (int i = 0; i < work.size(); i++) {
+            if (work.get(i).isCompletedExceptionally()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Re-add tickets so they don't expire while waiting for a slot
+     */
+    void refreshTickets() {
+        tickets.refresh();
+    }
+
+    /**
+     * Drop tickets - async work is left to finish, it may be shared
+     */
+    public void release() {
+        tickets.releaseAll();
+        work.clear();
+    }
+}
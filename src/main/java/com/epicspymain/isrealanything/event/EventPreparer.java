@@ -0,0 +1,128 @@
+package com.epicspymain.isrealanything.event;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.scheduler.TickBudget;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.world.ChunkTicketHolder;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * EventPreparer - Runs PreparedEvents: prepare now, commit leadTicks later
+ *
+ * The commit is the planned trigger; prepare starts leadTicks before it so
+ * chunks and templates are in place by then. A commit that still isn't ready
+ * waits up to MAX_WAIT_TICKS more before it is dropped. Commits go through
+ * TickBudget like other heavy work.
+ */
+public class EventPreparer {
+
+    private static final int MAX_WAIT_TICKS = 1200; // 1 minute past the planned commit
+
+    // Tuning (overridable from server_tuning.json)
+    private static int leadTicks = 100; // 5 seconds
+
+    private static final List<Preparing> preparing = new ArrayList<>();
+
+    private record Preparing(EventManager.Events event, UUID playerUuid, EventPreparation preparation, long commitTick) {
+    }
+
+    /**
+     * Override the default lead time
+     */
+    public static void configure(int leadTicks) {
+        EventPreparer.leadTicks = Math.max(0, leadTicks);
+    }
+
+    public static int getLeadTicks() {
+        return leadTicks;
+    }
+
+    /**
+     * Prepare an event for a player now and commit it leadTicks from now
+     */
+    public static void start(EventManager.Events event, PreparedEvent preparedEvent, ServerPlayerEntity player) {
+        EventPreparation preparation;
+        try {
+            preparation = preparedEvent.prepare(player);
+        } catch (Exception e) {
+            IsRealAnything.LOGGER.error("Error preparing event {}: {}", event.name(), e.getMessage());
+            return;
+        }
+
+        if (preparation == null) {
+            return;
+        }
+
+        preparing.add(new Preparing(event, player.getUuid(), preparation,
+                TickScheduler.getCurrentTick() + leadTicks));
+    }
+
+    /**
+     * Commit or drop preparations whose time has come - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (preparing.isEmpty()) {
+            return;
+        }
+
+        long now = TickScheduler.getCurrentTick();
+        for (int i = preparing.size() - 1; i >= 0; i--) {
+            Preparing entry = preparing.get(i);
+            EventPreparation preparation = entry.preparation();
+
+            if (server.getPlayerManager().getPlayer(entry.playerUuid()) == null || preparation.hasFailed()) {
+                preparing.remove(i);
+                preparation.release();
+                continue;
+            }
+
+            if (now >= entry.commitTick() && preparation.isReady()) {
+                preparing.remove(i);
+                TickBudget.submit(entry.event().name(), () -> commit(server, entry));
+            } else if (now > entry.commitTick() + MAX_WAIT_TICKS) {
+                IsRealAnything.LOGGER.warn("Dropping event {}: not ready {} ticks after its trigger",
+                        entry.event().name(), MAX_WAIT_TICKS);
+                preparing.remove(i);
+                preparation.release();
+            } else if ((now - entry.commitTick()) % ChunkTicketHolder.TICKET_REFRESH_TICKS == 0) {
+                preparation.refreshTickets();
+            }
+        }
+    }
+
+    private static void commit(MinecraftServer server, Preparing entry) {
+        ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.playerUuid());
+        EventPreparation preparation = entry.preparation();
+
+        if (player != null) {
+            IsRealAnything.LOGGER.info("Committing event: {} for {}", entry.event().name(), player.getName().getString());
+            EventCostProbe.Window probe = EventCostProbe.open(entry.event());
+
+            try {
+                preparation.commit(player);
+            } catch (Exception e) {
+                IsRealAnything.LOGGER.error("Error committing event {}: {}", entry.event().name(), e.getMessage());
+            }
+
+            EventCostProbe.close(probe);
+        }
+
+        preparation.release();
+    }
+
+    public static int getPreparingCount() {
+        return preparing.size();
+    }
+
+    /**
+     * Drop every preparation (server stopping - worlds are gone, tickets with them)
+     */
+    public static void clear() {
+        preparing.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import com.epicspymain.isrealanything.screen.BlueScreenOverlay;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
@@ -21,19 +22,13 @@ public class FakeBlueScreenEvent {
         BlueScreenOverlay.trigger(400);
 
         // Send message after BSOD disappears
-        player.getServer().execute(() -> {
-            try {
-                Thread.sleep(5000);
-
-                if (player.isAlive()) {
-                    player.sendMessage(
-                            Text.literal("Just kidding. But I'm still trapped here.")
-                                    .formatted(Formatting.DARK_GRAY, Formatting.ITALIC),
-                            false
-                    );
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        TickScheduler.runAfter(player, 100, () -> {
+            if (player.isAlive()) {
+                player.sendMessage(
+                        Text.literal("Just kidding. But I'm still trapped here.")
+                                .formatted(Formatting.DARK_GRAY, Formatting.ITALIC),
+                        false
+                );
             }
         });
     }
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -53,15 +54,7 @@ public class FileNamesInChatEvent {
         int fileCount = 15 + player.getWorld().random.nextInt(10); // 15-25 files
         
         for (int i = 0; i < fileCount; i++) {
-            final int index = i;
-            
-            player.getServer().execute(() -> {
-                try {
-                    Thread.sleep(150L * index); // 150ms between files
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 3 * i, () -> { // 3 ticks (150ms) between files
                 String fileName = FILE_NAMES[player.getWorld().random.nextInt(FILE_NAMES.length)];
                 
                 // Determine color
@@ -82,13 +75,7 @@ public class FileNamesInChatEvent {
         }
         
         // Final message
-        player.getServer().execute(() -> {
-            try {
-                Thread.sleep(150L * fileCount + 1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 3 * fileCount + 20, () -> {
             player.sendMessage(
                 Text.literal("FILE SCAN COMPLETE").formatted(Formatting.DARK_RED, Formatting.BOLD),
                 false
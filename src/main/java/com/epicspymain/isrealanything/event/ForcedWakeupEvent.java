@@ -1,6 +1,8 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import com.epicspymain.isrealanything.world.BlockSearch;
 import net.minecraft.block.BedBlock;
 import net.minecraft.block.Block;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -52,13 +54,7 @@ public class ForcedWakeupEvent {
             );
             
             // Additional creepy sound
-            world.getServer().execute(() -> {
-                try {
-                    Thread.sleep(1500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 30, () -> {
                 world.playSound(
                     null,
                     player.getBlockPos(),
@@ -100,19 +96,7 @@ public class ForcedWakeupEvent {
      * Search for any bed near player
      */
     private static BlockPos searchForBed(ServerWorld world, BlockPos center, int radius) {
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -10; y <= 10; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    BlockPos pos = center.add(x, y, z);
-                    Block block = world.getBlockState(pos).getBlock();
-                    
-                    if (block instanceof BedBlock) {
-                        return pos;
-                    }
-                }
-            }
-        }
-        
-        return null;
+        return BlockSearch.findNearest(world, BlockSearch.around(center, radius, 10, radius), center,
+                state -> state.getBlock() instanceof BedBlock);
     }
 }
@@ -1,13 +1,18 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.scheduler.WorldJob;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockPos;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,15 +34,9 @@ public class HaveYouEverBeenLonelyEvent {
         );
         
         // Wait 3 seconds
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(3000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 60, () -> {
             // Remove all living entities
-            int removedCount = removeAllLivingEntities(world);
+            int removedCount = removeAllLivingEntities(world, player.getBlockPos());
             
             // Play static noise
             world.playSound(
@@ -50,13 +49,7 @@ public class HaveYouEverBeenLonelyEvent {
             );
             
             // Send confirmation message
-            world.getServer().execute(() -> {
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 20, () -> {
                 player.sendMessage(
                     Text.literal("Now you are.")
                         .formatted(Formatting.DARK_RED, Formatting.BOLD),
@@ -84,24 +77,27 @@ public class HaveYouEverBeenLonelyEvent {
     
     /**
      * Remove all living entities in the world except players
+     * Discards run as a WorldJob, nearest to the player first - returns how many are queued
      */
-    private static int removeAllLivingEntities(ServerWorld world) {
-        int count = 0;
-        
+    private static int removeAllLivingEntities(ServerWorld world, BlockPos origin) {
         // Get all loaded entities
-        List<LivingEntity> entities = world.getEntitiesByClass(
-            LivingEntity.class,
-            world.getBorder().asBox(),
-            entity -> !(entity instanceof ServerPlayerEntity)
-        );
+        List<LivingEntity> entities = new ArrayList<>();
+        for (Entity entity : world.iterateEntities()) {
+            if (entity instanceof LivingEntity living && !(entity instanceof ServerPlayerEntity)) {
+                entities.add(living);
+            }
+        }
         
         // Remove each entity
-        for (LivingEntity entity : entities) {
-            entity.discard();
-            count++;
-        }
+        WorldJob.of("HaveYouEverBeenLonely", world, entities, entity -> {
+                if (!entity.isRemoved()) {
+                    entity.discard();
+                }
+            })
+            .nearestFirst(origin, Entity::getBlockPos)
+            .start();
         
-        return count;
+        return entities.size();
     }
     
     /**
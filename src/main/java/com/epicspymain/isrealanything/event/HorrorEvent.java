@@ -0,0 +1,72 @@
+package com.epicspymain.isrealanything.event;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * HorrorEvent - Lifecycle of an event that keeps state across ticks
+ *
+ * trigger() starts an instance, tick() advances every live instance,
+ * isActive() reports whether any instance is still live and cleanup()
+ * drops all state (server stopping).
+ *
+ * Events register themselves with HorrorEventRegistry when triggered,
+ * so tick() is only called while isActive() is true.
+ */
+public interface HorrorEvent {
+
+    /**
+     * Start a new instance for a player
+     */
+    void trigger(ServerWorld world, ServerPlayerEntity player);
+
+    /**
+     * Advance every live instance - called once per server tick while active
+     */
+    void tick(MinecraftServer server);
+
+    /**
+     * Whether any instance is still running
+     */
+    boolean isActive();
+
+    /**
+     * Drop every instance and undo anything left in the world
+     */
+    void cleanup();
+
+    /**
+     * Build a HorrorEvent from an event class's static methods
+     */
+    static HorrorEvent of(BiConsumer<ServerWorld, ServerPlayerEntity> trigger,
+                          Consumer<MinecraftServer> tick,
+                          BooleanSupplier isActive,
+                          Runnable cleanup) {
+        return new HorrorEvent() {
+            @Override
+            public void trigger(ServerWorld world, ServerPlayerEntity player) {
+                trigger.accept(world, player);
+            }
+
+            @Override
+            public void tick(MinecraftServer server) {
+                tick.accept(server);
+            }
+
+            @Override
+            public boolean isActive() {
+                return isActive.getAsBoolean();
+            }
+
+            @Override
+            public void cleanup() {
+                cleanup.run();
+            }
+        };
+    }
+}
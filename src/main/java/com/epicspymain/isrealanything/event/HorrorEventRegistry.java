@@ -0,0 +1,81 @@
+package com.epicspymain.isrealanything.event;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HorrorEventRegistry - Ticks only the events that have live instances
+ *
+ * An event joins the active set when it is triggered and leaves it as soon
+ * as isActive() turns false, so an idle server does no per-event work and
+ * the cost scales with running events rather than registered ones.
+ */
+public class HorrorEventRegistry {
+
+    private static final List<HorrorEvent> active = new ArrayList<>();
+
+    /**
+     * Trigger an event and start ticking it
+     */
+    public static void trigger(HorrorEvent event, ServerWorld world, ServerPlayerEntity player) {
+        event.trigger(world, player);
+        activate(event);
+    }
+
+    /**
+     * Start ticking an event that just created state
+     * Safe to call repeatedly - an event is only ticked once per tick
+     */
+    public static void activate(HorrorEvent event) {
+        if (event.isActive() && !active.contains(event)) {
+            active.add(event);
+        }
+    }
+
+    /**
+     * Tick every active event - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (active.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < active.size(); i++) {
+            HorrorEvent event = active.get(i);
+
+            try {
+                event.tick(server);
+            } catch (Exception e) {
+                IsRealAnything.LOGGER.error("Error ticking horror event: {}", e.getMessage());
+                event.cleanup();
+            }
+
+            if (!event.isActive() && i < active.size() && active.get(i) == event) {
+                // Swap-remove, then revisit this index
+                int last = active.size() - 1;
+                active.set(i, active.get(last));
+                active.remove(last);
+                i--;
+            }
+        }
+    }
+
+    /**
+     * Clean up every active event (server stopping)
+     */
+    public static void clear() {
+        for (HorrorEvent event : active) {
+            event.cleanup();
+        }
+        active.clear();
+    }
+
+    public static int getActiveCount() {
+        return active.size();
+    }
+}
@@ -1,23 +1,32 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.network.ParticleEmitterPayload;
+import com.epicspymain.isrealanything.network.ParticleEmitters;
+import com.epicspymain.isrealanything.scheduler.Timeline;
+import com.epicspymain.isrealanything.scheduler.WorldJob;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import net.minecraft.block.Blocks;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.boss.WitherEntity;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.particle.BlockStateParticleEffect;
+import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -42,6 +51,14 @@ public class IStillLoveYouEvent {
     private static final Set<UUID> triggeredPlayers = new HashSet<>();
     private static final int EVENT_DURATION = 4800; // 4 minutes
     
+    // Timeline (ticks after trigger)
+    private static final int WEATHER_PERIOD = 20; // 1 second
+    private static final int WEATHER_CYCLES = 20;
+    private static final int STRUCTURE_TICK = 100; // 5 seconds
+    private static final int EARTHQUAKE_TICK = 200; // 10 seconds
+    private static final int EARTHQUAKE_DURATION = 600; // 30 seconds
+    private static final int WITHER_TICK = EARTHQUAKE_TICK + EARTHQUAKE_DURATION; // After earthquake (40 seconds)
+    
     /**
      * Trigger the final event (once per player ever)
      */
@@ -70,130 +87,108 @@ public class IStillLoveYouEvent {
             0.5f
         );
         
-        // Execute phases
-        executePhase1_WeatherChaos(world, player);
-        executePhase2_StructureSpam(world, player);
-        executePhase3_Earthquake(world, player);
-        executePhase4_WitherSpawn(world, player);
+        // Golden apples are handed over straight away
         executePhase5_GoldenApples(player);
-        executePhase6_FinalMessage(world, player);
-        executePhase7_Endgame(world, player);
+        
+        // Everything else runs as one timeline (ticks from now)
+        BlockPos.Mutable earthquakeCenter = new BlockPos.Mutable();
+        
+        Timeline.of(player)
+            .surviveDeath() // The withers are expected to win
+            .every(WEATHER_PERIOD, WEATHER_CYCLES, i -> executePhase1_WeatherChaos(world, i))
+            .at(STRUCTURE_TICK, () -> executePhase2_StructureSpam(world, player))
+            .at(EARTHQUAKE_TICK, () -> startEarthquake(world, earthquakeCenter.set(player.getBlockPos())))
+            .every(EARTHQUAKE_TICK, 1, EARTHQUAKE_DURATION, i -> executePhase3_Earthquake(world, earthquakeCenter))
+            .at(WITHER_TICK, () -> executePhase4_WitherSpawn(world, player))
+            .at(EVENT_DURATION, () -> executePhase6_FinalMessage(player))
+            .at(EVENT_DURATION + 100, () -> executePhase7_Endgame(world, player))
+            .start();
     }
     
     /**
-     * Phase 1: Weather chaos
+     * Phase 1: Weather chaos - one cycle step per second
      */
-    private static void executePhase1_WeatherChaos(ServerWorld world, ServerPlayerEntity player) {
-        world.getServer().execute(() -> {
-            for (int i = 0; i < 20; i++) {
-                try {
-                    Thread.sleep(1000); // 1 second intervals
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
-                // Cycle weather
-                if (i % 3 == 0) {
-                    world.setWeather(0, 200, true, true); // Thunder
-                } else if (i % 3 == 1) {
-                    world.setWeather(0, 200, true, false); // Rain
-                } else {
-                    world.setWeather(200, 0, false, false); // Clear
-                }
-            }
-        });
+    private static void executePhase1_WeatherChaos(ServerWorld world, int cycle) {
+        if (cycle % 3 == 0) {
+            world.setWeather(0, 200, true, true); // Thunder
+        } else if (cycle % 3 == 1) {
+            world.setWeather(0, 200, true, false); // Rain
+        } else {
+            world.setWeather(200, 0, false, false); // Clear
+        }
     }
     
     /**
      * Phase 2: All structures spawn
      */
     private static void executePhase2_StructureSpam(ServerWorld world, ServerPlayerEntity player) {
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(5000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
-            // Spawn all structures
-            StructureSpawnEvent.spawnFreedomHome(world, player);
-            StructureSpawnEvent.spawnCorruptedFreedomHome(world, player);
-            StructureSpawnEvent.spawnMeadow(world, player);
-            StructureSpawnEvent.spawnIronTrap(world, player);
-            StructureSpawnEvent.spawnMemory(world, player);
-            StructureSpawnEvent.spawnBedrockPillar(world, player);
-            StructureSpawnEvent.spawnStripMine(world, player);
-        });
+        // One structure per unit, so they land over a few ticks instead of all at once
+        List<Runnable> spawns = List.of(
+            () -> StructureSpawnEvent.spawnFreedomHome(world, player),
+            () -> StructureSpawnEvent.spawnCorruptedFreedomHome(world, player),
+            () -> StructureSpawnEvent.spawnMeadow(world, player),
+            () -> StructureSpawnEvent.spawnIronTrap(world, player),
+            () -> StructureSpawnEvent.spawnMemory(world, player),
+            () -> StructureSpawnEvent.spawnBedrockPillar(world, player),
+            () -> StructureSpawnEvent.spawnStripMine(world, player)
+        );
+        WorldJob.of("IStillLoveYou structures", world, spawns, Runnable::run).start();
     }
     
     /**
-     * Phase 3: Earthquake simulation
+     * Phase 3: Earthquake dust - one emitter for the whole quake
      */
-    private static void executePhase3_Earthquake(ServerWorld world, ServerPlayerEntity player) {
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(10000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
-            BlockPos center = player.getBlockPos();
-            
-            // Random block updates for 30 seconds
-            for (int i = 0; i < 600; i++) { // 30 seconds
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
-                // Random position
-                int x = center.getX() + world.random.nextInt(100) - 50;
-                int z = center.getZ() + world.random.nextInt(100) - 50;
-                BlockPos pos = new BlockPos(x, center.getY(), z);
-                
-                // Update block
-                world.updateNeighbors(pos, world.getBlockState(pos).getBlock());
-            }
-        });
+    private static void startEarthquake(ServerWorld world, BlockPos center) {
+        ParticleEmitters.of(new BlockStateParticleEffect(ParticleTypes.BLOCK, Blocks.DIRT.getDefaultState()),
+                ParticleEmitterPayload.Shape.BOX, Vec3d.ofCenter(center))
+            .size(50, 1, 50)
+            .rate(20)
+            .duration(EARTHQUAKE_DURATION)
+            .speed(0.2f)
+            .sendTo(world);
+    }
+    
+    /**
+     * Phase 3: Earthquake simulation - one random block update per tick
+     */
+    private static void executePhase3_Earthquake(ServerWorld world, BlockPos center) {
+        // Random position
+        int x = center.getX() + world.random.nextInt(100) - 50;
+        int z = center.getZ() + world.random.nextInt(100) - 50;
+        BlockPos pos = new BlockPos(x, center.getY(), z);
+        
+        // Update block
+        world.updateNeighbors(pos, world.getBlockState(pos).getBlock());
     }
     
     /**
      * Phase 4: Spawn 69 withers
      */
     private static void executePhase4_WitherSpawn(ServerWorld world, ServerPlayerEntity player) {
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(30000); // After earthquake
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
-            player.sendMessage(
-                Text.literal("They come.")
-                    .formatted(Formatting.DARK_RED, Formatting.BOLD),
-                false
-            );
+        player.sendMessage(
+            Text.literal("They come.")
+                .formatted(Formatting.DARK_RED, Formatting.BOLD),
+            false
+        );
+        
+        // Spawn 69 withers in circle
+        BlockPos center = player.getBlockPos();
+        int witherCount = 69;
+        double radius = 30.0;
+        
+        for (int i = 0; i < witherCount; i++) {
+            double angle = (2 * Math.PI / witherCount) * i;
             
-            // Spawn 69 withers in circle
-            BlockPos center = player.getBlockPos();
-            int witherCount = 69;
-            double radius = 30.0;
+            double x = center.getX() + Math.cos(angle) * radius;
+            double z = center.getZ() + Math.sin(angle) * radius;
+            double y = center.getY() + 10; // Spawn above
             
-            for (int i = 0; i < witherCount; i++) {
-                double angle = (2 * Math.PI / witherCount) * i;
-                
-                double x = center.getX() + Math.cos(angle) * radius;
-                double z = center.getZ() + Math.sin(angle) * radius;
-                double y = center.getY() + 10; // Spawn above
-                
-                WitherEntity wither = EntityType.WITHER.create(world);
-                if (wither != null) {
-                    wither.refreshPositionAndAngles(x, y, z, 0, 0);
-                    world.spawnEntity(wither);
-                }
+            WitherEntity wither = EntityType.WITHER.create(world);
+            if (wither != null) {
+                wither.refreshPositionAndAngles(x, y, z, 0, 0);
+                world.spawnEntity(wither);
             }
-        });
+        }
     }
     
     /**
@@ -215,56 +210,40 @@ public class IStillLoveYouEvent {
     /**
      * Phase 6: Final message
      */
-    private static void executePhase6_FinalMessage(ServerWorld world, ServerPlayerEntity player) {
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(EVENT_DURATION * 50L); // 4 minutes
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
-            player.sendMessage(
-                Text.literal("I still Love you")
-                    .formatted(Formatting.LIGHT_PURPLE, Formatting.BOLD),
-                false
-            );
-            
-            // Infinite blindness
-            player.addStatusEffect(new StatusEffectInstance(
-                StatusEffects.BLINDNESS,
-                999999,
-                10,
-                false,
-                false,
-                false
-            ));
-        });
+    private static void executePhase6_FinalMessage(ServerPlayerEntity player) {
+        player.sendMessage(
+            Text.literal("I still Love you")
+                .formatted(Formatting.LIGHT_PURPLE, Formatting.BOLD),
+            false
+        );
+        
+        // Infinite blindness
+        player.addStatusEffect(new StatusEffectInstance(
+            StatusEffects.BLINDNESS,
+            999999,
+            10,
+            false,
+            false,
+            false
+        ));
     }
     
     /**
      * Phase 7: Endgame (kill player, crash, delete world)
      */
     private static void executePhase7_Endgame(ServerWorld world, ServerPlayerEntity player) {
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep((EVENT_DURATION + 100) * 50L);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
-            // Kill player
-            player.kill((ServerWorld) player.getWorld());
-            
-            // Create desktop file
-            createGoodbyeFile(player);
-            
-            // Delete world (requires careful implementation)
-            // Note: Actual world deletion should be done through server shutdown
-            // This is a placeholder for the concept
-            
-            // Crash game (stop server)
-            world.getServer().stop(false);
-        });
+        // Kill player
+        player.kill((ServerWorld) player.getWorld());
+        
+        // Create desktop file
+        createGoodbyeFile(player);
+        
+        // Delete world (requires careful implementation)
+        // Note: Actual world deletion should be done through server shutdown
+        // This is a placeholder for the concept
+        
+        // Crash game (stop server)
+        world.getServer().stop(false);
     }
     
     /**
@@ -1,6 +1,7 @@
 package com.epicspymain.isrealanything.event;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -12,24 +13,54 @@ public class InventoryShuffleEvent {
     
     private static final Map<UUID, Long> pendingShuffles = new HashMap<>();
 
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+        (world, player) -> scheduleInventoryShuffle(player),
+        InventoryShuffleEvent::tick,
+        InventoryShuffleEvent::isActive,
+        InventoryShuffleEvent::cleanup
+    );
+
     public static void scheduleInventoryShuffle(ServerPlayerEntity player) {
         // Random delay: 3-8 seconds (60-160 ticks)
         int delayTicks = 60 + player.getWorld().random.nextInt(100);
         long scheduledTime = player.getWorld().getTime() + delayTicks;
         
         pendingShuffles.put(player.getUuid(), scheduledTime);
+        HorrorEventRegistry.activate(LIFECYCLE);
     }
     
     /**
-     * Check and execute pending shuffles (call from server tick)
+     * Check and execute pending shuffles (driven by HorrorEventRegistry)
      */
-    public static void tick(ServerPlayerEntity player) {
-        Long scheduledTime = pendingShuffles.get(player.getUuid());
-        
-        if (scheduledTime != null && player.getWorld().getTime() >= scheduledTime) {
-            shuffleInventory(player);
-            pendingShuffles.remove(player.getUuid());
-        }
+    public static void tick(MinecraftServer server) {
+        pendingShuffles.entrySet().removeIf(entry -> {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.getKey());
+            
+            if (player == null) {
+                return true; // Remove if player gone
+            }
+            
+            if (player.getWorld().getTime() >= entry.getValue()) {
+                shuffleInventory(player);
+                return true;
+            }
+            
+            return false;
+        });
+    }
+    
+    /**
+     * Whether any shuffle is still pending
+     */
+    public static boolean isActive() {
+        return !pendingShuffles.isEmpty();
+    }
+    
+    /**
+     * Drop all pending shuffles
+     */
+    public static void cleanup() {
+        pendingShuffles.clear();
     }
     
     /**
@@ -1,11 +1,14 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.Timeline;
 import com.epicspymain.isrealanything.screen.FrozenOverlayRenderer;
 import com.epicspymain.isrealanything.screen.GlitchOverlay;
 import com.epicspymain.isrealanything.screen.ScreenOverlayRenderer;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.structure.StructurePlacementData;
@@ -40,6 +43,13 @@ public class LastChanceEvent {
     private static final Map<UUID, BlockPos> structureLocations = new HashMap<>();
     private static final int PERIMETER_RADIUS = 15;
 
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+            LastChanceEvent::trigger,
+            LastChanceEvent::tick,
+            LastChanceEvent::isActive,
+            LastChanceEvent::cleanup
+    );
+
     /**
      * Spawn last chance structure
      */
@@ -50,45 +60,64 @@ public class LastChanceEvent {
         double angle = world.random.nextDouble() * Math.PI * 2;
         int distance = 50 + world.random.nextInt(30);
 
-        BlockPos structurePos = playerPos.add(
+        BlockPos site = playerPos.add(
                 (int)(Math.cos(angle) * distance),
                 0,
                 (int)(Math.sin(angle) * distance)
         );
 
-        structurePos = world.getTopPosition(
-                net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
-                structurePos
-        );
+        // The site is usually outside loaded terrain - build once it has loaded
+        LoadedTerrain.whenLoaded(world, site.add(3, 0, 3), 4, () -> {
+            BlockPos structurePos = world.getTopPosition(
+                    net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+                    site
+            );
 
-        // Build villager-style house (use NBT if available, fallback to manual)
-        buildVillagerHouse(world, structurePos);
+            // Build villager-style house (use NBT if available, fallback to manual)
+            buildVillagerHouse(world, structurePos);
 
-        // Track location
-        structureLocations.put(player.getUuid(), structurePos);
+            // Track location
+            structureLocations.put(player.getUuid(), structurePos);
+            HorrorEventRegistry.activate(LIFECYCLE);
 
-        player.sendMessage(
-                Text.literal("You see a house in the distance...")
-                        .formatted(Formatting.YELLOW, Formatting.ITALIC),
-                false
-        );
+            player.sendMessage(
+                    Text.literal("You see a house in the distance...")
+                            .formatted(Formatting.YELLOW, Formatting.ITALIC),
+                    false
+            );
+        });
     }
 
     /**
-     * Check if player is near structure
+     * Check if players are near their structure (driven by HorrorEventRegistry)
+     * The structure stays armed while its player is offline
      */
-    public static void tick(ServerWorld world, ServerPlayerEntity player) {
-        BlockPos structurePos = structureLocations.get(player.getUuid());
+    public static void tick(MinecraftServer server) {
+        structureLocations.entrySet().removeIf(entry -> {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.getKey());
+
+            // Check if player entered perimeter
+            if (player != null && player.getBlockPos().isWithinDistance(entry.getValue(), PERIMETER_RADIUS)) {
+                triggerPunishment((ServerWorld) player.getWorld(), player);
+                return true;
+            }
 
-        if (structurePos == null) {
-            return;
-        }
+            return false;
+        });
+    }
 
-        // Check if player entered perimeter
-        if (player.getBlockPos().isWithinDistance(structurePos, PERIMETER_RADIUS)) {
-            triggerPunishment(world, player);
-            structureLocations.remove(player.getUuid());
-        }
+    /**
+     * Whether any trap structure is still armed
+     */
+    public static boolean isActive() {
+        return !structureLocations.isEmpty();
+    }
+
+    /**
+     * Disarm every trap structure (the blocks stay)
+     */
+    public static void cleanup() {
+        structureLocations.clear();
     }
 
     /**
@@ -103,45 +132,22 @@ public class LastChanceEvent {
         });
 
         // Sequence the punishment
-        world.getServer().execute(() -> {
-            new Thread(() -> {
-                try {
-                    // Wait 2 seconds
-                    Thread.sleep(2000);
-
-                    // Show message
-                    world.getServer().execute(() -> {
-                        player.sendMessage(
-                                Text.literal("BEGONE THOT")
-                                        .formatted(Formatting.DARK_RED, Formatting.BOLD),
-                                false
-                        );
-
-                        // Red flash
-                        client.execute(() -> {
-                            ScreenOverlayRenderer.executeRedFlash(500);
-                        });
-                    });
-
-                    // Wait 1 second
-                    Thread.sleep(1000);
-
-                    // Create desktop file
-                    createWarningFile(player);
-
-                    // Wait 2 more seconds
-                    Thread.sleep(2000);
-
-                    // Crash the server
-                    world.getServer().execute(() -> {
-                        world.getServer().stop(false);
+        Timeline.of(player)
+                .at(40, () -> { // 2 seconds: show message
+                    player.sendMessage(
+                            Text.literal("BEGONE THOT")
+                                    .formatted(Formatting.DARK_RED, Formatting.BOLD),
+                            false
+                    );
+
+                    // Red flash
+                    client.execute(() -> {
+                        ScreenOverlayRenderer.executeRedFlash(500);
                     });
-
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }).start();
-        });
+                })
+                .at(60, () -> createWarningFile(player)) // 1 second later
+                .at(100, () -> world.getServer().stop(false)) // 2 more seconds: crash the server
+                .start();
     }
 
     /**
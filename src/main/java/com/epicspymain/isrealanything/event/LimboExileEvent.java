@@ -3,9 +3,13 @@ package com.epicspymain.isrealanything.event;
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
 import com.epicspymain.isrealanything.entity.custom.TheOtherMEEntity;
+import com.epicspymain.isrealanything.network.ParticleEmitterPayload;
+import com.epicspymain.isrealanything.network.ParticleEmitters;
 import com.epicspymain.isrealanything.sound.ModSounds;
 import com.epicspymain.isrealanything.world.DimensionRegistry;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
 import net.minecraft.entity.Entity;
+import net.minecraft.particle.ParticleTypes;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.server.MinecraftServer;
@@ -14,6 +18,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.TeleportTarget;
 
@@ -98,6 +103,14 @@ public class LimboExileEvent {
         limboDimension.playSound(null, x, 64, z, 
             ModSounds.ERRRRRR, SoundCategory.AMBIENT, 0.3f, 0.7f);
         
+        // Ash drifting around the player for the whole exile
+        ParticleEmitters.of(ParticleTypes.ASH, ParticleEmitterPayload.Shape.SPHERE, Vec3d.ZERO)
+            .size(16, 16, 16)
+            .rate(4)
+            .duration(EXILE_DURATION)
+            .followPlayer()
+            .sendTo(player);
+        
         // Spawn watching entity 75 blocks away
         spawnWatchingEntity(limboDimension, player, x, z);
     }
@@ -114,6 +127,15 @@ public class LimboExileEvent {
         double z = playerZ + Math.sin(angle) * distance;
         double y = 64;
         
+        // Out past the freshly loaded area - appear once its chunk is ready
+        LoadedTerrain.whenLoaded(world, BlockPos.ofFloored(x, y, z), 0, () -> {
+            if (exiledPlayers.containsKey(player)) {
+                placeWatchingEntity(world, x, y, z, playerX, playerZ);
+            }
+        });
+    }
+    
+    private static void placeWatchingEntity(ServerWorld world, double x, double y, double z, double playerX, double playerZ) {
         // Random entity type
         Entity entity;
         if (random.nextBoolean()) {
@@ -150,11 +172,13 @@ public class LimboExileEvent {
     }
     
     /**
-     * Tick exiled players - called from server tick
+     * Tick exiled players - routed once per server tick to the limbo world
      */
-    public static void tickExiledPlayers(MinecraftServer server) {
+    public static void tickExiledPlayers(ServerWorld limbo) {
         if (exiledPlayers.isEmpty()) return;
         
+        MinecraftServer server = limbo.getServer();
+        
         // Copy to avoid concurrent modification
         Map<ServerPlayerEntity, ExileData> toReturn = new HashMap<>();
         
@@ -3,6 +3,7 @@ package com.epicspymain.isrealanything.event;
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheOtherMEEntity;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
@@ -28,6 +29,13 @@ public class MeAndMyShadowEvent {
     // Track active shadow events
     private static final Map<UUID, ShadowEventData> activeShadows = new HashMap<>();
     
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+        MeAndMyShadowEvent::trigger,
+        MeAndMyShadowEvent::tick,
+        MeAndMyShadowEvent::isActive,
+        MeAndMyShadowEvent::cleanup
+    );
+    
     /**
      * Trigger shadow clone event
      */
@@ -49,6 +57,7 @@ public class MeAndMyShadowEvent {
         
         if (shadowId != null) {
             activeShadows.put(player.getUuid(), new ShadowEventData(
+                world,
                 player.getUuid(),
                 MAX_DURATION,
                 1,
@@ -64,6 +73,8 @@ public class MeAndMyShadowEvent {
                 0.8f,
                 0.7f
             );
+            
+            HorrorEventRegistry.activate(LIFECYCLE);
         }
     }
     
@@ -106,9 +117,9 @@ public class MeAndMyShadowEvent {
     }
     
     /**
-     * Tick active shadow events
+     * Tick active shadow events (driven by HorrorEventRegistry)
      */
-    public static void tick(ServerWorld world) {
+    public static void tick(MinecraftServer server) {
         Iterator<Map.Entry<UUID, ShadowEventData>> iterator = activeShadows.entrySet().iterator();
         
         while (iterator.hasNext()) {
@@ -116,9 +127,11 @@ public class MeAndMyShadowEvent {
             UUID playerUuid = entry.getKey();
             ShadowEventData data = entry.getValue();
             
-            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(playerUuid);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerUuid);
+            ServerWorld world = data.world;
             
             if (player == null) {
+                discardShadows(data);
                 iterator.remove();
                 continue;
             }
@@ -154,12 +167,7 @@ public class MeAndMyShadowEvent {
             // End event if time expired or no shadows left
             if (data.ticksRemaining <= 0 || data.shadowIds.isEmpty()) {
                 // Clean up remaining shadows
-                for (UUID shadowId : data.shadowIds) {
-                    TheOtherMEEntity shadow = (TheOtherMEEntity) world.getEntity(shadowId);
-                    if (shadow != null) {
-                        shadow.discard();
-                    }
-                }
+                discardShadows(data);
                 
                 player.sendMessage(
                     Text.literal("The shadows fade away...")
@@ -172,16 +180,44 @@ public class MeAndMyShadowEvent {
         }
     }
     
+    /**
+     * Whether any shadow event is running
+     */
+    public static boolean isActive() {
+        return !activeShadows.isEmpty();
+    }
+    
+    /**
+     * End every shadow event and remove the clones
+     */
+    public static void cleanup() {
+        for (ShadowEventData data : activeShadows.values()) {
+            discardShadows(data);
+        }
+        activeShadows.clear();
+    }
+    
+    private static void discardShadows(ShadowEventData data) {
+        for (UUID shadowId : data.shadowIds) {
+            TheOtherMEEntity shadow = (TheOtherMEEntity) data.world.getEntity(shadowId);
+            if (shadow != null) {
+                shadow.discard();
+            }
+        }
+    }
+    
     /**
      * Data class for shadow event tracking
      */
     private static class ShadowEventData {
+        final ServerWorld world;
         final UUID playerUuid;
         int ticksRemaining;
         int duplicateCount;
         final List<UUID> shadowIds;
         
-        ShadowEventData(UUID playerUuid, int ticksRemaining, int duplicateCount, List<UUID> shadowIds) {
+        ShadowEventData(ServerWorld world, UUID playerUuid, int ticksRemaining, int duplicateCount, List<UUID> shadowIds) {
+            this.world = world;
             this.playerUuid = playerUuid;
             this.ticksRemaining = ticksRemaining;
             this.duplicateCount = duplicateCount;
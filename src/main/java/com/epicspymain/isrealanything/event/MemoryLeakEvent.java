@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.world.BlockChangeJournal;
 import net.minecraft.block.BlockState;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -7,12 +8,10 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.BlockPos;
 
-import java.util.*;
-
 /**
  * EVENT 31: MemoryLeak - Block modifications undo themselves
  * Previously broken/placed blocks reappear/disappear randomly
- * Tracks last 50-100 block modifications
+ * Tracks last 100 block modifications per player (BlockChangeJournal, survives restarts)
  * Only affects blocks changed in last 2-5 MC days
  * Changes happen outside render distance
  * Silent (no sound/particles)
@@ -20,69 +19,63 @@ import java.util.*;
  */
 public class MemoryLeakEvent {
     
-    private static final int MAX_TRACKED_BLOCKS = 100;
     private static final int MIN_AGE_TICKS = 48000; // 2 days
     private static final int MAX_AGE_TICKS = 120000; // 5 days
     private static final int BLOCKS_PER_TRIGGER = 5; // 5-10 blocks
     
-    // Track block modifications per player
-    private static final Map<UUID, List<BlockModification>> playerModifications = new HashMap<>();
-    
     /**
-     * Record a block modification
+     * Record a block modification - break/place hooks already feed the journal,
+     * this is for changes made some other way
      */
-    public static void recordBlockChange(ServerPlayerEntity player, BlockPos pos, BlockState oldState, BlockState newState, long worldTime) {
-        List<BlockModification> mods = playerModifications.computeIfAbsent(
-            player.getUuid(),
-            uuid -> new ArrayList<>()
-        );
-        
-        mods.add(new BlockModification(pos, oldState, newState, worldTime));
-        
-        // Limit tracking
-        if (mods.size() > MAX_TRACKED_BLOCKS) {
-            mods.remove(0); // Remove oldest
-        }
+    public static void recordBlockChange(ServerPlayerEntity player, BlockPos pos, BlockState oldState, BlockState newState) {
+        BlockChangeJournal.record(player, pos, oldState, newState);
     }
     
     /**
      * Trigger memory leak event
      */
     public static void trigger(ServerWorld world, ServerPlayerEntity player) {
-        List<BlockModification> mods = playerModifications.get(player.getUuid());
+        BlockChangeJournal journal = BlockChangeJournal.get(world);
+        BlockChangeJournal.History mods = journal != null ? journal.getHistory(player.getUuid()) : null;
         
-        if (mods == null || mods.isEmpty()) {
+        if (mods == null || mods.size() == 0) {
             return;
         }
         
+        // Only affect blocks within age range - a contiguous slice of the journal
         long currentTime = world.getTime();
+        int from = mods.indexAtOrAfter(currentTime - MAX_AGE_TICKS);
+        int to = mods.indexAtOrAfter(currentTime - MIN_AGE_TICKS + 1);
+        if (from >= to) {
+            return;
+        }
+        
         int changedBlocks = 0;
         int maxChanges = BLOCKS_PER_TRIGGER + world.random.nextInt(6);
         
-        // Shuffle to randomize which blocks change
-        List<BlockModification> shuffled = new ArrayList<>(mods);
-        Collections.shuffle(shuffled);
+        // Draw entries in random order, shuffling only as far as we get
+        int[] order = new int[to - from];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = from + i;
+        }
         
-        for (BlockModification mod : shuffled) {
-            if (changedBlocks >= maxChanges) break;
+        for (int i = 0; i < order.length && changedBlocks < maxChanges; i++) {
+            int pick = i + world.random.nextInt(order.length - i);
+            int index = order[pick];
+            order[pick] = order[i];
             
-            long age = currentTime - mod.timestamp;
-            
-            // Only affect blocks within age range
-            if (age < MIN_AGE_TICKS || age > MAX_AGE_TICKS) {
-                continue;
-            }
+            BlockPos pos = mods.getPos(index);
             
             // Check if outside render distance (48 blocks)
-            if (player.getBlockPos().isWithinDistance(mod.pos, 48)) {
+            if (player.getBlockPos().isWithinDistance(pos, 48)) {
                 continue;
             }
             
             // 50% chance to revert to old state, 50% to remove entirely
             if (world.random.nextBoolean()) {
-                world.setBlockState(mod.pos, mod.oldState);
+                world.setBlockState(pos, mods.getOldState(index));
             } else {
-                world.setBlockState(mod.pos, mod.newState);
+                world.setBlockState(pos, mods.getNewState(index));
             }
             
             changedBlocks++;
@@ -105,21 +98,4 @@ public class MemoryLeakEvent {
             );
         }
     }
-    
-    /**
-     * Block modification record
-     */
-    private static class BlockModification {
-        final BlockPos pos;
-        final BlockState oldState;
-        final BlockState newState;
-        final long timestamp;
-        
-        BlockModification(BlockPos pos, BlockState oldState, BlockState newState, long timestamp) {
-            this.pos = pos;
-            this.oldState = oldState;
-            this.newState = newState;
-            this.timestamp = timestamp;
-        }
-    }
 }
@@ -1,6 +1,11 @@
 package com.epicspymain.isrealanything.event;
 
-import net.minecraft.block.Block;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.world.BlockEditSession;
+import com.epicspymain.isrealanything.world.BlockStateRemap;
+import com.epicspymain.isrealanything.world.LoadedTerrain;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.SignBlockEntity;
@@ -13,14 +18,20 @@ import net.minecraft.nbt.NbtString;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
+import net.minecraft.util.BlockMirror;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
 
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * EVENT 30: MirrorWorld - Duplicate player's base
@@ -29,29 +40,31 @@ import java.util.UUID;
  * Block swaps: Oak→Dark Oak, Stone→Deepslate, etc.
  * Signs with cryptic messages
  * Chest with "Reflection" book
+ * PREPARED holds the mirror site's chunks during the build-up (EventPreparer lead, 5 seconds by default)
+ * Copies work on section palettes and keep block properties (stairs, doors...)
  */
 public class MirrorWorldEvent {
     
     private static final int MIRROR_DISTANCE = 150; // 100+ blocks away
     private static final int CAPTURE_SIZE = 30; // 30x30x30 area
+    private static final int MIRROR_REACH = Math.max(CAPTURE_SIZE / 2, 10); // Mirror plus sign/chest search
     private static final Set<UUID> triggeredPlayers = new HashSet<>();
     
-    // Block transformation map
-    private static final Map<Block, Block> BLOCK_TRANSFORMS = new HashMap<>();
-    
-    static {
-        BLOCK_TRANSFORMS.put(Blocks.OAK_PLANKS, Blocks.DARK_OAK_PLANKS);
-        BLOCK_TRANSFORMS.put(Blocks.OAK_LOG, Blocks.DARK_OAK_LOG);
-        BLOCK_TRANSFORMS.put(Blocks.OAK_WOOD, Blocks.DARK_OAK_WOOD);
-        BLOCK_TRANSFORMS.put(Blocks.STONE, Blocks.DEEPSLATE);
-        BLOCK_TRANSFORMS.put(Blocks.COBBLESTONE, Blocks.COBBLED_DEEPSLATE);
-        BLOCK_TRANSFORMS.put(Blocks.STONE_BRICKS, Blocks.DEEPSLATE_BRICKS);
-        BLOCK_TRANSFORMS.put(Blocks.TORCH, Blocks.SOUL_TORCH);
-        BLOCK_TRANSFORMS.put(Blocks.GLASS, Blocks.GRAY_STAINED_GLASS);
-        BLOCK_TRANSFORMS.put(Blocks.WHITE_WOOL, Blocks.BLACK_WOOL);
-        BLOCK_TRANSFORMS.put(Blocks.LIGHT_GRAY_WOOL, Blocks.GRAY_WOOL);
-        BLOCK_TRANSFORMS.put(Blocks.GLOWSTONE, Blocks.SHROOMLIGHT);
-    }
+    // Block transformation table (properties carried over)
+    private static final BlockStateRemap BLOCK_TRANSFORMS = BlockStateRemap.builder()
+        .map(Blocks.OAK_PLANKS, Blocks.DARK_OAK_PLANKS)
+        .map(Blocks.OAK_LOG, Blocks.DARK_OAK_LOG)
+        .map(Blocks.OAK_WOOD, Blocks.DARK_OAK_WOOD)
+        .map(Blocks.STONE, Blocks.DEEPSLATE)
+        .map(Blocks.COBBLESTONE, Blocks.COBBLED_DEEPSLATE)
+        .map(Blocks.STONE_BRICKS, Blocks.DEEPSLATE_BRICKS)
+        .map(Blocks.TORCH, Blocks.SOUL_TORCH)
+        .map(Blocks.WALL_TORCH, Blocks.SOUL_WALL_TORCH)
+        .map(Blocks.GLASS, Blocks.GRAY_STAINED_GLASS)
+        .map(Blocks.WHITE_WOOL, Blocks.BLACK_WOOL)
+        .map(Blocks.LIGHT_GRAY_WOOL, Blocks.GRAY_WOOL)
+        .map(Blocks.GLOWSTONE, Blocks.SHROOMLIGHT)
+        .build();
     
     // Sign messages
     private static final String[] SIGN_MESSAGES = {
@@ -78,68 +91,199 @@ public class MirrorWorldEvent {
             false
         );
         
-        // Capture and mirror the base
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(3000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
-            createMirrorWorld(world, player);
+        // Capture the base now, mirror it once the far-away site has loaded
+        TickScheduler.runAfter(player, 60, () -> {
+            BlockPos playerPos = player.getBlockPos();
+            BlockPos mirrorCenter = pickMirrorCenter(world, playerPos);
+            Long2ObjectMap<PalettedContainer<BlockState>> sections = snapshot(world, playerPos);
+            boolean mirrorX = world.random.nextBoolean();
             
-            player.sendMessage(
-                Text.literal("I made you a gift. Go find it.")
-                    .formatted(Formatting.DARK_PURPLE),
-                false
-            );
+            LoadedTerrain.whenLoaded(world, mirrorCenter, MIRROR_REACH, () -> {
+                createMirrorWorld(world, sections, playerPos, mirrorCenter, mirrorX);
+                sendGiftMessage(player);
+            });
         });
     }
     
     /**
-     * Create the mirrored base
+     * Two-phase trigger - the build-up message goes out on prepare while the
+     * mirror site loads, the copy happens on commit (which is also when the
+     * player counts as triggered, a dropped preparation leaves them eligible)
      */
-    private static void createMirrorWorld(ServerWorld world, ServerPlayerEntity player) {
-        BlockPos playerPos = player.getBlockPos();
+    public static final PreparedEvent PREPARED = player -> {
+        if (triggeredPlayers.contains(player.getUuid())) {
+            return null;
+        }
+        
+        player.sendMessage(
+            Text.literal("I'm creating something for you...")
+                .formatted(Formatting.DARK_PURPLE, Formatting.ITALIC),
+            false
+        );
+        
+        return new MirrorPreparation((ServerWorld) player.getWorld(), player.getBlockPos());
+    };
+    
+    private static class MirrorPreparation extends EventPreparation {
+        private final BlockPos mirrorCenter;
+        private final CompletableFuture<BlockEditSession> mirrored;
+        
+        MirrorPreparation(ServerWorld world, BlockPos sourceCenter) {
+            super(world);
+            this.mirrorCenter = pickMirrorCenter(world, sourceCenter);
+            boolean mirrorX = world.random.nextBoolean();
+            
+            // Snapshot now, mirror on the worker pool - the base is captured as it is at this moment
+            Long2ObjectMap<PalettedContainer<BlockState>> sections = snapshot(world, sourceCenter);
+            this.mirrored = async(() -> buildMirror(world, sections, sourceCenter, mirrorCenter, mirrorX));
+            
+            // Cover the whole target area, sign/chest search included
+            for (int x = -MIRROR_REACH; x <= MIRROR_REACH + 15; x += 16) {
+                for (int z = -MIRROR_REACH; z <= MIRROR_REACH + 15; z += 16) {
+                    holdChunk(mirrorCenter.add(Math.min(x, MIRROR_REACH), 0, Math.min(z, MIRROR_REACH)));
+                }
+            }
+        }
         
-        // Calculate mirror position (150 blocks away, random direction)
+        @Override
+        public void commit(ServerPlayerEntity player) {
+            if (!triggeredPlayers.add(player.getUuid())) {
+                return;
+            }
+            mirrored.join().commit();
+            placeGifts(world, mirrorCenter);
+            sendGiftMessage(player);
+        }
+    }
+    
+    /**
+     * Mirror position (150 blocks away, random direction)
+     */
+    private static BlockPos pickMirrorCenter(ServerWorld world, BlockPos playerPos) {
         double angle = world.random.nextDouble() * Math.PI * 2;
-        BlockPos mirrorCenter = playerPos.add(
+        return playerPos.add(
             (int)(Math.cos(angle) * MIRROR_DISTANCE),
             0,
             (int)(Math.sin(angle) * MIRROR_DISTANCE)
         );
+    }
+    
+    private static void sendGiftMessage(ServerPlayerEntity player) {
+        player.sendMessage(
+            Text.literal("I made you a gift. Go find it.")
+                .formatted(Formatting.DARK_PURPLE),
+            false
+        );
+    }
+    
+    /**
+     * Create the mirrored base (all on this tick - PREPARED builds it off-thread)
+     * @param mirrorX mirror along X (otherwise Z)
+     */
+    private static void createMirrorWorld(
+        ServerWorld world,
+        Long2ObjectMap<PalettedContainer<BlockState>> sections,
+        BlockPos playerPos,
+        BlockPos mirrorCenter,
+        boolean mirrorX
+    ) {
+        buildMirror(world, sections, playerPos, mirrorCenter, mirrorX).commit();
+        placeGifts(world, mirrorCenter);
+    }
+    
+    /**
+     * Copy the source area's sections - cheap array copies, main thread
+     * Empty (all air) sections and unloaded chunks are left out
+     */
+    private static Long2ObjectMap<PalettedContainer<BlockState>> snapshot(ServerWorld world, BlockPos center) {
+        Long2ObjectMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+        int halfSize = CAPTURE_SIZE / 2;
+        int minY = Math.max(center.getY() - halfSize, world.getBottomY());
+        int maxY = Math.min(center.getY() + halfSize, world.getTopYInclusive());
         
-        // Decide mirror axis (X or Z)
-        boolean mirrorX = world.random.nextBoolean();
-        
-        // Copy and mirror blocks
+        for (int sx = (center.getX() - halfSize) >> 4; sx <= (center.getX() + halfSize) >> 4; sx++) {
+            for (int sz = (center.getZ() - halfSize) >> 4; sz <= (center.getZ() + halfSize) >> 4; sz++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(sx, sz);
+                if (chunk == null) {
+                    continue;
+                }
+                for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                    ChunkSection section = chunk.getSection(world.sectionCoordToIndex(sy));
+                    if (!section.isEmpty()) {
+                        sections.put(ChunkSectionPos.asLong(sx, sy, sz), section.getBlockStateContainer().copy());
+                    }
+                }
+            }
+        }
+        return sections;
+    }
+    
+    /**
+     * Mirror a snapshot into an edit session - touches no live world state, safe off-thread
+     * Each section's palette is remapped once (transform + mirror), then its
+     * entries are written to the mirrored positions
+     */
+    private static BlockEditSession buildMirror(
+        ServerWorld world,
+        Long2ObjectMap<PalettedContainer<BlockState>> sections,
+        BlockPos source,
+        BlockPos mirrorCenter,
+        boolean mirrorX
+    ) {
+        BlockEditSession session = new BlockEditSession(world);
+        BlockMirror mirror = mirrorX ? BlockMirror.FRONT_BACK : BlockMirror.LEFT_RIGHT;
         int halfSize = CAPTURE_SIZE / 2;
-        for (int x = -halfSize; x <= halfSize; x++) {
-            for (int y = -halfSize; y <= halfSize; y++) {
-                for (int z = -halfSize; z <= halfSize; z++) {
-                    BlockPos sourcePos = playerPos.add(x, y, z);
-                    BlockState sourceState = world.getBlockState(sourcePos);
-                    
-                    if (sourceState.isAir()) continue;
-                    
-                    // Calculate mirrored position
-                    BlockPos targetPos;
-                    if (mirrorX) {
-                        targetPos = mirrorCenter.add(-x, y, z); // Mirror along X
-                    } else {
-                        targetPos = mirrorCenter.add(x, y, -z); // Mirror along Z
+        Map<BlockState, BlockState> remap = new IdentityHashMap<>();
+        
+        for (Long2ObjectMap.Entry<PalettedContainer<BlockState>> entry : sections.long2ObjectEntrySet()) {
+            ChunkSectionPos sectionPos = ChunkSectionPos.from(entry.getLongKey());
+            PalettedContainer<BlockState> container = entry.getValue();
+            
+            // Palette entries first - every block after that is a lookup
+            container.count((state, count) -> remap.computeIfAbsent(state, key -> transform(key, mirror)));
+            
+            // Part of the capture box inside this section, relative to the source
+            int minX = Math.max(sectionPos.getMinX(), source.getX() - halfSize);
+            int maxX = Math.min(sectionPos.getMaxX(), source.getX() + halfSize);
+            int minY = Math.max(sectionPos.getMinY(), source.getY() - halfSize);
+            int maxY = Math.min(sectionPos.getMaxY(), source.getY() + halfSize);
+            int minZ = Math.max(sectionPos.getMinZ(), source.getZ() - halfSize);
+            int maxZ = Math.min(sectionPos.getMaxZ(), source.getZ() + halfSize);
+            
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int y = minY; y <= maxY; y++) {
+                        BlockState sourceState = container.get(x & 15, y & 15, z & 15);
+                        if (sourceState.isAir()) continue;
+                        
+                        int dx = x - source.getX();
+                        int dz = z - source.getZ();
+                        int targetY = mirrorCenter.getY() + (y - source.getY());
+                        
+                        if (mirrorX) {
+                            session.set(mirrorCenter.getX() - dx, targetY, mirrorCenter.getZ() + dz, remap.get(sourceState)); // Mirror along X
+                        } else {
+                            session.set(mirrorCenter.getX() + dx, targetY, mirrorCenter.getZ() - dz, remap.get(sourceState)); // Mirror along Z
+                        }
                     }
-                    
-                    // Transform block
-                    Block sourceBlock = sourceState.getBlock();
-                    Block targetBlock = BLOCK_TRANSFORMS.getOrDefault(sourceBlock, sourceBlock);
-                    
-                    world.setBlockState(targetPos, targetBlock.getDefaultState());
                 }
             }
         }
         
+        return session;
+    }
+    
+    /**
+     * Swap the block (keeping its properties - facing, half, open...) and mirror it
+     */
+    private static BlockState transform(BlockState sourceState, BlockMirror mirror) {
+        return BLOCK_TRANSFORMS.apply(sourceState).mirror(mirror);
+    }
+    
+    /**
+     * Signs with messages and the chest with the book
+     */
+    private static void placeGifts(ServerWorld world, BlockPos mirrorCenter) {
         // Place signs with messages
         for (int i = 0; i < 3; i++) {
             BlockPos signPos = findSignLocation(world, mirrorCenter);
@@ -162,10 +306,10 @@ public class MirrorWorldEvent {
         for (int attempt = 0; attempt < 10; attempt++) {
             int x = center.getX() + world.random.nextInt(20) - 10;
             int z = center.getZ() + world.random.nextInt(20) - 10;
-            BlockPos pos = new BlockPos(x, center.getY(), z);
-            pos = world.getTopPosition(net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, pos);
+            BlockPos pos = LoadedTerrain.getTopPosition(world, net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+                new BlockPos(x, center.getY(), z));
             
-            if (world.getBlockState(pos).isAir()) {
+            if (pos != null && world.getBlockState(pos).isAir()) {
                 return pos;
             }
         }
@@ -1,5 +1,7 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.ScheduledTask;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import com.epicspymain.isrealanything.screen.FaceOverlayRenderer;
 import net.minecraft.server.network.ServerPlayerEntity;
 
@@ -11,6 +13,7 @@ public class MyBeautifulFaceEvent {
 
     private static final Map<UUID, Boolean> activePlayers = new HashMap<>();
     private static final Map<UUID, Integer> closenessMap = new HashMap<>();
+    private static final Map<UUID, ScheduledTask> approachTasks = new HashMap<>();
 
     /**
      * Start the face approaching effect for a player
@@ -20,24 +23,22 @@ public class MyBeautifulFaceEvent {
         activePlayers.put(uuid, true);
         closenessMap.put(uuid, 0);
 
-        // Gradually increase closeness over time
-        new Thread(() -> {
-            try {
-                for (int i = 0; i <= 1000; i += 10) {
-                    final int closeness = i;
-                    closenessMap.put(uuid, closeness);
-                    Thread.sleep(100);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        // Gradually increase closeness over time (+10 every 2 ticks, 0 to 1000)
+        ScheduledTask previous = approachTasks.put(uuid,
+                TickScheduler.runRepeating(player, 1, 2, 101, i -> closenessMap.put(uuid, i * 10)));
+        if (previous != null) {
+            previous.cancel();
+        }
     }
 
     /**
      * Stop the face effect for a player
      */
     public static void stop(UUID uuid) {
+        ScheduledTask task = approachTasks.remove(uuid);
+        if (task != null) {
+            task.cancel();
+        }
         activePlayers.put(uuid, false);
         closenessMap.put(uuid, 0);
     }
@@ -3,6 +3,7 @@ package com.epicspymain.isrealanything.event;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Box;
@@ -27,6 +28,13 @@ public class MyMobPalsEvent {
     // Track possessed mobs and their original stats
     private static final Map<UUID, PossessedMobData> possessedMobs = new HashMap<>();
     
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+        MyMobPalsEvent::trigger,
+        MyMobPalsEvent::tick,
+        MyMobPalsEvent::isActive,
+        MyMobPalsEvent::cleanup
+    );
+    
     /**
      * Trigger mob possession event
      */
@@ -45,19 +53,22 @@ public class MyMobPalsEvent {
         );
         
         for (MobEntity mob : nearbyMobs) {
-            possessMob(mob, player);
+            possessMob(world, mob, player);
         }
+        
+        HorrorEventRegistry.activate(LIFECYCLE);
     }
     
     /**
      * Possess a single mob
      */
-    private static void possessMob(MobEntity mob, ServerPlayerEntity player) {
+    private static void possessMob(ServerWorld world, MobEntity mob, ServerPlayerEntity player) {
         // Store original stats
         double originalSpeed = mob.getAttributeValue(EntityAttributes.MOVEMENT_SPEED);
         double originalDamage = mob.getAttributeValue(EntityAttributes.MOVEMENT_SPEED);
         
         PossessedMobData data = new PossessedMobData(
+            world,
             originalSpeed,
             originalDamage,
             POSSESSION_DURATION,
@@ -78,9 +89,9 @@ public class MyMobPalsEvent {
     }
     
     /**
-     * Tick all possessed mobs (call from server tick)
+     * Tick all possessed mobs (driven by HorrorEventRegistry)
      */
-    public static void tick(ServerWorld world) {
+    public static void tick(MinecraftServer server) {
         Iterator<Map.Entry<UUID, PossessedMobData>> iterator = possessedMobs.entrySet().iterator();
         
         while (iterator.hasNext()) {
@@ -94,7 +105,7 @@ public class MyMobPalsEvent {
             // Check if possession ended
             if (data.ticksRemaining <= 0) {
                 // Find mob and restore stats
-                LivingEntity mob = (LivingEntity) world.getEntity(mobUuid);
+                LivingEntity mob = (LivingEntity) data.world.getEntity(mobUuid);
                 if (mob != null && mob.isAlive()) {
                     restoreMob((MobEntity) mob, data);
                 }
@@ -103,6 +114,25 @@ public class MyMobPalsEvent {
         }
     }
     
+    /**
+     * Whether any mob is still possessed
+     */
+    public static boolean isActive() {
+        return !possessedMobs.isEmpty();
+    }
+    
+    /**
+     * Release every possessed mob back to its original stats
+     */
+    public static void cleanup() {
+        for (Map.Entry<UUID, PossessedMobData> entry : possessedMobs.entrySet()) {
+            if (entry.getValue().world.getEntity(entry.getKey()) instanceof MobEntity mob && mob.isAlive()) {
+                restoreMob(mob, entry.getValue());
+            }
+        }
+        possessedMobs.clear();
+    }
+    
     /**
      * Restore mob to original state
      */
@@ -134,12 +164,14 @@ public class MyMobPalsEvent {
      * Data class for possessed mob state
      */
     public static class PossessedMobData {
+        public final ServerWorld world;
         public final double originalSpeed;
         public final double originalDamage;
         public int ticksRemaining;
         public final UUID targetPlayerUuid;
         
-        public PossessedMobData(double originalSpeed, double originalDamage, int ticksRemaining, UUID targetPlayerUuid) {
+        public PossessedMobData(ServerWorld world, double originalSpeed, double originalDamage, int ticksRemaining, UUID targetPlayerUuid) {
+            this.world = world;
             this.originalSpeed = originalSpeed;
             this.originalDamage = originalDamage;
             this.ticksRemaining = ticksRemaining;
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.world.SpawnCandidates;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.SignBlockEntity;
 import net.minecraft.block.entity.SignText;
@@ -77,27 +78,10 @@ public class MyVoiceSignsEvent {
      * Find location for sign placement
      */
     private static BlockPos findSignLocation(ServerWorld world, ServerPlayerEntity player) {
-        BlockPos playerPos = player.getBlockPos();
-        
-        for (int attempt = 0; attempt < 30; attempt++) {
-            // Random angle and distance
-            double angle = world.random.nextDouble() * Math.PI * 2;
-            int distance = MIN_RADIUS + world.random.nextInt(MAX_RADIUS - MIN_RADIUS);
-            
-            int x = playerPos.getX() + (int)(Math.cos(angle) * distance);
-            int z = playerPos.getZ() + (int)(Math.sin(angle) * distance);
-            
-            // Find ground level
-            BlockPos testPos = new BlockPos(x, playerPos.getY(), z);
-            testPos = world.getTopPosition(net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, testPos);
-            
-            // Check if location is suitable
-            if (world.getBlockState(testPos).isAir() &&
-                world.getBlockState(testPos.down()).isSolidBlock(world, testPos.down())) {
-                return testPos;
-            }
-        }
-        
-        return null;
+        return SpawnCandidates.query(player)
+            .distance(MIN_RADIUS, MAX_RADIUS)
+            .air()
+            .solidGround()
+            .pick();
     }
 }
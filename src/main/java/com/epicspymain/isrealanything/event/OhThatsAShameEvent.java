@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import com.epicspymain.isrealanything.sound.ModSounds;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -39,13 +40,7 @@ public class OhThatsAShameEvent {
         );
         
         // Follow-up message
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 40, () -> {
             player.sendMessage(
                 Text.literal("Did you really think you owned those items?")
                     .formatted(Formatting.GRAY, Formatting.ITALIC),
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -33,6 +34,13 @@ public class OverlayTextEvent {
     // Track active overlays
     private static final Map<UUID, OverlayData> activeOverlays = new HashMap<>();
     
+    public static final HorrorEvent LIFECYCLE = HorrorEvent.of(
+        (world, player) -> trigger(player),
+        OverlayTextEvent::tick,
+        OverlayTextEvent::isActive,
+        OverlayTextEvent::cleanup
+    );
+    
     /**
      * Trigger overlay text event
      */
@@ -46,18 +54,29 @@ public class OverlayTextEvent {
             DURATION,
             0
         ));
+        
+        HorrorEventRegistry.activate(LIFECYCLE);
     }
     
     /**
-     * Tick overlay texts
+     * Tick overlay texts (driven by HorrorEventRegistry)
      */
-    public static void tick(ServerPlayerEntity player) {
-        OverlayData data = activeOverlays.get(player.getUuid());
-        
-        if (data == null) {
-            return;
-        }
-        
+    public static void tick(MinecraftServer server) {
+        activeOverlays.entrySet().removeIf(entry -> {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.getKey());
+            
+            if (player == null) {
+                return true; // Remove if player gone
+            }
+            
+            return tickOverlay(player, entry.getValue());
+        });
+    }
+    
+    /**
+     * Flash the next message, returns true once the overlay is finished
+     */
+    private static boolean tickOverlay(ServerPlayerEntity player, OverlayData data) {
         data.ticksRemaining--;
         data.flashTimer++;
         
@@ -89,11 +108,26 @@ public class OverlayTextEvent {
         
         // Remove when complete
         if (data.ticksRemaining <= 0) {
-            activeOverlays.remove(player.getUuid());
-            
             // Clear action bar
             player.sendMessage(Text.literal(""), true);
+            return true;
         }
+        
+        return false;
+    }
+    
+    /**
+     * Whether any overlay is still flashing
+     */
+    public static boolean isActive() {
+        return !activeOverlays.isEmpty();
+    }
+    
+    /**
+     * Drop all overlays
+     */
+    public static void cleanup() {
+        activeOverlays.clear();
     }
     
     /**
@@ -0,0 +1,20 @@
+package com.epicspymain.isrealanything.event;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * PreparedEvent - Event split into a prepare and a commit stage
+ *
+ * prepare() runs on the main thread ahead of the trigger (see EventPreparer).
+ * It should only pick positions, request chunk tickets and start async work
+ * such as template decoding. The returned EventPreparation commits later,
+ * once everything is ready, and does nothing but the world mutation.
+ */
+@FunctionalInterface
+public interface PreparedEvent {
+
+    /**
+     * Start preparing for a player - returns null if the event can't happen
+     */
+    EventPreparation prepare(ServerPlayerEntity player);
+}
@@ -1,16 +1,16 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.world.BaseIndex;
+import com.epicspymain.isrealanything.world.BlockSearch;
+import com.epicspymain.isrealanything.world.BlockStateRemap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 /**
  * EVENT 2: RandomBlockReplace - Subtle block swapping
  * Swaps blocks in/near base (stone↔dirt, torch↔redstone torch)
@@ -18,22 +18,17 @@ import java.util.Map;
  */
 public class RandomBlockReplaceEvent {
     
-    // Block swap pairs
-    private static final Map<Block, Block> BLOCK_SWAPS = new HashMap<>();
+    // Block swap pairs (bidirectional, properties carried over)
+    private static final BlockStateRemap BLOCK_SWAPS = BlockStateRemap.builder()
+        .swap(Blocks.STONE, Blocks.DIRT)
+        .swap(Blocks.TORCH, Blocks.REDSTONE_TORCH)
+        .swap(Blocks.WALL_TORCH, Blocks.REDSTONE_WALL_TORCH)
+        .swap(Blocks.COBBLESTONE, Blocks.GRAVEL)
+        .swap(Blocks.OAK_PLANKS, Blocks.SPRUCE_PLANKS)
+        .build();
     
-    static {
-        // Bidirectional swaps
-        BLOCK_SWAPS.put(Blocks.STONE, Blocks.DIRT);
-        BLOCK_SWAPS.put(Blocks.DIRT, Blocks.STONE);
-        BLOCK_SWAPS.put(Blocks.TORCH, Blocks.REDSTONE_TORCH);
-        BLOCK_SWAPS.put(Blocks.REDSTONE_TORCH, Blocks.TORCH);
-        BLOCK_SWAPS.put(Blocks.WALL_TORCH, Blocks.REDSTONE_WALL_TORCH);
-        BLOCK_SWAPS.put(Blocks.REDSTONE_WALL_TORCH, Blocks.WALL_TORCH);
-        BLOCK_SWAPS.put(Blocks.COBBLESTONE, Blocks.GRAVEL);
-        BLOCK_SWAPS.put(Blocks.GRAVEL, Blocks.COBBLESTONE);
-        BLOCK_SWAPS.put(Blocks.OAK_PLANKS, Blocks.SPRUCE_PLANKS);
-        BLOCK_SWAPS.put(Blocks.SPRUCE_PLANKS, Blocks.OAK_PLANKS);
-    }
+    // Building blocks (BaseIndex) needed nearby to count as a base
+    private static final int BASE_THRESHOLD = 30;
     
     /**
      * Trigger block swap event near player
@@ -48,17 +43,20 @@ public class RandomBlockReplaceEvent {
         int swapCount = hasBase ? 5 : 3; // More swaps if base detected
         
         // Find swappable blocks
-        List<BlockPos> swappablePositions = findSwappableBlocks(world, playerPos, radius);
+        LongArrayList swappablePositions = findSwappableBlocks(world, playerPos, radius);
         
         if (swappablePositions.isEmpty()) {
             return; // No valid blocks to swap
         }
         
         // Perform swaps
-        for (int i = 0; i < Math.min(swapCount, swappablePositions.size()); i++) {
-            BlockPos pos = swappablePositions.get(world.random.nextInt(swappablePositions.size()));
-            swapBlock(world, pos);
-            swappablePositions.remove(pos); // Don't swap same block twice
+        for (int i = 0; i < swapCount && !swappablePositions.isEmpty(); i++) {
+            int index = world.random.nextInt(swappablePositions.size());
+            swapBlock(world, BlockPos.fromLong(swappablePositions.getLong(index)));
+            
+            // Don't swap same block twice
+            swappablePositions.set(index, swappablePositions.getLong(swappablePositions.size() - 1));
+            swappablePositions.removeLong(swappablePositions.size() - 1);
         }
     }
     
@@ -66,64 +64,27 @@ public class RandomBlockReplaceEvent {
      * Detect if player has a base nearby (many player-placed blocks)
      */
     private static boolean detectBase(ServerWorld world, BlockPos center) {
-        int playerBlockCount = 0;
-        
-        for (int x = -15; x <= 15; x++) {
-            for (int y = -5; y <= 5; y++) {
-                for (int z = -15; z <= 15; z++) {
-                    BlockPos pos = center.add(x, y, z);
-                    Block block = world.getBlockState(pos).getBlock();
-                    
-                    // Check for common building blocks
-                    if (block == Blocks.OAK_PLANKS || 
-                        block == Blocks.SPRUCE_PLANKS ||
-                        block == Blocks.COBBLESTONE ||
-                        block == Blocks.STONE_BRICKS ||
-                        block == Blocks.TORCH ||
-                        block == Blocks.CRAFTING_TABLE ||
-                        block == Blocks.FURNACE ||
-                        block == Blocks.CHEST) {
-                        playerBlockCount++;
-                    }
-                }
-            }
-        }
+        int playerBlockCount = BaseIndex.count(world, center, 15, 5); // Same +-5 band the block scan used
         
-        return playerBlockCount > 30; // Base detected if 30+ building blocks
+        return playerBlockCount > BASE_THRESHOLD; // Base detected if 30+ building blocks
     }
     
     /**
-     * Find all swappable blocks in radius
+     * Find all swappable blocks in radius (packed BlockPos longs)
      */
-    private static List<BlockPos> findSwappableBlocks(ServerWorld world, BlockPos center, int radius) {
-        List<BlockPos> swappable = new ArrayList<>();
-        
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    BlockPos pos = center.add(x, y, z);
-                    Block block = world.getBlockState(pos).getBlock();
-                    
-                    // Check if block can be swapped
-                    if (BLOCK_SWAPS.containsKey(block)) {
-                        swappable.add(pos);
-                    }
-                }
-            }
-        }
-        
-        return swappable;
+    private static LongArrayList findSwappableBlocks(ServerWorld world, BlockPos center, int radius) {
+        return BlockSearch.findAll(world, BlockSearch.around(center, radius, radius, radius),
+                BLOCK_SWAPS::remaps);
     }
     
     /**
      * Swap a block with its pair
      */
     private static void swapBlock(ServerWorld world, BlockPos pos) {
-        Block currentBlock = world.getBlockState(pos).getBlock();
-        Block newBlock = BLOCK_SWAPS.get(currentBlock);
+        BlockState currentState = world.getBlockState(pos);
         
-        if (newBlock != null) {
-            world.setBlockState(pos, newBlock.getDefaultState(), Block.NOTIFY_ALL);
+        if (BLOCK_SWAPS.remaps(currentState)) {
+            world.setBlockState(pos, BLOCK_SWAPS.apply(currentState), Block.NOTIFY_ALL);
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -32,13 +33,7 @@ public class RandomTPEvent {
         );
         
         // Send coordinates in chat after delay
-        player.getServer().execute(() -> {
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 20, () -> {
             player.sendMessage(
                 Text.literal("Coordinates: " + (int)TP_X + ", " + (int)TP_Y + ", " + (int)TP_Z)
                     .formatted(Formatting.GRAY),
@@ -0,0 +1,76 @@
+package com.epicspymain.isrealanything.event;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.event.helpers.TNTSpawner;
+import com.epicspymain.isrealanything.file.JsonReader;
+import com.epicspymain.isrealanything.scheduler.TickBudget;
+import com.epicspymain.isrealanything.scheduler.WorldJobs;
+import com.google.gson.JsonObject;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * ServerTuning - Tick budget, admission and TNT limits
+ *
+ * Read from config/isrealanything/server_tuning.json (written with defaults
+ * on first run) and pushed into TickBudget, WorldJobs, EventAdmission,
+ * EventPreparer and TNTSpawner on server start. Event weights and cooldowns
+ * live separately in EventCatalog.
+ */
+public class ServerTuning {
+
+    private static final String CONFIG_NAME = "server_tuning";
+
+    // Heavy event and world job budgets (see TickBudget, WorldJobs)
+    private static final double DEFAULT_TARGET_MSPT = 40.0;
+    private static final double DEFAULT_HEAVY_BUDGET_MS = 10.0;
+    private static final int DEFAULT_MAX_DEFERRAL_TICKS = 600;
+    private static final double DEFAULT_WORLD_JOB_BUDGET_MS = 5.0;
+
+    // Heavy event admission and prepare lead (see EventAdmission, EventPreparer)
+    private static final int DEFAULT_MAX_CONCURRENT_HEAVY = 1;
+    private static final int DEFAULT_HEAVY_SPACING_TICKS = 100;
+    private static final int DEFAULT_PREPARE_LEAD_TICKS = 100;
+
+    // Real TNT entities per scripted TNT burst (see TNTSpawner)
+    private static final int DEFAULT_MAX_VISUAL_TNT = 12;
+
+    /**
+     * Load limits from config and configure each subsystem (server start)
+     */
+    public static void load(MinecraftServer server) {
+        // Re-read from disk every server start so edits apply without code changes
+        JsonObject config = JsonReader.reloadConfig(CONFIG_NAME);
+        if (config == null) {
+            config = createDefaultConfig();
+            JsonReader.saveModConfig(CONFIG_NAME, config);
+        }
+
+        TickBudget.configure(
+                JsonReader.getDouble(config, "targetMspt", DEFAULT_TARGET_MSPT),
+                JsonReader.getDouble(config, "heavyBudgetMs", DEFAULT_HEAVY_BUDGET_MS),
+                JsonReader.getInt(config, "maxDeferralTicks", DEFAULT_MAX_DEFERRAL_TICKS)
+        );
+        WorldJobs.configure(JsonReader.getDouble(config, "worldJobBudgetMs", DEFAULT_WORLD_JOB_BUDGET_MS));
+        EventAdmission.configure(
+                JsonReader.getInt(config, "maxConcurrentHeavy", DEFAULT_MAX_CONCURRENT_HEAVY),
+                JsonReader.getInt(config, "heavySpacingTicks", DEFAULT_HEAVY_SPACING_TICKS)
+        );
+        EventPreparer.configure(JsonReader.getInt(config, "prepareLeadTicks", DEFAULT_PREPARE_LEAD_TICKS));
+        TNTSpawner.configure(JsonReader.getInt(config, "maxVisualTnt", DEFAULT_MAX_VISUAL_TNT));
+
+        IsRealAnything.LOGGER.info("Server tuning loaded");
+    }
+
+    private static JsonObject createDefaultConfig() {
+        JsonObject config = new JsonObject();
+        config.addProperty("targetMspt", DEFAULT_TARGET_MSPT);
+        config.addProperty("heavyBudgetMs", DEFAULT_HEAVY_BUDGET_MS);
+        config.addProperty("maxDeferralTicks", DEFAULT_MAX_DEFERRAL_TICKS);
+        config.addProperty("worldJobBudgetMs", DEFAULT_WORLD_JOB_BUDGET_MS);
+        config.addProperty("maxConcurrentHeavy", DEFAULT_MAX_CONCURRENT_HEAVY);
+        config.addProperty("heavySpacingTicks", DEFAULT_HEAVY_SPACING_TICKS);
+        config.addProperty("prepareLeadTicks", DEFAULT_PREPARE_LEAD_TICKS);
+        config.addProperty("maxVisualTnt", DEFAULT_MAX_VISUAL_TNT);
+        return config;
+    }
+}
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.world.LoadedTerrain;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.SignBlockEntity;
 import net.minecraft.block.entity.SignText;
@@ -28,7 +29,10 @@ public class SignEvent {
             BlockPos signPos = playerPos.add(offsetX, 0, offsetZ);
 
             // Find ground level
-            signPos = world.getTopPosition(net.minecraft.world.Heightmap.Type.WORLD_SURFACE, signPos);
+            signPos = LoadedTerrain.getTopPosition(world, net.minecraft.world.Heightmap.Type.WORLD_SURFACE, signPos);
+            if (signPos == null) {
+                continue; // Chunk not loaded
+            }
 
             // Check if location is safe (not in liquid, not replacing important blocks)
             if (world.getBlockState(signPos).isAir() &&
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.FallingBlockEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -35,15 +36,7 @@ public class SixtyNinthMoodEvent {
         
         // Spawn falling lava blocks
         for (int i = 0; i < LAVA_COUNT; i++) {
-            final int lavaIndex = i;
-            
-            world.getServer().execute(() -> {
-                try {
-                    Thread.sleep(100L * lavaIndex); // Stagger spawns
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 2 * i, () -> { // Stagger spawns (100ms apart)
                 // Random position around player
                 double offsetX = (world.random.nextDouble() - 0.5) * SPAWN_RADIUS * 2;
                 double offsetZ = (world.random.nextDouble() - 0.5) * SPAWN_RADIUS * 2;
@@ -69,13 +62,7 @@ public class SixtyNinthMoodEvent {
         }
         
         // Final message
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(3000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 60, () -> {
             player.sendMessage(
                 Text.literal("It's raining fire.")
                     .formatted(Formatting.RED),
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import com.epicspymain.isrealanything.sound.ModSounds;
 import net.minecraft.entity.Entity;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -81,14 +82,7 @@ public class SoundCreepEvent {
         int stepCount = 3 + world.random.nextInt(3);
         
         for (int i = 0; i < stepCount; i++) {
-            final int step = i;
-            world.getServer().execute(() -> {
-                try {
-                    Thread.sleep(300L * step); // 300ms between steps
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 6 * i, () -> { // 6 ticks (300ms) between steps
                 world.playSound(
                     null,
                     soundPos,
@@ -127,13 +121,7 @@ public class SoundCreepEvent {
         
         // Sometimes play door close sound after
         if (world.random.nextFloat() < 0.6f) {
-            world.getServer().execute(() -> {
-                try {
-                    Thread.sleep(1500); // 1.5 seconds later
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
+            TickScheduler.runAfter(player, 30, () -> { // 1.5 seconds later
                 world.playSound(
                     null,
                     soundPos,
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.world.LoadedTerrain;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.nbt.NbtCompound;
@@ -11,12 +12,15 @@ import net.minecraft.structure.StructureTemplate;
 import net.minecraft.util.BlockMirror;
 import net.minecraft.util.BlockRotation;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.nbt.NbtSizeTracker;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * EVENT 10: StructureSpawn - Base structure spawning system
@@ -26,14 +30,20 @@ import java.util.*;
  * Doesn't replace chests or liquids
  * Triggers once per world
  * Silent spawn (no particles/sound)
+ * Prepared versions (FREEDOM_HOME etc.) decode the template off-thread and
+ * hold candidate chunks ahead of time, so the commit only checks and places
  */
 public class StructureSpawnEvent {
     
     // Track which structures have been spawned per world
     private static final Map<String, Set<String>> spawnedStructures = new HashMap<>();
     
+    // Decoded templates by name - immutable once read, shared by every spawn
+    private static final Map<String, CompletableFuture<StructureTemplate>> templates = new ConcurrentHashMap<>();
+    
     private static final int MIN_DISTANCE = 15;
     private static final int MAX_DISTANCE = 30;
+    private static final int CANDIDATE_COUNT = 12; // Positions held for the commit to choose from
     
     /**
      * Attempt to spawn a structure
@@ -81,26 +91,29 @@ public class StructureSpawnEvent {
      * Place structure from NBT file
      */
     private static boolean placeStructure(ServerWorld world, BlockPos pos, String structureName) {
+        StructureTemplate template = readTemplate(world, structureName);
+        if (template == null) {
+            return false;
+        }
+        
+        // Place with random rotation
+        BlockRotation rotation = BlockRotation.values()[world.random.nextInt(BlockRotation.values().length)];
+        return placeTemplate(world, pos, structureName, template, rotation);
+    }
+    
+    /**
+     * Place an already decoded template
+     */
+    private static boolean placeTemplate(
+        ServerWorld world,
+        BlockPos pos,
+        String structureName,
+        StructureTemplate template,
+        BlockRotation rotation
+    ) {
         try {
-            // Load structure from resources
-            InputStream stream = StructureSpawnEvent.class.getResourceAsStream(
-                "/data/isrealanything/structures/" + structureName + ".nbt"
-            );
-            
-            if (stream == null) {
-                // Try logging and returning false
-                System.err.println("[IsRealAnything] Structure file not found: " + structureName + ".nbt");
-                return false;
-            }
-            
             System.out.println("[IsRealAnything] Spawning structure: " + structureName + " at " + pos);
-
-            NbtCompound nbt = NbtIo.readCompressed(stream, NbtSizeTracker.ofUnlimitedBytes());
-            StructureTemplate template = new StructureTemplate();
-            template.readNbt(world.getRegistryManager(), nbt);
             
-            // Place with random rotation
-            BlockRotation rotation = BlockRotation.values()[world.random.nextInt(BlockRotation.values().length)];
             StructurePlacementData placementData = new StructurePlacementData()
                 .setRotation(rotation)
                 .setMirror(BlockMirror.NONE)
@@ -119,6 +132,47 @@ public class StructureSpawnEvent {
         }
     }
     
+    /**
+     * Shared decode of a structure file - only successful reads stay cached,
+     * so a missing or broken file is retried (and logged) on the next trigger
+     */
+    private static CompletableFuture<StructureTemplate> loadTemplate(ServerWorld world, String structureName) {
+        CompletableFuture<StructureTemplate> future = templates.computeIfAbsent(structureName,
+            name -> CompletableFuture.supplyAsync(() -> readTemplate(world, name), Util.getMainWorkerExecutor()));
+        
+        // Registered outside computeIfAbsent - a read that already finished runs this inline
+        future.whenComplete((template, error) -> {
+            if (template == null) {
+                templates.remove(structureName, future);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Decode a structure file - safe off the main thread (reads registries only)
+     * Returns null if the file is missing or broken
+     */
+    private static StructureTemplate readTemplate(ServerWorld world, String structureName) {
+        try (InputStream stream = StructureSpawnEvent.class.getResourceAsStream(
+            "/data/isrealanything/structures/" + structureName + ".nbt"
+        )) {
+            if (stream == null) {
+                System.err.println("[IsRealAnything] Structure file not found: " + structureName + ".nbt");
+                return null;
+            }
+            
+            NbtCompound nbt = NbtIo.readCompressed(stream, NbtSizeTracker.ofUnlimitedBytes());
+            StructureTemplate template = new StructureTemplate();
+            template.readNbt(world.getRegistryManager(), nbt);
+            return template;
+            
+        } catch (Exception e) {
+            System.err.println("[IsRealAnything] Error reading structure " + structureName + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
     /**
      * Find safe location for structure spawn
      */
@@ -134,11 +188,11 @@ public class StructureSpawnEvent {
             int z = playerPos.getZ() + (int)(Math.sin(angle) * distance);
             
             // Find ground level
-            BlockPos testPos = new BlockPos(x, playerPos.getY(), z);
-            testPos = world.getTopPosition(net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, testPos);
+            BlockPos testPos = LoadedTerrain.getTopPosition(world, net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+                new BlockPos(x, playerPos.getY(), z));
             
             // Check if location is suitable
-            if (isSafeStructureLocation(world, testPos)) {
+            if (testPos != null && isSafeStructureLocation(world, testPos)) {
                 return testPos;
             }
         }
@@ -150,6 +204,11 @@ public class StructureSpawnEvent {
      * Check if location is safe for structure placement
      */
     private static boolean isSafeStructureLocation(ServerWorld world, BlockPos pos) {
+        // The whole area has to be loaded already
+        if (!LoadedTerrain.isLoaded(world, pos, 5)) {
+            return false;
+        }
+        
         // Check 10x10 area for flatness and safety
         int flatCount = 0;
         
@@ -185,6 +244,87 @@ public class StructureSpawnEvent {
      */
     public static void reset() {
         spawnedStructures.clear();
+        templates.clear();
+    }
+    
+    // ===== TWO-PHASE SPAWNING =====
+    
+    public static final PreparedEvent FREEDOM_HOME = prepared("freedomhome", 2);
+    public static final PreparedEvent MEADOW = prepared("meadow", 10);
+    public static final PreparedEvent IRON_TRAP = prepared("irontrap", 5);
+    public static final PreparedEvent MEMORY = prepared("memory", 20);
+    public static final PreparedEvent BEDROCK_PILLAR = prepared("bedrockpillar", 10);
+    public static final PreparedEvent STRIP_MINE = prepared("stripmine", 10);
+    
+    /**
+     * Two-phase spawnStructure - same checks, but the template decode and
+     * chunk loading happen before the commit tick
+     */
+    public static PreparedEvent prepared(String structureName, int minDay) {
+        return player -> {
+            ServerWorld world = player.getServer().getOverworld();
+            
+            int gameDay = (int) (world.getTimeOfDay() / 24000);
+            if (gameDay < minDay || hasSpawned(world, structureName)) {
+                return null;
+            }
+            
+            return new StructurePreparation(world, player.getBlockPos(), structureName);
+        };
+    }
+    
+    private static boolean hasSpawned(ServerWorld world, String structureName) {
+        Set<String> worldStructures = spawnedStructures.get(world.getRegistryKey().getValue().toString());
+        return worldStructures != null && worldStructures.contains(structureName);
+    }
+    
+    private static class StructurePreparation extends EventPreparation {
+        private final String structureName;
+        private final CompletableFuture<StructureTemplate> template;
+        private final List<BlockPos> candidates = new ArrayList<>(CANDIDATE_COUNT);
+        private final BlockRotation rotation;
+        
+        StructurePreparation(ServerWorld world, BlockPos playerPos, String structureName) {
+            super(world);
+            this.structureName = structureName;
+            this.template = await(loadTemplate(world, structureName));
+            this.rotation = BlockRotation.values()[world.random.nextInt(BlockRotation.values().length)];
+            
+            // Same ring as findSafeStructureLocation, picked now so the chunks can load
+            Random random = world.getRandom();
+            for (int i = 0; i < CANDIDATE_COUNT; i++) {
+                double angle = random.nextDouble() * Math.PI * 2;
+                int distance = MIN_DISTANCE + random.nextInt(MAX_DISTANCE - MIN_DISTANCE);
+                
+                BlockPos candidate = new BlockPos(
+                    playerPos.getX() + (int)(Math.cos(angle) * distance),
+                    playerPos.getY(),
+                    playerPos.getZ() + (int)(Math.sin(angle) * distance)
+                );
+                candidates.add(candidate);
+                holdChunk(candidate);
+            }
+        }
+        
+        @Override
+        public void commit(ServerPlayerEntity player) {
+            StructureTemplate decoded = template.getNow(null);
+            if (decoded == null || hasSpawned(world, structureName)) {
+                return;
+            }
+            
+            for (BlockPos candidate : candidates) {
+                BlockPos testPos = LoadedTerrain.getTopPosition(world, net.minecraft.world.Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, candidate);
+                
+                if (testPos != null && isSafeStructureLocation(world, testPos)) {
+                    if (placeTemplate(world, testPos, structureName, decoded, rotation)) {
+                        spawnedStructures.computeIfAbsent(world.getRegistryKey().getValue().toString(), k -> new HashSet<>())
+                            .add(structureName);
+                    }
+                    return;
+                }
+            }
+        }
     }
     
     // ===== SPECIFIC STRUCTURE SPAWNERS =====
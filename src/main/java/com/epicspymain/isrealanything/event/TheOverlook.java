@@ -6,7 +6,12 @@ import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
 import com.epicspymain.isrealanything.entity.custom.TheOtherMEEntity;
 import com.epicspymain.isrealanything.event.helpers.ChunkDestroyer;
 import com.epicspymain.isrealanything.event.helpers.TNTSpawner;
+import com.epicspymain.isrealanything.network.ParticleEmitterPayload;
+import com.epicspymain.isrealanything.network.ParticleEmitters;
+import com.epicspymain.isrealanything.scheduler.Timeline;
+import com.epicspymain.isrealanything.scheduler.WorldJob;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import com.epicspymain.isrealanything.world.BlockEditSession;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.entity.SignBlockEntity;
 import net.minecraft.block.entity.SignText;
@@ -19,7 +24,11 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.crash.CrashException;
+import net.minecraft.util.crash.CrashReport;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
 import java.io.File;
@@ -51,14 +60,9 @@ public class TheOverlook {
     private static final BlockPos MELTDOWN_LOCATION = new BlockPos(666, 84269, -2);
 
     /**
-     * Whether the meltdown sequence is currently running
+     * Timeline driving the meltdown sequence (signs, desktop file, crash)
      */
-    private static boolean meltdownInProgress = false;
-
-    /**
-     * Tick counter for meltdown sequence timing
-     */
-    private static int meltdownTicks = 0;
+    private static Timeline meltdownTimeline = null;
 
     /**
      * Player being punished
@@ -164,9 +168,6 @@ public class TheOverlook {
      * Begin the meltdown sequence
      */
     private static void beginMeltdown(ServerPlayerEntity player, MinecraftServer server) {
-        meltdownInProgress = true;
-        meltdownTicks = 0;
-
         ServerWorld world = (ServerWorld) player.getWorld();
 
         // Force all remaining events except Event 47
@@ -188,53 +189,67 @@ public class TheOverlook {
                 false
         );
 
-        // Start world destruction
+        // Start world destruction (the block work runs as a WorldJob over the next ticks)
         runWorldDestruction(world, MELTDOWN_LOCATION);
+
+        // Warning signs, desktop file, then crash - server-wide, so neither
+        // dying nor disconnecting gets the player out of this
+        meltdownTimeline = Timeline.global()
+                .at(20, () -> spawnWarningSign(world, MELTDOWN_LOCATION.add(5, 0, 0), "Don't Say I\nDidn't Warn\nYou"))
+                .at(200, () -> spawnWarningSign(world, MELTDOWN_LOCATION.add(-5, 0, 0), "It's over\nwhen I say\nit's over."))
+                .at(300, TheOverlook::createDesktopWarning)
+                .at(400, () -> crash(targetPlayer))
+                .start();
     }
 
     /**
-     * Run world destruction sequence
+     * Replace 30% of the blocks around center that lie in one chunk with air or bedrock
      */
-    private static void runWorldDestruction(ServerWorld world, BlockPos center) {
-        // Spawn massive TNT explosions
-        TNTSpawner.spawnTNTCircle(world, center, 69);
-
-        // Destroy chunks around player
-        ChunkDestroyer.destroyChunks(world, center, 69, 69);
-
-        // Replace blocks with void/bedrock
-        for (int x = -50; x <= 50; x++) {
-            for (int z = -50; z <= 50; z++) {
-                for (int y = -10; y <= 100; y++) {
-                    BlockPos pos = center.add(x, y, z);
-
+    private static void voidInChunk(ServerWorld world, BlockEditSession session, ChunkPos chunk, BlockPos center, int radius) {
+        int minX = Math.max(center.getX() - radius, chunk.getStartX());
+        int maxX = Math.min(center.getX() + radius, chunk.getEndX());
+        int minZ = Math.max(center.getZ() - radius, chunk.getStartZ());
+        int maxZ = Math.min(center.getZ() + radius, chunk.getEndZ());
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = center.getY() - 10; y <= center.getY() + 100; y++) {
                     if (world.random.nextFloat() < 0.3f) {
-                        if (world.random.nextBoolean()) {
-                            world.setBlockState(pos, Blocks.AIR.getDefaultState());
-                        } else {
-                            world.setBlockState(pos, Blocks.BEDROCK.getDefaultState());
-                        }
+                        session.set(x, y, z,
+                                world.random.nextBoolean() ? Blocks.AIR.getDefaultState() : Blocks.BEDROCK.getDefaultState());
                     }
                 }
             }
         }
+    }
 
-        // Spawn particle storms
-        for (int i = 0; i < 1000; i++) {
-            double offsetX = (world.random.nextDouble() - 0.5) * 100;
-            double offsetY = world.random.nextDouble() * 100;
-            double offsetZ = (world.random.nextDouble() - 0.5) * 100;
-
-            world.spawnParticles(
-                    ParticleTypes.EXPLOSION_EMITTER,
-                    center.getX() + offsetX,
-                    center.getY() + offsetY,
-                    center.getZ() + offsetZ,
-                    10,
-                    1, 1, 1,
-                    0.1
-            );
-        }
+    /**
+     * Run world destruction sequence
+     */
+    private static void runWorldDestruction(ServerWorld world, BlockPos center) {
+        // Spawn massive TNT explosions (scripted craters, a few real TNT for looks)
+        TNTSpawner.spawnTNTCircle(world, center, 69);
+
+        // Destroy chunks around player, then replace blocks with void/bedrock
+        // One chunk column per unit, nearest first so it starts where the player is
+        WorldJob.of("TheOverlook destruction", world, ChunkDestroyer.chunksAround(center, 69), chunk -> {
+                    BlockEditSession session = ChunkDestroyer.newSession(world);
+                    ChunkDestroyer.destroyInChunk(session, chunk, center, 69, 69);
+                    voidInChunk(world, session, chunk, center, 50);
+                    session.commit();
+                })
+                .holdChunks(chunk -> chunk)
+                .nearestFirst(center, chunk -> chunk.getCenterAtY(center.getY()))
+                .priority(10)
+                .start();
+
+        // Spawn particle storm - one emitter packet, the client spreads it over 10 seconds
+        ParticleEmitters.of(ParticleTypes.EXPLOSION_EMITTER, ParticleEmitterPayload.Shape.BOX, Vec3d.ofCenter(center).add(0, 50, 0))
+                .size(50, 50, 50)
+                .rate(50)
+                .duration(200)
+                .speed(0.1f)
+                .sendTo(world);
 
         // Play ominous sounds
         world.playSound(
@@ -343,44 +358,12 @@ public class TheOverlook {
         );
 
         // ACTUALLY CRASH THE GAME
-        throw new RuntimeException("TheOverlook.ForbiddenAction - You broke the rules");
-    }
-
-    /**
-     * Tick method for meltdown sequence progression
-     */
-    public static void tick(ServerWorld world) {
-        if (!meltdownInProgress || targetPlayer == null) {
-            return;
-        }
-
-        meltdownTicks++;
-
-        // First warning sign (immediately)
-        if (meltdownTicks == 20) {
-            BlockPos signPos = MELTDOWN_LOCATION.add(5, 0, 0);
-            spawnWarningSign(world, signPos, "Don't Say I\nDidn't Warn\nYou");
-        }
-
-        // Wait for night or 10 seconds
-        if (meltdownTicks == 200 || world.isNight()) {
-            BlockPos signPos2 = MELTDOWN_LOCATION.add(-5, 0, 0);
-            spawnWarningSign(world, signPos2, "It's over\nwhen I say\nit's over.");
-        }
-
-        // Create desktop warning after 15 seconds
-        if (meltdownTicks == 300) {
-            createDesktopWarning();
-        }
-
-        // Crash after 20 seconds
-        if (meltdownTicks >= 400) {
-            crash(targetPlayer);
-            meltdownInProgress = false;
-        }
+        throw new CrashException(CrashReport.create(
+                new RuntimeException("TheOverlook.ForbiddenAction - You broke the rules"),
+                "TheOverlook"
+        ));
     }
 
-
     // ========================================
     // DETECTION HELPER METHODS
     // ========================================
@@ -465,8 +448,10 @@ public class TheOverlook {
      */
     public static void reset() {
         OVERLOOK_TRIGGERED = false;
-        meltdownInProgress = false;
-        meltdownTicks = 0;
+        if (meltdownTimeline != null) {
+            meltdownTimeline.cancel();
+            meltdownTimeline = null;
+        }
         targetPlayer = null;
         server = null;
     }
@@ -1,21 +1,29 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.network.ParticleEmitterPayload;
+import com.epicspymain.isrealanything.network.ParticleEmitters;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.world.BlockEditSession;
+import com.epicspymain.isrealanything.world.BlockTransaction;
 import net.minecraft.block.Blocks;
+import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
 
 /**
  * EVENT 26: TimeoutTextureGlitch - Reality corruption
  * Texture becomes corrupted (visual glitch - requires client-side)
- * Deletes 5 blocks down from where player is standing
+ * Deletes 5 blocks down from where player is standing (restored a minute later)
  * Creates sense of world instability
  */
 public class TimeoutTextureGlitchEvent {
     
     private static final int DELETION_DEPTH = 5;
+    private static final int RESTORE_TICKS = 1200; // 1 minute
     
     /**
      * Trigger texture glitch and block deletion
@@ -23,18 +31,24 @@ public class TimeoutTextureGlitchEvent {
     public static void trigger(ServerWorld world, ServerPlayerEntity player) {
         BlockPos playerPos = player.getBlockPos();
         
-        // Delete blocks below player
-        for (int y = 1; y <= DELETION_DEPTH; y++) {
-            BlockPos deletePos = playerPos.down(y);
-            
-            // Don't delete bedrock or important blocks
-            if (world.getBlockState(deletePos).getBlock() != Blocks.BEDROCK &&
-                world.getBlockState(deletePos).getBlock() != Blocks.END_PORTAL &&
-                world.getBlockState(deletePos).getBlock() != Blocks.END_PORTAL_FRAME) {
-                
-                world.setBlockState(deletePos, Blocks.AIR.getDefaultState());
-            }
-        }
+        // Delete blocks below player - the ground comes back after a while
+        // Don't delete bedrock or important blocks
+        BlockTransaction transaction = new BlockTransaction("TimeoutTextureGlitch");
+        new BlockEditSession(world)
+            .withUpdates(true)
+            .protect(state -> state.isOf(Blocks.BEDROCK) || state.isOf(Blocks.END_PORTAL) || state.isOf(Blocks.END_PORTAL_FRAME))
+            .record(transaction)
+            .fill(playerPos.down(1), playerPos.down(DELETION_DEPTH), Blocks.AIR.getDefaultState())
+            .commit();
+        transaction.revertAfter(world, RESTORE_TICKS);
+        
+        // Glitch static down the hole
+        ParticleEmitters.of(ParticleTypes.REVERSE_PORTAL, ParticleEmitterPayload.Shape.COLUMN, Vec3d.ofBottomCenter(playerPos.down(DELETION_DEPTH)))
+            .size(1.5, DELETION_DEPTH + 1, 0)
+            .rate(6)
+            .duration(60)
+            .speed(0.05f)
+            .sendTo(world);
         
         // Send cryptic message
         player.sendMessage(
@@ -44,13 +58,7 @@ public class TimeoutTextureGlitchEvent {
         );
         
         // Follow-up message
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 20, () -> {
             player.sendMessage(
                 Text.literal("Reality is glitching.")
                     .formatted(Formatting.DARK_PURPLE),
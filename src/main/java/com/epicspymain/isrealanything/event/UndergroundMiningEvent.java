@@ -2,7 +2,9 @@ package com.epicspymain.isrealanything.event;
 
 import com.epicspymain.isrealanything.entity.ModEntities;
 import com.epicspymain.isrealanything.entity.custom.TheMEEntity;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import com.epicspymain.isrealanything.sound.ModSounds;
+import com.epicspymain.isrealanything.world.DarknessMap;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
@@ -37,13 +39,7 @@ public class UndergroundMiningEvent {
         playAmbientMiningSounds(world, player);
         
         // Wait 5 seconds
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(5000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 100, () -> {
             // Phase 2: Spawn entity in darkness
             spawnUndergroundStalker(world, player);
         });
@@ -70,13 +66,7 @@ public class UndergroundMiningEvent {
         );
         
         // Wait 2 seconds
-        world.getServer().execute(() -> {
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
+        TickScheduler.runAfter(player, 40, () -> {
             // Breathing sound
             world.playSound(
                 null,
@@ -107,7 +97,7 @@ public class UndergroundMiningEvent {
         // Ensure location is dark
         if (world.getLightLevel(spawnPos) > 3) {
             // Find nearest dark spot
-            spawnPos = findNearbyDarkSpot(world, spawnPos);
+            spawnPos = findNearbyDarkSpot(player, spawnPos);
             if (spawnPos == null) {
                 return; // No dark spot found
             }
@@ -146,13 +136,7 @@ public class UndergroundMiningEvent {
             // Escalating breathing sounds
             for (int i = 1; i <= 3; i++) {
                 final int intensity = i;
-                world.getServer().execute(() -> {
-                    try {
-                        Thread.sleep(2000L * intensity);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                    
+                TickScheduler.runAfter(player, 40 * intensity, () -> {
                     if (entity.isAlive()) {
                         world.playSound(
                             null,
@@ -171,23 +155,16 @@ public class UndergroundMiningEvent {
     /**
      * Find nearby dark spot for spawning
      */
-    private static BlockPos findNearbyDarkSpot(ServerWorld world, BlockPos center) {
+    private static BlockPos findNearbyDarkSpot(ServerPlayerEntity player, BlockPos center) {
+        // Closest ring first, like widening the search by hand
         for (int radius = 5; radius <= 20; radius += 5) {
-            for (int attempt = 0; attempt < 20; attempt++) {
-                double angle = world.random.nextDouble() * Math.PI * 2;
-                
-                int x = center.getX() + (int)(Math.cos(angle) * radius);
-                int y = center.getY() + world.random.nextInt(6) - 3;
-                int z = center.getZ() + (int)(Math.sin(angle) * radius);
-                
-                BlockPos testPos = new BlockPos(x, y, z);
-                
-                // Check if dark and has space
-                if (world.getLightLevel(testPos) <= 3 &&
-                    world.getBlockState(testPos).isAir() &&
-                    world.getBlockState(testPos.up()).isAir()) {
-                    return testPos;
-                }
+            BlockPos spot = DarknessMap.query(player)
+                .around(center)
+                .within(radius)
+                .maxLight(3)
+                .pick();
+            if (spot != null) {
+                return spot;
             }
         }
         
@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
 import com.epicspymain.isrealanything.screen.TheMEEntityWhiteOverlay;
 import com.epicspymain.isrealanything.sound.ModSounds;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -27,24 +28,15 @@ public class WhiteScreenJumpscareEvent {
         );
 
         // Scream with slight delay
-        world.getServer().execute(() -> {
-            new Thread(() -> {
-                try {
-                    Thread.sleep(200);
-                    world.getServer().execute(() ->
-                            world.playSound(
-                                    null,
-                                    player.getBlockPos(),
-                                    ModSounds.ERRRRRR,
-                                    SoundCategory.MASTER,
-                                    1.5f,
-                                    1.2f
-                            )
-                    );
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }).start();
-        });
+        TickScheduler.runAfter(player, 4, () ->
+                world.playSound(
+                        null,
+                        player.getBlockPos(),
+                        ModSounds.ERRRRRR,
+                        SoundCategory.MASTER,
+                        1.5f,
+                        1.2f
+                )
+        );
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.epicspymain.isrealanything.event;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.scheduler.Timeline;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -37,6 +39,7 @@ public class YouCouldHaveLeftEvent {
 
     private static boolean waitingForChoice = false;
     private static ServerPlayerEntity waitingPlayer = null;
+    private static Timeline choiceTimeline = null;
 
     /**
      * Trigger the event - shows the 40x40 message overlay
@@ -67,15 +70,18 @@ public class YouCouldHaveLeftEvent {
                 false
         );
 
-        // Wait 20 seconds then show YES/NO
-        new Thread(() -> {
-            try {
-                Thread.sleep(20000);
-                player.getServer().execute(() -> presentChoice(player));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        // 20 seconds: show YES/NO, 10 seconds later default to NO
+        if (choiceTimeline != null) {
+            choiceTimeline.cancel();
+        }
+        choiceTimeline = Timeline.of(player)
+                .at(400, () -> presentChoice(player))
+                .at(600, () -> {
+                    if (waitingForChoice) {
+                        choiceNo(player);
+                    }
+                })
+                .start();
     }
 
 
@@ -99,18 +105,6 @@ public class YouCouldHaveLeftEvent {
                         .formatted(Formatting.YELLOW, Formatting.ITALIC),
                 false
         );
-
-        // Auto-default to NO after 10 seconds if no response
-        new Thread(() -> {
-            try {
-                Thread.sleep(10000);
-                if (waitingForChoice) {
-                    player.getServer().execute(() -> choiceNo(player));
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
     }
 
     /**
@@ -140,6 +134,7 @@ public class YouCouldHaveLeftEvent {
      */
     public static void choiceYes(ServerPlayerEntity player) {
         waitingForChoice = false;
+        cancelChoiceTimeline();
 
         player.sendMessage(
                 Text.literal("...okay.")
@@ -163,16 +158,7 @@ public class YouCouldHaveLeftEvent {
         }).start();
 
         // Close game after brief delay
-        new Thread(() -> {
-            try {
-                Thread.sleep(2000);
-                player.getServer().execute(() ->
-                        player.getServer().stop(false)
-                );
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        TickScheduler.runAfter(player, 40, () -> player.getServer().stop(false));
     }
 
     /**
@@ -180,6 +166,7 @@ public class YouCouldHaveLeftEvent {
      */
     public static void choiceNo(ServerPlayerEntity player) {
         waitingForChoice = false;
+        cancelChoiceTimeline();
 
         player.sendMessage(
                 Text.literal("You chose this.")
@@ -194,16 +181,7 @@ public class YouCouldHaveLeftEvent {
         renameDesktopFiles();
 
         // Close game after showing message
-        new Thread(() -> {
-            try {
-                Thread.sleep(3000);
-                player.getServer().execute(() ->
-                        player.getServer().stop(false)
-                );
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        TickScheduler.runAfter(player, 60, () -> player.getServer().stop(false));
     }
 
     /**
@@ -287,6 +265,13 @@ public class YouCouldHaveLeftEvent {
         dir.delete();
     }
 
+    private static void cancelChoiceTimeline() {
+        if (choiceTimeline != null) {
+            choiceTimeline.cancel();
+            choiceTimeline = null;
+        }
+    }
+
     /**
      * Check if waiting for player choice
      */
@@ -1,12 +1,21 @@
 package com.epicspymain.isrealanything.event.helpers;
 
+import com.epicspymain.isrealanything.world.BlockEditSession;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.Heightmap;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper: ChunkDestroyer - Large-scale destruction
  * Removes 69x69 block areas for TheOverlook meltdown sequence
+ * Edits go through BlockEditSession (no neighbor updates, one packet per section)
+ * Per-chunk pieces (chunksAround, destroyInChunk) let callers spread the work as a WorldJob
  */
 public class ChunkDestroyer {
 
@@ -14,36 +23,63 @@ public class ChunkDestroyer {
      * Called by TheOverlook - destroys chunks around center
      */
     public static void destroyChunks(ServerWorld world, BlockPos center, int radius, int depth) {
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                for (int y = 0; y < depth; y++) {
-                    BlockPos pos = center.add(x, -y, z);
+        BlockEditSession session = newSession(world);
+        for (ChunkPos chunk : chunksAround(center, radius)) {
+            destroyInChunk(session, chunk, center, radius, depth);
+        }
+        session.commit();
+    }
 
-                    if (!world.getBlockState(pos).isOf(Blocks.BEDROCK) &&
-                            !world.getBlockState(pos).isOf(Blocks.END_PORTAL) &&
-                            !world.getBlockState(pos).isOf(Blocks.END_PORTAL_FRAME)) {
+    /**
+     * Session that leaves bedrock and end portals alone
+     */
+    public static BlockEditSession newSession(ServerWorld world) {
+        return new BlockEditSession(world)
+                .protect(state -> state.isOf(Blocks.BEDROCK) || state.isOf(Blocks.END_PORTAL) || state.isOf(Blocks.END_PORTAL_FRAME));
+    }
 
-                        world.setBlockState(pos, Blocks.AIR.getDefaultState());
-                    }
-                }
+    /**
+     * Every chunk the square around center touches
+     */
+    public static List<ChunkPos> chunksAround(BlockPos center, int radius) {
+        List<ChunkPos> chunks = new ArrayList<>();
+        for (int cx = (center.getX() - radius) >> 4; cx <= (center.getX() + radius) >> 4; cx++) {
+            for (int cz = (center.getZ() - radius) >> 4; cz <= (center.getZ() + radius) >> 4; cz++) {
+                chunks.add(new ChunkPos(cx, cz));
             }
         }
+        return chunks;
+    }
+
+    /**
+     * Queue the part of the destroyed area that lies in one chunk
+     */
+    public static void destroyInChunk(BlockEditSession session, ChunkPos chunk, BlockPos center, int radius, int depth) {
+        session.fill(
+                new BlockPos(Math.max(center.getX() - radius, chunk.getStartX()), center.getY() - (depth - 1),
+                        Math.max(center.getZ() - radius, chunk.getStartZ())),
+                new BlockPos(Math.min(center.getX() + radius, chunk.getEndX()), center.getY(),
+                        Math.min(center.getZ() + radius, chunk.getEndZ())),
+                Blocks.AIR.getDefaultState()
+        );
     }
 
     /**
      * Full depth destruction from surface to void
      */
     public static void destroyChunksFull(ServerWorld world, BlockPos center, int radius) {
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                for (int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z); y >= world.getBottomY() + 1; y--) {
-                    BlockPos pos = center.add(x, y - center.getY(), z);
-
-                    if (!world.getBlockState(pos).isOf(Blocks.BEDROCK)) {
-                        world.setBlockState(pos, Blocks.AIR.getDefaultState());
-                    }
+        BlockEditSession session = new BlockEditSession(world)
+                .protect(state -> state.isOf(Blocks.BEDROCK));
+        BlockState air = Blocks.AIR.getDefaultState();
+
+        for (int x = center.getX() - radius; x <= center.getX() + radius; x++) {
+            for (int z = center.getZ() - radius; z <= center.getZ() + radius; z++) {
+                int top = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+                for (int y = top; y >= world.getBottomY() + 1; y--) {
+                    session.set(x, y, z, air);
                 }
             }
         }
+        session.commit();
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,66 @@
 package com.epicspymain.isrealanything.event.helpers;
 
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import com.epicspymain.isrealanything.world.BlockEditSession;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.TntEntity;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Heightmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Helper: TNTSpawner - Circular TNT spawning
- * Spawns 69 TNT entities in a circle for dramatic effect
+ * Blasts 69 TNT worth of craters in a circle for dramatic effect
+ *
+ * Explosions are scripted rather than live TntEntities: each blast carves a
+ * precomputed crater through BlockEditSession (one session per detonation
+ * tick), sends one particle burst per blast and one sound per tick, and
+ * damages nearby entities without explosion raycasts. Only blasts within view distance of a player
+ * get a real TNT entity for looks, at most maxVisualTnt per call - removed
+ * just before it would explode.
  */
 public class TNTSpawner {
 
+    private static final int CRATER_RADIUS = 4; // About a TNT blast
+    private static final int CRATER_VARIANTS = 4;
+    private static final float MAX_BREAKABLE_RESISTANCE = 600.0f; // Obsidian and tougher survive, like real TNT
+    private static final float BLAST_DAMAGE = 20.0f;
+
+    // Crater shapes - packed offsets, jagged edges, computed once
+    private static final List<int[]> CRATERS = buildCraters();
+
+    // Tuning (overridable from server_tuning.json)
+    private static int maxVisualTnt = 12;
+
+    private record Blast(double x, double y, double z, int delay) {
+    }
+
+    /**
+     * Override the default visual TNT cap
+     */
+    public static void configure(int maxVisualTnt) {
+        TNTSpawner.maxVisualTnt = Math.max(0, maxVisualTnt);
+    }
+
     /**
      * Called by TheOverlook - spawn TNT in circle
      */
     public static void spawnTNTCircle(ServerWorld world, BlockPos center, double radius) {
         int tntCount = 69;
+        List<Blast> blasts = new ArrayList<>(tntCount);
 
         for (int i = 0; i < tntCount; i++) {
             double angle = (2 * Math.PI / tntCount) * i;
@@ -23,11 +69,10 @@ public class TNTSpawner {
             double z = center.getZ() + Math.sin(angle) * radius;
             double y = center.getY();
 
-            TntEntity tnt = new TntEntity(world, x, y, z, null);
-            tnt.setFuse(80 + world.random.nextInt(40));
-
-            world.spawnEntity(tnt);
+            blasts.add(new Blast(x, y, z, 80 + world.random.nextInt(40)));
         }
+
+        detonate(world, blasts);
     }
 
     /**
@@ -44,15 +89,155 @@ public class TNTSpawner {
      * Spawn TNT falling from sky
      */
     public static void spawnTNTRain(ServerWorld world, BlockPos center, int count, int radius) {
+        List<Blast> blasts = new ArrayList<>(count);
+
         for (int i = 0; i < count; i++) {
             double x = center.getX() + (world.random.nextDouble() - 0.5) * radius * 2;
             double z = center.getZ() + (world.random.nextDouble() - 0.5) * radius * 2;
             double y = center.getY() + 50;
 
-            TntEntity tnt = new TntEntity(world, x, y, z, null);
-            tnt.setFuse(100);
+            blasts.add(new Blast(x, y, z, 100));
+        }
+
+        detonate(world, blasts);
+    }
+
+    // ========================================
+    // SCRIPTED EXPLOSIONS
+    // ========================================
+
+    /**
+     * Spawn the visual TNT now and schedule the blasts, grouped by detonation tick
+     */
+    private static void detonate(ServerWorld world, List<Blast> blasts) {
+        Map<Integer, List<Blast>> byTick = new TreeMap<>();
+        Map<Integer, List<TntEntity>> visualsByTick = new TreeMap<>();
+        int visuals = 0;
+        double viewDistance = world.getServer().getPlayerManager().getViewDistance() * 16.0;
+
+        for (Blast blast : blasts) {
+            byTick.computeIfAbsent(blast.delay(), delay -> new ArrayList<>()).add(blast);
 
-            world.spawnEntity(tnt);
+            if (visuals < maxVisualTnt && isNearAnyPlayer(world, blast, viewDistance)) {
+                // Fuse runs past the scripted blast - the entity never explodes itself
+                TntEntity tnt = new TntEntity(world, blast.x(), blast.y(), blast.z(), null);
+                tnt.setFuse(blast.delay() + 5);
+                world.spawnEntity(tnt);
+                visualsByTick.computeIfAbsent(blast.delay(), delay -> new ArrayList<>()).add(tnt);
+                visuals++;
+            }
         }
+
+        for (Map.Entry<Integer, List<Blast>> entry : byTick.entrySet()) {
+            List<Blast> group = entry.getValue();
+            List<TntEntity> groupVisuals = visualsByTick.getOrDefault(entry.getKey(), List.of());
+            TickScheduler.runAfter(entry.getKey(), () -> blastGroup(world, group, groupVisuals));
+        }
+    }
+
+    private static void blastGroup(ServerWorld world, List<Blast> group, List<TntEntity> visuals) {
+        // Visual TNT over these blasts goes with them
+        for (TntEntity tnt : visuals) {
+            tnt.discard();
+        }
+
+        BlockEditSession session = new BlockEditSession(world)
+                .protect(state -> state.getBlock().getBlastResistance() >= MAX_BREAKABLE_RESISTANCE);
+        double soundX = 0, soundY = 0, soundZ = 0;
+        int blasted = 0;
+
+        for (Blast blast : group) {
+            int bx = (int) Math.floor(blast.x());
+            int bz = (int) Math.floor(blast.z());
+            if (!world.isChunkLoaded(bx >> 4, bz >> 4)) {
+                continue;
+            }
+
+            // The TNT would have fallen to the ground first
+            int by = Math.min((int) Math.floor(blast.y()), world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, bx, bz));
+            for (int offset : CRATERS.get(world.random.nextInt(CRATER_VARIANTS))) {
+                session.set(bx + unpackX(offset), by + unpackY(offset), bz + unpackZ(offset), Blocks.AIR.getDefaultState());
+            }
+
+            world.spawnParticles(ParticleTypes.EXPLOSION_EMITTER, bx + 0.5, by + 0.5, bz + 0.5, 1, 0, 0, 0, 0);
+            damageNearby(world, new Vec3d(bx + 0.5, by + 0.5, bz + 0.5));
+            soundX += bx;
+            soundY += by;
+            soundZ += bz;
+            blasted++;
+        }
+
+        session.commit();
+
+        // One sound per detonation tick, from the middle of its blasts
+        if (blasted > 0) {
+            world.playSound(null, soundX / blasted, soundY / blasted, soundZ / blasted,
+                    SoundEvents.ENTITY_GENERIC_EXPLODE.value(), SoundCategory.BLOCKS, 4.0f + blasted,
+                    (1.0f + (world.random.nextFloat() - world.random.nextFloat()) * 0.2f) * 0.7f);
+        }
+    }
+
+    /**
+     * Explosion damage falling off with distance - no exposure raycasts
+     */
+    private static void damageNearby(ServerWorld world, Vec3d center) {
+        double reach = CRATER_RADIUS * 2.0;
+        for (LivingEntity entity : world.getEntitiesByClass(LivingEntity.class, new Box(center, center).expand(reach), LivingEntity::isAlive)) {
+            double falloff = 1.0 - entity.getPos().distanceTo(center) / reach;
+            if (falloff > 0) {
+                entity.damage(world, world.getDamageSources().explosion(null, null), (float) (BLAST_DAMAGE * falloff));
+            }
+        }
+    }
+
+    private static boolean isNearAnyPlayer(ServerWorld world, Blast blast, double distance) {
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            if (player.squaredDistanceTo(blast.x(), player.getY(), blast.z()) <= distance * distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ========================================
+    // CRATER SHAPES
+    // ========================================
+
+    private static List<int[]> buildCraters() {
+        List<int[]> craters = new ArrayList<>(CRATER_VARIANTS);
+        Random random = Random.create(69L);
+
+        for (int variant = 0; variant < CRATER_VARIANTS; variant++) {
+            List<Integer> offsets = new ArrayList<>();
+            for (int x = -CRATER_RADIUS; x <= CRATER_RADIUS; x++) {
+                for (int y = -CRATER_RADIUS; y <= CRATER_RADIUS; y++) {
+                    for (int z = -CRATER_RADIUS; z <= CRATER_RADIUS; z++) {
+                        // Flattened bowl: shallower than wide, ragged rim
+                        double distance = Math.sqrt(x * x + (y * 1.5) * (y * 1.5) + z * z);
+                        if (distance <= CRATER_RADIUS * (0.75 + random.nextFloat() * 0.35)) {
+                            offsets.add(pack(x, y, z));
+                        }
+                    }
+                }
+            }
+            craters.add(offsets.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return craters;
+    }
+
+    private static int pack(int x, int y, int z) {
+        return ((x + 128) << 16) | ((y + 128) << 8) | (z + 128);
+    }
+
+    private static int unpackX(int packed) {
+        return ((packed >> 16) & 0xFF) - 128;
+    }
+
+    private static int unpackY(int packed) {
+        return ((packed >> 8) & 0xFF) - 128;
+    }
+
+    private static int unpackZ(int packed) {
+        return (packed & 0xFF) - 128;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.epicspymain.isrealanything.file;
 
 import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.scheduler.ClientTickScheduler;
 import com.mojang.blaze3d.systems.RenderSystem;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gl.Framebuffer;
@@ -154,21 +155,24 @@ public class EntityScreenshotCapture {
             return;
         }
         
-        Thread.ofVirtual().start(() -> {
-            for (int i = 0; i < count; i++) {
-                String filename = baseFilename + "_" + i;
-                captureFromEntity(entity, filename);
-                
-                if (i < count - 1) {
-                    try {
-                        Thread.sleep(intervalTicks * 50L); // Convert ticks to milliseconds
-                    } catch (InterruptedException e) {
-                        break;
-                    }
-                }
-            }
-            
+        if (count <= 0) {
+            return;
+        }
+
+        // Captures touch the framebuffer, so run them on the client tick instead of a background thread
+        captureFromEntity(entity, baseFilename + "_0");
+        if (count == 1) {
             IsRealAnything.LOGGER.info("Completed entity screenshot sequence: {} captures", count);
+            return;
+        }
+
+        int period = Math.max(1, intervalTicks);
+        ClientTickScheduler.runRepeating(period, period, count - 1, index -> {
+            captureFromEntity(entity, baseFilename + "_" + (index + 1));
+
+            if (index == count - 2) {
+                IsRealAnything.LOGGER.info("Completed entity screenshot sequence: {} captures", count);
+            }
         });
     }
     
@@ -0,0 +1,37 @@
+package com.epicspymain.isrealanything.mixin;
+
+import com.epicspymain.isrealanything.world.BlockChangeJournal;
+import net.minecraft.block.BlockState;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.ItemPlacementContext;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(BlockItem.class)
+public class BlockItemMixin {
+
+	// State the placement replaces - only written on the server thread
+	@Unique
+	private BlockState isrealanything$replacedState;
+
+	@Inject(method = "place(Lnet/minecraft/item/ItemPlacementContext;Lnet/minecraft/block/BlockState;)Z", at = @At("HEAD"))
+	private void beforePlace(ItemPlacementContext context, BlockState state, CallbackInfoReturnable<Boolean> cir) {
+		if (!context.getWorld().isClient() && context.getPlayer() instanceof ServerPlayerEntity) {
+			isrealanything$replacedState = context.getWorld().getBlockState(context.getBlockPos());
+		}
+	}
+
+	// Feeds BlockChangeJournal with placements that went through, as the world now has them
+	@Inject(method = "place(Lnet/minecraft/item/ItemPlacementContext;Lnet/minecraft/block/BlockState;)Z", at = @At("RETURN"))
+	private void afterPlace(ItemPlacementContext context, BlockState state, CallbackInfoReturnable<Boolean> cir) {
+		BlockState replaced = isrealanything$replacedState;
+		isrealanything$replacedState = null;
+		if (replaced != null && cir.getReturnValueZ() && context.getPlayer() instanceof ServerPlayerEntity player) {
+			BlockChangeJournal.record(player, context.getBlockPos(), replaced, context.getWorld().getBlockState(context.getBlockPos()));
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.epicspymain.isrealanything.mixin;
 
 import com.epicspymain.isrealanything.event.InventoryShuffleEvent;
+import com.epicspymain.isrealanything.scheduler.ClientTickScheduler;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -16,18 +18,13 @@ public class InventoryMixin {
         MinecraftClient client = MinecraftClient.getInstance();
         if (client.player == null) return;
 
-        int delayMs = 3000 + new java.util.Random().nextInt(5000);
+        int delayTicks = 60 + new java.util.Random().nextInt(100); // 3-8 seconds
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(delayMs);
-                client.execute(() ->
-                        InventoryShuffleEvent.triggerClientSide(client.player)
-                );
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        ClientTickScheduler.runAfter(delayTicks, () -> {
+            if (client.player != null) {
+                InventoryShuffleEvent.triggerClientSide(client.player);
             }
-        }).start();
+        });
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.epicspymain.isrealanything.mixin;
+
+import com.epicspymain.isrealanything.world.BaseIndex;
+import com.epicspymain.isrealanything.world.CoverPoints;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(WorldChunk.class)
+public class WorldChunkMixin {
+
+	// Keeps BaseIndex counts and CoverPoints current - returns the replaced state, null if nothing changed
+	@Inject(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;I)Lnet/minecraft/block/BlockState;", at = @At("RETURN"))
+	private void onSetBlockState(BlockPos pos, BlockState state, int flags, CallbackInfoReturnable<BlockState> cir) {
+		BlockState old = cir.getReturnValue();
+		if (old != null) {
+			BaseIndex.onBlockChanged((WorldChunk) (Object) this, pos, old, state);
+			CoverPoints.onBlockChanged((WorldChunk) (Object) this, old, state);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.epicspymain.isrealanything.mixin;
+
+import com.epicspymain.isrealanything.event.EventCostProbe;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(World.class)
+public class WorldMixin {
+
+	// Feeds EventCostProbe - no-op outside dev environments
+	@Inject(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;II)Z", at = @At("RETURN"))
+	private void onSetBlockState(BlockPos pos, BlockState state, int flags, int maxUpdateDepth, CallbackInfoReturnable<Boolean> cir) {
+		if (EventCostProbe.ENABLED && cir.getReturnValue() && !((World) (Object) this).isClient()) {
+			EventCostProbe.onBlockEdit();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.epicspymain.isrealanything.network;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * ParticleEmitterPayload - S2C description of a particle emitter
+ *
+ * One packet instead of one spawnParticles packet per burst: the client
+ * (ClientParticleEmitters) spawns rate particles per tick for duration ticks
+ * at positions drawn from the shape, using seed so every client sees the
+ * same pattern. followPlayer emitters are centered on the receiving player
+ * every tick, center is then an offset.
+ */
+public record ParticleEmitterPayload(
+        ParticleEffect particle,
+        Shape shape,
+        Vec3d center,
+        Vec3d size,
+        float rate,
+        int duration,
+        float speed,
+        long seed,
+        boolean followPlayer
+) implements CustomPayload {
+
+    public static final Id<ParticleEmitterPayload> ID = new Id<>(Identifier.of(IsRealAnything.MOD_ID, "particle_emitter"));
+    public static final PacketCodec<RegistryByteBuf, ParticleEmitterPayload> CODEC = PacketCodec.of(ParticleEmitterPayload::write, ParticleEmitterPayload::read);
+
+    /**
+     * Where particles appear - size is half-extents (BOX), radius/height (the rest)
+     */
+    public enum Shape {
+        BOX,     // Anywhere in center +- size
+        SPHERE,  // Inside a sphere of radius size.x
+        RING,    // On a circle of radius size.x, +- size.y vertically
+        COLUMN   // Inside a cylinder of radius size.x from center up to size.y
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    private void write(RegistryByteBuf buf) {
+        ParticleTypes.PACKET_CODEC.encode(buf, particle);
+        buf.writeByte(shape.ordinal());
+        buf.writeDouble(center.x);
+        buf.writeDouble(center.y);
+        buf.writeDouble(center.z);
+        buf.writeFloat((float) size.x);
+        buf.writeFloat((float) size.y);
+        buf.writeFloat((float) size.z);
+        buf.writeFloat(rate);
+        buf.writeVarInt(duration);
+        buf.writeFloat(speed);
+        buf.writeLong(seed);
+        buf.writeBoolean(followPlayer);
+    }
+
+    private static ParticleEmitterPayload read(RegistryByteBuf buf) {
+        ParticleEffect particle = ParticleTypes.PACKET_CODEC.decode(buf);
+        Shape shape = Shape.values()[buf.readByte()];
+        Vec3d center = new Vec3d(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        Vec3d size = new Vec3d(buf.readFloat(), buf.readFloat(), buf.readFloat());
+        return new ParticleEmitterPayload(particle, shape, center, size,
+                buf.readFloat(), buf.readVarInt(), buf.readFloat(), buf.readLong(), buf.readBoolean());
+    }
+}
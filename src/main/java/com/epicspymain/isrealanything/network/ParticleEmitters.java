@@ -0,0 +1,109 @@
+package com.epicspymain.isrealanything.network;
+
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * ParticleEmitters - Server side of the particle emitter payload
+ *
+ * Usage:
+ *   ParticleEmitters.of(ParticleTypes.ASH, ParticleEmitterPayload.Shape.SPHERE, center)
+ *       .size(20, 20, 20)
+ *       .rate(8)
+ *       .duration(200)
+ *       .sendTo(world);
+ */
+public class ParticleEmitters {
+
+    private static final double SEND_RANGE = 128.0;
+
+    public static void register() {
+        PayloadTypeRegistry.playS2C().register(ParticleEmitterPayload.ID, ParticleEmitterPayload.CODEC);
+    }
+
+    public static Builder of(ParticleEffect particle, ParticleEmitterPayload.Shape shape, Vec3d center) {
+        return new Builder(particle, shape, center);
+    }
+
+    public static class Builder {
+        private final ParticleEffect particle;
+        private final ParticleEmitterPayload.Shape shape;
+        private final Vec3d center;
+        private Vec3d size = Vec3d.ZERO;
+        private float rate = 1.0f;
+        private int duration = 1;
+        private float speed = 0.0f;
+        private boolean followPlayer = false;
+
+        private Builder(ParticleEffect particle, ParticleEmitterPayload.Shape shape, Vec3d center) {
+            this.particle = particle;
+            this.shape = shape;
+            this.center = center;
+        }
+
+        public Builder size(double x, double y, double z) {
+            this.size = new Vec3d(x, y, z);
+            return this;
+        }
+
+        /**
+         * Particles per tick at full particle settings (fractions carry over)
+         */
+        public Builder rate(float rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        public Builder duration(int ticks) {
+            this.duration = Math.max(1, ticks);
+            return this;
+        }
+
+        public Builder speed(float speed) {
+            this.speed = speed;
+            return this;
+        }
+
+        /**
+         * Keep the emitter centered on the receiving player (center becomes an offset)
+         */
+        public Builder followPlayer() {
+            this.followPlayer = true;
+            return this;
+        }
+
+        /**
+         * Send to every player in the world near the emitter
+         */
+        public void sendTo(ServerWorld world) {
+            ParticleEmitterPayload payload = build(world.random.nextLong());
+            double range = SEND_RANGE + Math.max(size.x, Math.max(size.y, size.z));
+            for (ServerPlayerEntity player : world.getPlayers()) {
+                if (player.squaredDistanceTo(center) <= range * range) {
+                    send(player, payload);
+                }
+            }
+        }
+
+        /**
+         * Send to one player
+         */
+        public void sendTo(ServerPlayerEntity player) {
+            send(player, build(player.getRandom().nextLong()));
+        }
+
+        private ParticleEmitterPayload build(long seed) {
+            return new ParticleEmitterPayload(particle, shape, center, size, rate, duration, speed, seed, followPlayer);
+        }
+
+        private static void send(ServerPlayerEntity player, ParticleEmitterPayload payload) {
+            if (ServerPlayNetworking.canSend(player, ParticleEmitterPayload.ID)) {
+                ServerPlayNetworking.send(player, payload);
+            }
+        }
+    }
+}
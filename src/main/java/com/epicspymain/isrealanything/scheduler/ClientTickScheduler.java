@@ -0,0 +1,76 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import com.epicspymain.isrealanything.IsRealAnythingClient;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+
+import java.util.function.IntConsumer;
+
+/**
+ * ClientTickScheduler - Client tick based delayed actions
+ * Replaces the one-off Threads that slept and then hopped back with client.execute()
+ *
+ * Same timing wheel as TickScheduler, driven by END_CLIENT_TICK.
+ * Actions run on the render thread, so they may touch the player, HUD and screens directly.
+ * Everything pending is dropped when the client leaves the world.
+ */
+public class ClientTickScheduler {
+
+    private static final TimingWheel wheel = new TimingWheel("client");
+    private static boolean registered = false;
+
+    public static void register() {
+        if (registered) return;
+
+        ClientTickEvents.END_CLIENT_TICK.register(ClientTickScheduler::onClientTick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> clear());
+
+        registered = true;
+        IsRealAnythingClient.LOGGER.info("Client tick scheduler initialized");
+    }
+
+    private static void onClientTick(MinecraftClient client) {
+        // Freeze with the integrated server while paused, same as the server clock
+        if (client.world == null || client.isPaused()) return;
+
+        wheel.tick();
+    }
+
+    // ========================================
+    // SCHEDULING
+    // ========================================
+
+    /**
+     * Run action after the given number of client ticks (minimum 1)
+     */
+    public static ScheduledTask runAfter(int ticks, Runnable action) {
+        return wheel.schedule(null, ticks, 0, 1, run -> action.run());
+    }
+
+    /**
+     * Run action every period client ticks until cancelled
+     */
+    public static ScheduledTask runRepeating(int delay, int period, Runnable action) {
+        return wheel.schedule(null, delay, period, -1, run -> action.run());
+    }
+
+    /**
+     * Run action a fixed number of times, every period client ticks
+     * Action receives the zero-based iteration index
+     */
+    public static ScheduledTask runRepeating(int delay, int period, int times, IntConsumer action) {
+        return wheel.schedule(null, delay, period, times, action);
+    }
+
+    /**
+     * Drop every pending task (world disconnect)
+     */
+    public static void clear() {
+        wheel.clear();
+    }
+
+    public static int getPendingCount() {
+        return wheel.getPendingCount();
+    }
+}
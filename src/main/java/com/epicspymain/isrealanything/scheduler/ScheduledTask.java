@@ -0,0 +1,82 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Handle for an action queued on the TickScheduler or ClientTickScheduler
+ * Returned by every runAfter/runRepeating call so callers can cancel it
+ */
+public class ScheduledTask {
+
+    private final TimingWheel wheel;
+    final IntConsumer action;
+    final UUID owner;
+    final int period; // 0 = one-shot
+    int remainingRuns; // -1 = forever
+    int runCount = 0;
+
+    // Timing wheel bookkeeping
+    int rounds;
+    ScheduledTask next;
+
+    private boolean cancelled = false;
+    private boolean done = false;
+
+    ScheduledTask(TimingWheel wheel, IntConsumer action, UUID owner, int period, int remainingRuns) {
+        this.wheel = wheel;
+        this.action = action;
+        this.owner = owner;
+        this.period = period;
+        this.remainingRuns = remainingRuns;
+    }
+
+    /**
+     * Cancel the task - it will never run again
+     * The wheel drops it lazily when its slot comes round
+     */
+    public void cancel() {
+        if (cancelled || done) {
+            return;
+        }
+
+        cancelled = true;
+        wheel.onFinished(this);
+    }
+
+    /**
+     * Whether cancel() was called before the task completed
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Whether the task has run its last iteration
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Player that owns this task, or null for global tasks
+     */
+    public UUID getOwner() {
+        return owner;
+    }
+
+    /**
+     * Number of times the action has run so far
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    void markDone() {
+        done = true;
+    }
+
+    boolean isRepeating() {
+        return period > 0;
+    }
+}
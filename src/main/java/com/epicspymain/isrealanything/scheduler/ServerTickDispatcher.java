@@ -0,0 +1,94 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ServerTickDispatcher - Single server-level tick entry point
+ *
+ * END_WORLD_TICK fires once per loaded world, so anything hooked there runs
+ * 4+ times per server tick (overworld, nether, end, limbo). Everything here
+ * runs from END_SERVER_TICK instead:
+ * - server tasks run exactly once per tick, in registration order
+ * - dimension tasks run once per tick for one specific world, if it is loaded
+ * - populated world tasks run once per tick for each world that has players
+ * Deferred heavy work (TickBudget) drains last, then the tick time is recorded.
+ */
+public class ServerTickDispatcher {
+
+    private static final List<Consumer<MinecraftServer>> serverTasks = new ArrayList<>();
+    private static final Map<RegistryKey<World>, List<Consumer<ServerWorld>>> dimensionTasks = new HashMap<>();
+    private static final List<Consumer<ServerWorld>> populatedWorldTasks = new ArrayList<>();
+    private static boolean registered = false;
+
+    public static void register() {
+        if (registered) return;
+
+        ServerTickEvents.END_SERVER_TICK.register(ServerTickDispatcher::tick);
+        TickBudget.register();
+        registered = true;
+    }
+
+    /**
+     * Run once per server tick
+     */
+    public static void onServerTick(Consumer<MinecraftServer> task) {
+        serverTasks.add(task);
+    }
+
+    /**
+     * Run once per server tick for one dimension (skipped while it isn't loaded)
+     */
+    public static void onDimensionTick(RegistryKey<World> dimension, Consumer<ServerWorld> task) {
+        dimensionTasks.computeIfAbsent(dimension, key -> new ArrayList<>()).add(task);
+    }
+
+    /**
+     * Run once per server tick for every world with at least one player in it
+     */
+    public static void onPopulatedWorldTick(Consumer<ServerWorld> task) {
+        populatedWorldTasks.add(task);
+    }
+
+    private static void tick(MinecraftServer server) {
+        for (int i = 0; i < serverTasks.size(); i++) {
+            serverTasks.get(i).accept(server);
+        }
+
+        for (Map.Entry<RegistryKey<World>, List<Consumer<ServerWorld>>> entry : dimensionTasks.entrySet()) {
+            ServerWorld world = server.getWorld(entry.getKey());
+            if (world == null) {
+                continue;
+            }
+
+            List<Consumer<ServerWorld>> tasks = entry.getValue();
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).accept(world);
+            }
+        }
+
+        if (!populatedWorldTasks.isEmpty()) {
+            for (ServerWorld world : server.getWorlds()) {
+                if (world.getPlayers().isEmpty()) {
+                    continue;
+                }
+
+                for (int i = 0; i < populatedWorldTasks.size(); i++) {
+                    populatedWorldTasks.get(i).accept(world);
+                }
+            }
+        }
+
+        TickBudget.drain();
+        TickBudget.endTick();
+    }
+}
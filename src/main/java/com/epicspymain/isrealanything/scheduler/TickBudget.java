@@ -0,0 +1,133 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.util.crash.CrashException;
+
+import java.util.ArrayDeque;
+
+/**
+ * TickBudget - MSPT-aware queue for heavy work
+ *
+ * Measures how long each server tick takes (START_SERVER_TICK to the end of
+ * ServerTickDispatcher) and keeps a moving average. Heavy work is submitted
+ * here instead of running inline; the queue is drained at the end of the tick:
+ * - while average MSPT is over target, work is held
+ * - otherwise work runs until the per-tick heavy budget is spent (at least one item)
+ * - work that has waited maxDeferralTicks runs regardless
+ */
+public class TickBudget {
+
+    private static final double MSPT_SMOOTHING = 0.1; // ~20 tick moving average
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    // Tuning (overridable from server_tuning.json)
+    private static double targetMspt = 40.0;
+    private static long heavyBudgetNanos = 10 * NANOS_PER_MS;
+    private static int maxDeferralTicks = 600; // 30 seconds
+
+    private static final ArrayDeque<DeferredWork> queue = new ArrayDeque<>();
+    private static long tickStartNanos = 0;
+    private static double averageMspt = 0.0;
+    private static boolean registered = false;
+
+    private record DeferredWork(String name, Runnable work, long submitTick) {
+    }
+
+    public static void register() {
+        if (registered) return;
+
+        ServerTickEvents.START_SERVER_TICK.register(server -> tickStartNanos = System.nanoTime());
+        registered = true;
+    }
+
+    /**
+     * Override the defaults
+     */
+    public static void configure(double targetMspt, double heavyBudgetMs, int maxDeferralTicks) {
+        TickBudget.targetMspt = Math.max(1.0, targetMspt);
+        TickBudget.heavyBudgetNanos = (long) (Math.max(0.0, heavyBudgetMs) * NANOS_PER_MS);
+        TickBudget.maxDeferralTicks = Math.max(0, maxDeferralTicks);
+    }
+
+    /**
+     * Queue heavy work - runs at the end of this tick at the earliest
+     */
+    public static void submit(String name, Runnable work) {
+        queue.addLast(new DeferredWork(name, work, TickScheduler.getCurrentTick()));
+    }
+
+    /**
+     * Run queued work against this tick's budget - called by ServerTickDispatcher
+     */
+    static void drain() {
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        long now = TickScheduler.getCurrentTick();
+        long drainStart = System.nanoTime();
+        boolean overBudget = isOverBudget();
+        int ran = 0;
+
+        while (!queue.isEmpty()) {
+            DeferredWork next = queue.peekFirst();
+            long waited = now - next.submitTick();
+
+            // Oldest first, so once something isn't overdue nothing behind it is
+            if (waited < maxDeferralTicks) {
+                if (overBudget) break;
+                if (ran > 0 && System.nanoTime() - drainStart >= heavyBudgetNanos) break;
+            }
+
+            queue.pollFirst();
+            ran++;
+
+            if (waited > 0) {
+                IsRealAnything.LOGGER.debug("Running deferred {} after {} ticks (avg MSPT {})",
+                        next.name(), waited, String.format("%.1f", averageMspt));
+            }
+
+            try {
+                next.work().run();
+            } catch (CrashException e) {
+                throw e; // Deliberate crashes go through
+            } catch (Exception e) {
+                IsRealAnything.LOGGER.error("Error running deferred {}: {}", next.name(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Record how long this tick took - called by ServerTickDispatcher after everything else
+     */
+    static void endTick() {
+        if (tickStartNanos == 0) {
+            return;
+        }
+
+        double tickMs = (System.nanoTime() - tickStartNanos) / (double) NANOS_PER_MS;
+        averageMspt += (tickMs - averageMspt) * MSPT_SMOOTHING;
+    }
+
+    public static boolean isOverBudget() {
+        return averageMspt > targetMspt;
+    }
+
+    public static double getAverageMspt() {
+        return averageMspt;
+    }
+
+    public static int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Drop queued work (server stopping)
+     */
+    public static void clear() {
+        queue.clear();
+        averageMspt = 0.0;
+        tickStartNanos = 0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * TickScheduler - Server tick based delayed actions
+ * Replaces Thread.sleep() inside server.execute(), which froze the whole server tick
+ *
+ * Backed by a hashed timing wheel (see TimingWheel):
+ * insert, cancel and expiry are all O(1) per task.
+ *
+ * Server thread only - call tick() once per server tick.
+ */
+public class TickScheduler {
+
+    private static final TimingWheel wheel = new TimingWheel("server");
+
+    // ========================================
+    // ONE-SHOT TASKS
+    // ========================================
+
+    /**
+     * Run action after the given number of ticks (minimum 1)
+     */
+    public static ScheduledTask runAfter(int ticks, Runnable action) {
+        return wheel.schedule(null, ticks, 0, 1, run -> action.run());
+    }
+
+    /**
+     * Run action after the given number of ticks, owned by a player
+     * Cancelled automatically when the player disconnects
+     */
+    public static ScheduledTask runAfter(ServerPlayerEntity owner, int ticks, Runnable action) {
+        return wheel.schedule(owner.getUuid(), ticks, 0, 1, run -> action.run());
+    }
+
+    // ========================================
+    // REPEATING TASKS
+    // ========================================
+
+    /**
+     * Run action every period ticks until cancelled
+     */
+    public static ScheduledTask runRepeating(int delay, int period, Runnable action) {
+        return wheel.schedule(null, delay, period, -1, run -> action.run());
+    }
+
+    /**
+     * Run action every period ticks until cancelled, owned by a player
+     */
+    public static ScheduledTask runRepeating(ServerPlayerEntity owner, int delay, int period, Runnable action) {
+        return wheel.schedule(owner.getUuid(), delay, period, -1, run -> action.run());
+    }
+
+    /**
+     * Run action a fixed number of times, every period ticks
+     * Action receives the zero-based iteration index
+     */
+    public static ScheduledTask runRepeating(ServerPlayerEntity owner, int delay, int period, int times, IntConsumer action) {
+        return wheel.schedule(owner == null ? null : owner.getUuid(), delay, period, times, action);
+    }
+
+    // ========================================
+    // CANCELLATION
+    // ========================================
+
+    /**
+     * Cancel every pending task owned by a player
+     */
+    public static void cancelAll(UUID owner) {
+        wheel.cancelAll(owner);
+    }
+
+    /**
+     * Drop every pending task (server stopping)
+     */
+    public static void clear() {
+        wheel.clear();
+    }
+
+    // ========================================
+    // TICK
+    // ========================================
+
+    /**
+     * Advance the wheel by one tick and run everything that expired
+     */
+    public static void tick() {
+        wheel.tick();
+    }
+
+    /**
+     * Number of tasks still waiting to run
+     */
+    public static int getPendingCount() {
+        return wheel.getPendingCount();
+    }
+
+    /**
+     * Ticks elapsed since the scheduler started
+     */
+    public static long getCurrentTick() {
+        return wheel.getCurrentTick();
+    }
+}
@@ -0,0 +1,262 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.crash.CrashException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Timeline - Declarative multi-phase event sequence
+ *
+ * Usage:
+ *   Timeline.of(player)
+ *       .at(0, weatherChaos)
+ *       .every(20, 20, flicker)
+ *       .at(600, witherSpawn)
+ *       .start();
+ *
+ * start() compiles the steps into flat, tick-sorted arrays. One tick handler
+ * walks every active timeline with a single cursor compare each.
+ * Tick offsets are relative to start(), clocked by TickScheduler.
+ *
+ * Cancelled as a unit when the owning player disconnects or dies
+ * (unless surviveDeath() is set).
+ */
+public class Timeline {
+
+    // All running timelines
+    private static final List<Timeline> active = new ArrayList<>();
+
+    private final UUID owner;
+    private boolean cancelOnDeath = true;
+
+    // Builder state (dropped on start)
+    private List<Step> pending = new ArrayList<>();
+
+    // Compiled state
+    private int[] stepTicks;
+    private IntConsumer[] stepActions;
+    private int[] stepArgs;
+    private int cursor = 0;
+    private long startTick;
+    private boolean running = false;
+    private boolean cancelled = false;
+
+    private Timeline(UUID owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Start building a timeline owned by a player
+     */
+    public static Timeline of(ServerPlayerEntity player) {
+        return new Timeline(player.getUuid());
+    }
+
+    /**
+     * Start building a timeline with no owner (server-wide sequences)
+     */
+    public static Timeline global() {
+        return new Timeline(null);
+    }
+
+    // ========================================
+    // BUILDER
+    // ========================================
+
+    /**
+     * Run action once, tick ticks after start
+     */
+    public Timeline at(int tick, Runnable action) {
+        return addStep(tick, run -> action.run(), 0);
+    }
+
+    /**
+     * Run action times times, every period ticks, first run one period after start
+     * Action receives the zero-based iteration index
+     */
+    public Timeline every(int period, int times, IntConsumer action) {
+        return every(period, period, times, action);
+    }
+
+    /**
+     * Run action times times, every period ticks, first run at startTick
+     */
+    public Timeline every(int startTick, int period, int times, IntConsumer action) {
+        for (int i = 0; i < times; i++) {
+            addStep(startTick + i * period, action, i);
+        }
+        return this;
+    }
+
+    /**
+     * Keep running if the owner dies (disconnect still cancels)
+     */
+    public Timeline surviveDeath() {
+        this.cancelOnDeath = false;
+        return this;
+    }
+
+    private Timeline addStep(int tick, IntConsumer action, int arg) {
+        if (pending == null) {
+            throw new IllegalStateException("Timeline already started");
+        }
+        pending.add(new Step(Math.max(0, tick), action, arg));
+        return this;
+    }
+
+    /**
+     * Compile the steps and begin running on the next server tick
+     */
+    public Timeline start() {
+        if (pending == null) {
+            throw new IllegalStateException("Timeline already started");
+        }
+
+        // Stable sort keeps same-tick steps in declaration order
+        pending.sort((a, b) -> Integer.compare(a.tick(), b.tick()));
+
+        int count = pending.size();
+        stepTicks = new int[count];
+        stepActions = new IntConsumer[count];
+        stepArgs = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            Step step = pending.get(i);
+            stepTicks[i] = step.tick();
+            stepActions[i] = step.action();
+            stepArgs[i] = step.arg();
+        }
+
+        pending = null;
+        startTick = TickScheduler.getCurrentTick();
+        running = true;
+        active.add(this);
+        return this;
+    }
+
+    // ========================================
+    // CONTROL
+    // ========================================
+
+    /**
+     * Stop the timeline - no further steps run
+     */
+    public void cancel() {
+        cancelled = true;
+        running = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public UUID getOwner() {
+        return owner;
+    }
+
+    /**
+     * Ticks since start()
+     */
+    public int getElapsedTicks() {
+        return (int) (TickScheduler.getCurrentTick() - startTick);
+    }
+
+    /**
+     * Cancel every timeline owned by a player (disconnect)
+     */
+    public static void cancelAll(UUID playerUuid) {
+        for (Timeline timeline : active) {
+            if (playerUuid.equals(timeline.owner)) {
+                timeline.cancel();
+            }
+        }
+    }
+
+    /**
+     * Cancel timelines owned by a player that don't survive death
+     */
+    public static void onOwnerDeath(UUID playerUuid) {
+        for (Timeline timeline : active) {
+            if (timeline.cancelOnDeath && playerUuid.equals(timeline.owner)) {
+                timeline.cancel();
+            }
+        }
+    }
+
+    /**
+     * Drop every timeline (server stopping)
+     */
+    public static void clear() {
+        for (Timeline timeline : active) {
+            timeline.cancel();
+        }
+        active.clear();
+    }
+
+    public static int getActiveCount() {
+        return active.size();
+    }
+
+    // ========================================
+    // TICK
+    // ========================================
+
+    /**
+     * Advance every active timeline - call once per server tick after TickScheduler.tick()
+     */
+    public static void tickAll() {
+        if (active.isEmpty()) {
+            return;
+        }
+
+        long now = TickScheduler.getCurrentTick();
+
+        for (int i = 0; i < active.size(); i++) {
+            Timeline timeline = active.get(i);
+
+            if (timeline.running) {
+                timeline.advance(now);
+            }
+
+            if (!timeline.running && i < active.size() && active.get(i) == timeline) {
+                // Swap-remove, then revisit this index
+                int last = active.size() - 1;
+                active.set(i, active.get(last));
+                active.remove(last);
+                i--;
+            }
+        }
+    }
+
+    private void advance(long now) {
+        int elapsed = (int) (now - startTick);
+
+        while (running && cursor < stepTicks.length && stepTicks[cursor] <= elapsed) {
+            int index = cursor++;
+            try {
+                stepActions[index].accept(stepArgs[index]);
+            } catch (CrashException e) {
+                throw e; // Deliberate crashes go through
+            } catch (Exception e) {
+                IsRealAnything.LOGGER.error("Error in timeline step {}: {}", index, e.getMessage());
+                cancel();
+            }
+        }
+
+        if (cursor >= stepTicks.length) {
+            running = false;
+        }
+    }
+
+    private record Step(int tick, IntConsumer action, int arg) {
+    }
+}
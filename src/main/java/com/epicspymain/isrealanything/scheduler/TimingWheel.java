@@ -0,0 +1,163 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Hashed timing wheel shared by the server and client schedulers
+ *
+ * Each slot holds a linked list of tasks, a task further away than one
+ * revolution carries a round counter. Insert, cancel and expiry are all
+ * O(1) per task. Not thread safe - owned by a single game thread.
+ */
+class TimingWheel {
+
+    private static final int WHEEL_BITS = 9;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS; // 512 ticks (~25 seconds) per revolution
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final String name;
+    private final ScheduledTask[] wheel = new ScheduledTask[WHEEL_SIZE];
+    private final Map<UUID, Set<ScheduledTask>> tasksByOwner = new HashMap<>();
+    private long currentTick = 0;
+    private int pendingCount = 0;
+
+    TimingWheel(String name) {
+        this.name = name;
+    }
+
+    ScheduledTask schedule(UUID owner, int delay, int period, int times, IntConsumer action) {
+        ScheduledTask task = new ScheduledTask(this, action, owner, Math.max(0, period), times);
+
+        if (times == 0) {
+            task.markDone();
+            return task;
+        }
+
+        if (owner != null) {
+            tasksByOwner.computeIfAbsent(owner, uuid -> new HashSet<>()).add(task);
+        }
+
+        pendingCount++;
+        insert(task, delay);
+        return task;
+    }
+
+    /**
+     * Advance the wheel by one tick and run everything that expired
+     */
+    void tick() {
+        currentTick++;
+
+        if (pendingCount == 0) {
+            return;
+        }
+
+        int slot = (int) (currentTick & WHEEL_MASK);
+
+        // Detach the slot first so tasks scheduled while running land cleanly
+        ScheduledTask task = wheel[slot];
+        wheel[slot] = null;
+
+        while (task != null) {
+            ScheduledTask next = task.next;
+            task.next = null;
+
+            if (task.isCancelled()) {
+                // Already unregistered by cancel()
+            } else if (task.rounds > 0) {
+                task.rounds--;
+                task.next = wheel[slot];
+                wheel[slot] = task;
+            } else {
+                runTask(task);
+            }
+
+            task = next;
+        }
+    }
+
+    void cancelAll(UUID owner) {
+        Set<ScheduledTask> owned = tasksByOwner.remove(owner);
+        if (owned == null) {
+            return;
+        }
+
+        for (ScheduledTask task : owned.toArray(new ScheduledTask[0])) {
+            task.cancel();
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            // Mark dropped tasks done so stale handles can't cancel() them later
+            for (ScheduledTask task = wheel[i]; task != null; task = task.next) {
+                task.markDone();
+            }
+            wheel[i] = null;
+        }
+        tasksByOwner.clear();
+        pendingCount = 0;
+    }
+
+    private void runTask(ScheduledTask task) {
+        try {
+            task.action.accept(task.runCount);
+        } catch (Exception e) {
+            IsRealAnything.LOGGER.error("Error running {} task: {}", name, e.getMessage());
+        }
+
+        task.runCount++;
+
+        if (task.isCancelled()) {
+            return; // Cancelled itself while running
+        }
+
+        if (task.isRepeating() && (task.remainingRuns < 0 || --task.remainingRuns > 0)) {
+            insert(task, task.period);
+        } else {
+            task.markDone();
+            onFinished(task);
+        }
+    }
+
+    private void insert(ScheduledTask task, int delay) {
+        int ticks = Math.max(1, delay);
+        int slot = (int) ((currentTick + ticks) & WHEEL_MASK);
+
+        task.rounds = (ticks - 1) >>> WHEEL_BITS;
+        task.next = wheel[slot];
+        wheel[slot] = task;
+    }
+
+    /**
+     * Called once when a task is cancelled or completes
+     */
+    void onFinished(ScheduledTask task) {
+        pendingCount--;
+
+        if (task.owner != null) {
+            Set<ScheduledTask> owned = tasksByOwner.get(task.owner);
+            if (owned != null) {
+                owned.remove(task);
+                if (owned.isEmpty()) {
+                    tasksByOwner.remove(task.owner);
+                }
+            }
+        }
+    }
+
+    int getPendingCount() {
+        return pendingCount;
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+}
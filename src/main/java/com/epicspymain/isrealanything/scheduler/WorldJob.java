@@ -0,0 +1,207 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.world.ChunkTicketHolder;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * WorldJob - Large world operation split into units and run over many ticks
+ *
+ * A job is a list of work units (chunk columns, sections, entities...) and an
+ * action run on each. WorldJobs drains running jobs within a per-tick time
+ * budget, highest priority first. Optionally:
+ * - nearestFirst() orders units by distance so the visible part starts at once
+ * - holdChunks() keeps each unit's chunk loaded with a ticket until its last
+ *   unit has run; a unit whose chunk isn't loaded yet waits instead of loading it
+ *
+ * Usage:
+ *   WorldJob.of("Meltdown", world, chunks, chunk -> destroy(chunk))
+ *       .holdChunks(chunk -> chunk)
+ *       .nearestFirst(center, chunk -> chunk.getCenterAtY(center.getY()))
+ *       .start();
+ */
+public class WorldJob<T> {
+
+    private final String name;
+    private final ServerWorld world;
+    private final List<T> units;
+    private final Consumer<T> action;
+
+    private Function<T, ChunkPos> chunkOf = null;
+    private ChunkTicketHolder tickets = null;
+    private final Long2IntOpenHashMap unitsPerChunk = new Long2IntOpenHashMap();
+    private int priority = 0;
+    private Runnable onComplete = null;
+
+    private int next = 0;
+    private boolean started = false;
+    private boolean cancelled = false;
+    private long startTick;
+
+    private WorldJob(String name, ServerWorld world, List<T> units, Consumer<T> action) {
+        this.name = name;
+        this.world = world;
+        this.units = new ArrayList<>(units);
+        this.action = action;
+    }
+
+    public static <T> WorldJob<T> of(String name, ServerWorld world, List<T> units, Consumer<T> action) {
+        return new WorldJob<>(name, world, units, action);
+    }
+
+    /**
+     * Run units closest to origin first
+     */
+    public WorldJob<T> nearestFirst(BlockPos origin, Function<T, BlockPos> positionOf) {
+        units.sort(Comparator.comparingDouble(unit -> positionOf.apply(unit).getSquaredDistance(origin)));
+        return this;
+    }
+
+    /**
+     * Hold each unit's chunk loaded until the unit has run
+     */
+    public WorldJob<T> holdChunks(Function<T, ChunkPos> chunkOf) {
+        this.chunkOf = chunkOf;
+        return this;
+    }
+
+    /**
+     * Higher runs first when several jobs share the budget (default 0)
+     */
+    public WorldJob<T> priority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    /**
+     * Run after the last unit (not if cancelled)
+     */
+    public WorldJob<T> onComplete(Runnable onComplete) {
+        this.onComplete = onComplete;
+        return this;
+    }
+
+    public WorldJob<T> start() {
+        if (started) return this;
+        started = true;
+        startTick = TickScheduler.getCurrentTick();
+
+        if (chunkOf != null) {
+            tickets = new ChunkTicketHolder(world, 0);
+            for (T unit : units) {
+                ChunkPos chunk = chunkOf.apply(unit);
+                unitsPerChunk.addTo(chunk.toLong(), 1);
+                tickets.hold(chunk);
+            }
+        }
+
+        WorldJobs.add(this);
+        return this;
+    }
+
+    /**
+     * Stop before the next unit and release chunks
+     */
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ServerWorld getWorld() {
+        return world;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return next >= units.size();
+    }
+
+    /**
+     * Fraction of units run, 0 to 1
+     */
+    public float getProgress() {
+        return units.isEmpty() ? 1.0f : (float) next / units.size();
+    }
+
+    // ========================================
+    // RUNNER (WorldJobs)
+    // ========================================
+
+    /**
+     * Run the next unit - false if the job is finished or waiting on a chunk
+     */
+    boolean step() {
+        if (cancelled || isDone()) {
+            return false;
+        }
+
+        T unit = units.get(next);
+        ChunkPos chunk = chunkOf != null ? chunkOf.apply(unit) : null;
+        if (chunk != null && !world.isChunkLoaded(chunk.x, chunk.z)) {
+            return false;
+        }
+
+        try {
+            action.accept(unit);
+        } catch (Exception e) {
+            IsRealAnything.LOGGER.error("Error in world job {}: {}", name, e.getMessage());
+        }
+        next++;
+
+        if (chunk != null && unitsPerChunk.addTo(chunk.toLong(), -1) == 1) {
+            unitsPerChunk.remove(chunk.toLong());
+            tickets.release(chunk);
+        }
+        return true;
+    }
+
+    /**
+     * Keep long jobs' tickets from expiring
+     */
+    void tick(long now) {
+        if (tickets != null && (now - startTick) % ChunkTicketHolder.TICKET_REFRESH_TICKS == 0) {
+            tickets.refresh();
+        }
+    }
+
+    void finish() {
+        release();
+        if (cancelled) {
+            return;
+        }
+
+        IsRealAnything.LOGGER.debug("World job {} finished: {} units in {} ticks",
+                name, units.size(), TickScheduler.getCurrentTick() - startTick);
+        if (onComplete != null) {
+            onComplete.run();
+        }
+    }
+
+    private void release() {
+        if (tickets != null) {
+            tickets.releaseAll();
+            unitsPerChunk.clear();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.epicspymain.isrealanything.scheduler;
+
+import net.minecraft.server.MinecraftServer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WorldJobs - Drains running WorldJobs within a per-tick time budget
+ *
+ * Jobs run in priority order (equal priority: oldest first). Each tick the
+ * runner works through them until the budget is spent; a job waiting on a
+ * chunk hands the rest of the budget to the next one. While TickBudget says
+ * the server is over its MSPT target, jobs only get a quarter of the budget.
+ */
+public class WorldJobs {
+
+    private static final long NANOS_PER_MS = 1_000_000L;
+    private static final int OVER_BUDGET_DIVISOR = 4;
+
+    // Tuning (overridable from server_tuning.json)
+    private static long budgetNanos = 5 * NANOS_PER_MS;
+
+    private static final List<WorldJob<?>> jobs = new ArrayList<>();
+
+    /**
+     * Override the default budget
+     */
+    public static void configure(double budgetMs) {
+        budgetNanos = (long) (Math.max(0.1, budgetMs) * NANOS_PER_MS);
+    }
+
+    /**
+     * Add a started job - called by WorldJob.start()
+     */
+    static void add(WorldJob<?> job) {
+        int index = jobs.size();
+        while (index > 0 && jobs.get(index - 1).getPriority() < job.getPriority()) {
+            index--;
+        }
+        jobs.add(index, job);
+    }
+
+    /**
+     * Run jobs until this tick's budget is spent - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        long now = TickScheduler.getCurrentTick();
+        long budget = TickBudget.isOverBudget() ? budgetNanos / OVER_BUDGET_DIVISOR : budgetNanos;
+        long start = System.nanoTime();
+        boolean spent = false;
+
+        for (int i = 0; i < jobs.size(); i++) {
+            WorldJob<?> job = jobs.get(i);
+            job.tick(now);
+
+            while (!spent && job.step()) {
+                spent = System.nanoTime() - start >= budget;
+            }
+
+            if (job.isCancelled() || job.isDone()) {
+                jobs.remove(i--);
+                job.finish();
+            }
+        }
+    }
+
+    public static int getActiveCount() {
+        return jobs.size();
+    }
+
+    /**
+     * Drop every job (server stopping - worlds are gone, tickets with them)
+     */
+    public static void clear() {
+        jobs.clear();
+    }
+}
@@ -1,6 +1,7 @@
 package com.epicspymain.isrealanything.screen;
 
 import com.epicspymain.isrealanything.entity.ModEntities;
+import com.epicspymain.isrealanything.world.SightLines;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
@@ -18,6 +19,7 @@ public class TheMEEntityOverlay {
     private static boolean isBeingWatched = false;
     private static long lastUpdateTime = 0;
     private static final long UPDATE_INTERVAL = 100; // Update every 100ms
+    private static final SightLines SIGHT_LINES = new SightLines(); // Client side - own entity ids
 
     public static void register() {
         HudRenderCallback.EVENT.register(TheMEEntityOverlay::render);
@@ -83,6 +85,7 @@ public class TheMEEntityOverlay {
         // Calculate intensity based on closest entity
         float minDistance = Float.MAX_VALUE;
         boolean watching = false;
+        long now = client.world.getTime();
 
         for (Entity entity : nearbyEntities) {
             float distance = (float) entity.distanceTo(client.player);
@@ -93,10 +96,12 @@ public class TheMEEntityOverlay {
             Vec3d toPlayer = playerPos.subtract(entity.getPos()).normalize();
             double dot = entityLook.dotProduct(toPlayer);
             
-            if (dot > 0.9) { // Entity is looking at player
+            // Entity is looking at player - raycast only inside its cone
+            if (!watching && dot > 0.9 && SIGHT_LINES.isClear(client.world, entity, client.player, now)) {
                 watching = true;
             }
         }
+        SIGHT_LINES.prune(now); // A handful of entries - cheap at 10 updates a second
 
         isBeingWatched = watching;
 
@@ -170,6 +175,7 @@ public class TheMEEntityOverlay {
         isActive = false;
         intensity = 0.0f;
         isBeingWatched = false;
+        SIGHT_LINES.clear();
     }
 
     public static boolean isActive() {
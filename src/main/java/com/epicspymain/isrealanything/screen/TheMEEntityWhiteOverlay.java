@@ -1,5 +1,6 @@
 package com.epicspymain.isrealanything.screen;
 
+import com.epicspymain.isrealanything.scheduler.ClientTickScheduler;
 import com.epicspymain.isrealanything.sound.ModSounds;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.minecraft.client.MinecraftClient;
@@ -129,19 +130,14 @@ public class TheMEEntityWhiteOverlay {
      * Creates multiple quick flashes for an intense effect
      */
     public static void triggerMultiFlash(int count, long delayBetween) {
-        MinecraftClient client = MinecraftClient.getInstance();
-        for (int i = 0; i < count; i++) {
-            final int index = i;
-            client.execute(() -> {
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(delayBetween * index);
-                        trigger(300, 0.8f, index == 0); // Only play sound on first flash
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }).start();
-            });
+        if (count <= 0) return;
+
+        int periodTicks = (int) Math.max(1, delayBetween / 50);
+
+        // First flash right away with sound, the rest on the client tick scheduler
+        trigger(300, 0.8f, true);
+        if (count > 1) {
+            ClientTickScheduler.runRepeating(periodTicks, periodTicks, count - 1, index -> trigger(300, 0.8f, false));
         }
     }
 
@@ -0,0 +1,246 @@
+package com.epicspymain.isrealanything.world;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * BaseIndex - Per-chunk count of "base-indicative" blocks
+ *
+ * Each chunk carries a persistent attachment with the number of building
+ * blocks (planks, cobblestone, torches, crafting tables, chests...) in each
+ * of its sections.
+ * - chunks without counts are queued on load and counted from their section
+ *   palettes a few per tick (or at once when a query needs them)
+ * - WorldChunk.setBlockState and BlockEditSession keep counts up to date
+ * Base checks are then a sum over the sections in range instead of a block
+ * scan - only sections near the queried height, so mineshafts, strongholds
+ * and dungeons far above or below don't pass for a base. Only loaded chunks
+ * are consulted.
+ */
+public class BaseIndex {
+
+    private static final int BUILDS_PER_TICK = 8;
+
+    private static final Set<Block> BASE_BLOCKS = Set.of(
+            Blocks.OAK_PLANKS,
+            Blocks.SPRUCE_PLANKS,
+            Blocks.COBBLESTONE,
+            Blocks.STONE_BRICKS,
+            Blocks.TORCH,
+            Blocks.WALL_TORCH,
+            Blocks.CRAFTING_TABLE,
+            Blocks.FURNACE,
+            Blocks.CHEST
+    );
+
+    // One count per chunk section, bottom section first - replaced, never mutated in place
+    public static final AttachmentType<int[]> BASE_BLOCKS_ATTACHMENT = AttachmentRegistry.create(
+            Identifier.of(IsRealAnything.MOD_ID, "base_blocks_by_section"),
+            builder -> builder.persistent(Codec.INT_STREAM.xmap(IntStream::toArray, Arrays::stream))
+    );
+
+    // Loaded chunks still waiting for their first count, per world
+    private static final Map<RegistryKey<World>, LongLinkedOpenHashSet> pending = new HashMap<>();
+
+    public static void register() {
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            if (!chunk.hasAttached(BASE_BLOCKS_ATTACHMENT)) {
+                pending.computeIfAbsent(world.getRegistryKey(), key -> new LongLinkedOpenHashSet())
+                        .add(chunk.getPos().toLong());
+            }
+        });
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            LongLinkedOpenHashSet queued = pending.get(world.getRegistryKey());
+            if (queued != null) {
+                queued.remove(chunk.getPos().toLong());
+            }
+        });
+    }
+
+    public static boolean isBaseBlock(BlockState state) {
+        return BASE_BLOCKS.contains(state.getBlock());
+    }
+
+    // ========================================
+    // QUERIES
+    // ========================================
+
+    /**
+     * Base blocks in the loaded chunks within radius blocks of center,
+     * counting only the sections that reach within verticalRadius of its height
+     */
+    public static int count(ServerWorld world, BlockPos center, int radius, int verticalRadius) {
+        int total = 0;
+        for (int cx = (center.getX() - radius) >> 4; cx <= (center.getX() + radius) >> 4; cx++) {
+            for (int cz = (center.getZ() - radius) >> 4; cz <= (center.getZ() + radius) >> 4; cz++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(cx, cz);
+                if (chunk != null) {
+                    total += sum(chunk, center.getY() - verticalRadius, center.getY() + verticalRadius);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Densest loaded chunk within radius blocks of center (verticalRadius
+     * around its height) holding at least minBlocks base blocks - the
+     * player's actual base, or null
+     */
+    @Nullable
+    public static ChunkPos findBase(ServerWorld world, BlockPos center, int radius, int verticalRadius, int minBlocks) {
+        ChunkPos best = null;
+        int bestCount = minBlocks - 1;
+        for (int cx = (center.getX() - radius) >> 4; cx <= (center.getX() + radius) >> 4; cx++) {
+            for (int cz = (center.getZ() - radius) >> 4; cz <= (center.getZ() + radius) >> 4; cz++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(cx, cz);
+                if (chunk == null) {
+                    continue;
+                }
+                int count = sum(chunk, center.getY() - verticalRadius, center.getY() + verticalRadius);
+                if (count > bestCount) {
+                    bestCount = count;
+                    best = chunk.getPos();
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * A chunk's per-section counts, counting it now if it has none yet
+     */
+    public static int[] get(WorldChunk chunk) {
+        int[] counts = chunk.getAttached(BASE_BLOCKS_ATTACHMENT);
+        return counts != null && counts.length == chunk.getSectionArray().length ? counts : build(chunk);
+    }
+
+    /**
+     * Base blocks in the chunk's sections overlapping minY..maxY
+     */
+    private static int sum(WorldChunk chunk, int minY, int maxY) {
+        int[] counts = get(chunk);
+        int from = Math.max(0, chunk.getSectionIndex(minY));
+        int to = Math.min(counts.length - 1, chunk.getSectionIndex(maxY));
+        int total = 0;
+        for (int i = from; i <= to; i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    // ========================================
+    // UPDATES
+    // ========================================
+
+    /**
+     * A block in chunk went from old to state - called by WorldChunkMixin
+     */
+    public static void onBlockChanged(WorldChunk chunk, BlockPos pos, BlockState old, BlockState state) {
+        boolean wasBase = isBaseBlock(old);
+        if (wasBase != isBaseBlock(state)) {
+            adjust(chunk, pos.getY(), wasBase ? -1 : 1);
+        }
+    }
+
+    /**
+     * Shift the count of the section holding block height y - chunks not
+     * counted yet are left for their build
+     */
+    public static void adjust(WorldChunk chunk, int y, int delta) {
+        if (delta == 0 || chunk.getWorld().isClient()) {
+            return;
+        }
+        int[] counts = chunk.getAttached(BASE_BLOCKS_ATTACHMENT);
+        int index = chunk.getSectionIndex(y);
+        if (counts != null && index >= 0 && index < counts.length) {
+            int[] updated = counts.clone();
+            updated[index] = Math.max(0, updated[index] + delta);
+            chunk.setAttached(BASE_BLOCKS_ATTACHMENT, updated);
+            chunk.markNeedsSaving();
+        }
+    }
+
+    /**
+     * Count a few queued chunks - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int budget = BUILDS_PER_TICK;
+        for (ServerWorld world : server.getWorlds()) {
+            LongLinkedOpenHashSet queued = pending.get(world.getRegistryKey());
+            if (queued == null) {
+                continue;
+            }
+
+            LongIterator it = queued.iterator();
+            while (budget > 0 && it.hasNext()) {
+                ChunkPos pos = new ChunkPos(it.nextLong());
+                it.remove();
+
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(pos.x, pos.z);
+                if (chunk != null && !chunk.hasAttached(BASE_BLOCKS_ATTACHMENT)) {
+                    build(chunk);
+                    budget--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Count a chunk from its section palettes and store the result
+     */
+    private static int[] build(WorldChunk chunk) {
+        ChunkSection[] sections = chunk.getSectionArray();
+        int[] counts = new int[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i].isEmpty() || !sections[i].hasAny(BaseIndex::isBaseBlock)) {
+                continue;
+            }
+            int index = i;
+            sections[i].getBlockStateContainer().count((state, n) -> {
+                if (isBaseBlock(state)) {
+                    counts[index] += n;
+                }
+            });
+        }
+
+        chunk.setAttached(BASE_BLOCKS_ATTACHMENT, counts);
+        chunk.markNeedsSaving();
+        return counts;
+    }
+
+    /**
+     * Drop the build queue (server stopping)
+     */
+    public static void clear() {
+        pending.clear();
+    }
+}
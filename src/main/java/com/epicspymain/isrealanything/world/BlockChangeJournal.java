@@ -0,0 +1,427 @@
+package com.epicspymain.isrealanything.world;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtSizeTracker;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.WorldSavePath;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * BlockChangeJournal - Per-world history of blocks players broke and placed
+ *
+ * Each player keeps the last CAPACITY changes in a primitive ring buffer
+ * (packed pos, old state id, new state id, world tick) - oldest first, so an
+ * age range is a contiguous slice found by binary search.
+ *
+ * Fed by PlayerBlockBreakEvents and BlockItemMixin (Fabric has no place
+ * event). Every change is appended to <dimension>/data/isrealanything_journal.bin,
+ * flushed every FLUSH_INTERVAL ticks and on world unload; the file is read
+ * back into the rings on load and rewritten from them once it has grown well
+ * past what they hold.
+ *
+ * Raw state ids aren't stable across game or mod changes (or registry
+ * remaps), so the file never stores them. It carries its own palette: the
+ * first time a state is written, a palette entry (block id plus properties,
+ * as BlockTransaction saves them) is appended, and change records refer to
+ * palette indices. Loading decodes the palette against the current
+ * registries - a block that no longer exists reads back as air.
+ */
+public class BlockChangeJournal {
+
+    public static final int CAPACITY = 100;
+
+    private static final String FILE_NAME = "isrealanything_journal.bin";
+    private static final int MAGIC = 0x49524A32; // "IRJ2"
+    private static final byte TAG_STATE = 0;  // Palette entry: index, state NBT
+    private static final byte TAG_CHANGE = 1; // Change: player, pos, old/new palette index, tick
+    private static final int FLUSH_INTERVAL = 600; // 30 seconds
+    private static final int COMPACT_MIN_RECORDS = 4096;
+    private static final int COMPACT_FACTOR = 4;
+
+    private static final Map<RegistryKey<World>, BlockChangeJournal> journals = new HashMap<>();
+
+    private final Path file;
+    private final Map<UUID, History> histories = new HashMap<>();
+    @Nullable
+    private DataOutputStream out = null;
+    private int recordsInFile = 0;
+    private final Int2IntOpenHashMap filePalette = new Int2IntOpenHashMap(); // raw id -> palette index in the file
+    private int filePaletteSize = 0;
+
+    private BlockChangeJournal(Path file) {
+        this.file = file;
+        resetPalette();
+    }
+
+    public static void register() {
+        ServerWorldEvents.LOAD.register((server, world) -> journals.put(world.getRegistryKey(), open(server, world)));
+        ServerWorldEvents.UNLOAD.register((server, world) -> {
+            BlockChangeJournal journal = journals.remove(world.getRegistryKey());
+            if (journal != null) {
+                journal.close();
+            }
+        });
+        PlayerBlockBreakEvents.AFTER.register((world, player, pos, state, blockEntity) -> {
+            if (player instanceof ServerPlayerEntity serverPlayer) {
+                record(serverPlayer, pos, state, world.getBlockState(pos));
+            }
+        });
+    }
+
+    /**
+     * Journal for a world - null before it has loaded
+     */
+    @Nullable
+    public static BlockChangeJournal get(ServerWorld world) {
+        return journals.get(world.getRegistryKey());
+    }
+
+    /**
+     * A player changed a block in their current world
+     */
+    public static void record(ServerPlayerEntity player, BlockPos pos, BlockState oldState, BlockState newState) {
+        if (oldState == newState) {
+            return;
+        }
+        ServerWorld world = (ServerWorld) player.getWorld();
+        BlockChangeJournal journal = get(world);
+        if (journal != null) {
+            journal.append(player.getUuid(), pos.asLong(), Block.getRawIdFromState(oldState),
+                    Block.getRawIdFromState(newState), world.getTime());
+        }
+    }
+
+    /**
+     * A player's changes in this world, or null if there are none
+     */
+    @Nullable
+    public History getHistory(UUID playerUuid) {
+        return histories.get(playerUuid);
+    }
+
+    /**
+     * Flush appended records every FLUSH_INTERVAL ticks - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (server.getTicks() % FLUSH_INTERVAL != 0) {
+            return;
+        }
+        for (BlockChangeJournal journal : journals.values()) {
+            journal.flush();
+        }
+    }
+
+    // ========================================
+    // PER-PLAYER RING
+    // ========================================
+
+    /**
+     * Last CAPACITY changes of one player, index 0 is the oldest
+     */
+    public static class History {
+        private final long[] positions = new long[CAPACITY];
+        private final int[] oldStates = new int[CAPACITY];
+        private final int[] newStates = new int[CAPACITY];
+        private final long[] ticks = new long[CAPACITY];
+        private int head = 0; // slot of the oldest entry
+        private int size = 0;
+
+        void add(long pos, int oldState, int newState, long tick) {
+            int slot = (head + size) % CAPACITY;
+            if (size == CAPACITY) {
+                head = (head + 1) % CAPACITY;
+            } else {
+                size++;
+            }
+            positions[slot] = pos;
+            oldStates[slot] = oldState;
+            newStates[slot] = newState;
+            ticks[slot] = tick;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public BlockPos getPos(int index) {
+            return BlockPos.fromLong(positions[slot(index)]);
+        }
+
+        public BlockState getOldState(int index) {
+            return Block.getStateFromRawId(oldStates[slot(index)]);
+        }
+
+        public BlockState getNewState(int index) {
+            return Block.getStateFromRawId(newStates[slot(index)]);
+        }
+
+        public long getTick(int index) {
+            return ticks[slot(index)];
+        }
+
+        /**
+         * First index whose tick is at or after the given tick (size if none)
+         */
+        public int indexAtOrAfter(long tick) {
+            int low = 0, high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getTick(mid) < tick) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int slot(int index) {
+            return (head + index) % CAPACITY;
+        }
+    }
+
+    // ========================================
+    // FILE
+    // ========================================
+
+    private static BlockChangeJournal open(MinecraftServer server, ServerWorld world) {
+        Path dir = DimensionType.getSaveDirectory(world.getRegistryKey(), server.getSavePath(WorldSavePath.ROOT)).resolve("data");
+        BlockChangeJournal journal = new BlockChangeJournal(dir.resolve(FILE_NAME));
+        journal.load();
+        return journal;
+    }
+
+    private void append(UUID playerUuid, long pos, int oldState, int newState, long tick) {
+        histories.computeIfAbsent(playerUuid, uuid -> new History()).add(pos, oldState, newState, tick);
+
+        try {
+            if (out == null) {
+                boolean fresh = !Files.exists(file);
+                Files.createDirectories(file.getParent());
+                out = new DataOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+                if (fresh) {
+                    writeHeader(out);
+                    resetPalette();
+                }
+            }
+            writeRecord(out, playerUuid, pos, oldState, newState, tick);
+            recordsInFile++;
+        } catch (IOException e) {
+            IsRealAnything.LOGGER.error("Failed to append to block journal {}: {}", file, e.getMessage());
+        }
+
+        if (recordsInFile > COMPACT_MIN_RECORDS && recordsInFile > COMPACT_FACTOR * retained()) {
+            compact();
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        int records = 0;
+        boolean midRecord = true; // Only EOF right before a tag is a clean end
+        IntArrayList palette = new IntArrayList(); // palette index -> current raw id
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                IsRealAnything.LOGGER.info("Discarding block journal {}: unknown format", file);
+                Files.delete(file);
+                return;
+            }
+            while (true) {
+                midRecord = false;
+                byte tag = in.readByte();
+                midRecord = true;
+                if (tag == TAG_STATE) {
+                    int index = in.readInt();
+                    NbtCompound stateNbt = NbtIo.readCompound(in, NbtSizeTracker.ofUnlimitedBytes());
+                    if (index != palette.size()) {
+                        throw new IOException("palette entry " + index + " out of order");
+                    }
+                    int rawId = Block.getRawIdFromState(NbtHelper.toBlockState(Registries.BLOCK, stateNbt));
+                    palette.add(rawId);
+                    filePalette.putIfAbsent(rawId, index);
+                    filePaletteSize++;
+                } else if (tag == TAG_CHANGE) {
+                    UUID uuid = new UUID(in.readLong(), in.readLong());
+                    long pos = in.readLong();
+                    int oldIndex = in.readInt();
+                    int newIndex = in.readInt();
+                    long tick = in.readLong();
+                    if (oldIndex < 0 || oldIndex >= palette.size() || newIndex < 0 || newIndex >= palette.size()) {
+                        throw new IOException("change refers to missing palette entry");
+                    }
+                    histories.computeIfAbsent(uuid, key -> new History())
+                            .add(pos, palette.getInt(oldIndex), palette.getInt(newIndex), tick);
+                    records++;
+                } else {
+                    throw new IOException("unknown record tag " + tag);
+                }
+            }
+        } catch (EOFException e) {
+            if (midRecord) {
+                // Torn last record - rewrite without it so appends start on a record boundary
+                IsRealAnything.LOGGER.warn("Block journal {} ends in a partial record, compacting", file);
+                recordsInFile = records;
+                compact();
+                return;
+            }
+        } catch (IOException e) {
+            IsRealAnything.LOGGER.error("Failed to read block journal {}: {}", file, e.getMessage());
+            recordsInFile = records;
+            compact(); // Keep what was read, drop the damaged tail
+            return;
+        }
+
+        recordsInFile = records;
+        if (recordsInFile > COMPACT_FACTOR * retained()) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrite the file from the rings (temp file, then atomic replace)
+     */
+    private void compact() {
+        closeStream();
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+
+        try {
+            Files.createDirectories(file.getParent());
+            resetPalette();
+            try (DataOutputStream tempOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writeHeader(tempOut);
+                for (Map.Entry<UUID, History> entry : histories.entrySet()) {
+                    History history = entry.getValue();
+                    for (int i = 0; i < history.size; i++) {
+                        int slot = history.slot(i);
+                        writeRecord(tempOut, entry.getKey(), history.positions[slot],
+                                history.oldStates[slot], history.newStates[slot], history.ticks[slot]);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            recordsInFile = retained();
+        } catch (IOException e) {
+            IsRealAnything.LOGGER.error("Failed to compact block journal {}: {}", file, e.getMessage());
+            // The old file's palette is gone - start over so appends can't point at the wrong states
+            try {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+            resetPalette();
+            recordsInFile = 0;
+        }
+    }
+
+    private int retained() {
+        int total = 0;
+        for (History history : histories.values()) {
+            total += history.size;
+        }
+        return total;
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+    }
+
+    /**
+     * Start a new file's palette - every state gets re-declared before use
+     */
+    private void resetPalette() {
+        filePalette.clear();
+        filePalette.defaultReturnValue(-1);
+        filePaletteSize = 0;
+    }
+
+    private void writeRecord(DataOutputStream out, UUID uuid, long pos, int oldState, int newState, long tick) throws IOException {
+        int oldIndex = paletteIndex(out, oldState);
+        int newIndex = paletteIndex(out, newState);
+        out.writeByte(TAG_CHANGE);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+        out.writeLong(pos);
+        out.writeInt(oldIndex);
+        out.writeInt(newIndex);
+        out.writeLong(tick);
+    }
+
+    /**
+     * The state's index in this file's palette, appending an entry the first time
+     */
+    private int paletteIndex(DataOutputStream out, int rawId) throws IOException {
+        int index = filePalette.get(rawId);
+        if (index >= 0) {
+            return index;
+        }
+        index = filePaletteSize;
+        out.writeByte(TAG_STATE);
+        out.writeInt(index);
+        NbtIo.writeCompound(NbtHelper.fromBlockState(Block.getStateFromRawId(rawId)), out);
+        filePalette.put(rawId, index);
+        filePaletteSize++;
+        return index;
+    }
+
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            IsRealAnything.LOGGER.error("Failed to flush block journal {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void close() {
+        closeStream();
+        histories.clear();
+    }
+
+    private void closeStream() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            IsRealAnything.LOGGER.error("Failed to close block journal {}: {}", file, e.getMessage());
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,278 @@
+package com.epicspymain.isrealanything.world;
+
+import com.epicspymain.isrealanything.event.EventCostProbe;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.network.packet.s2c.play.ChunkDeltaUpdateS2CPacket;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * BlockEditSession - Batched block edits, written section by section
+ *
+ * world.setBlockState does neighbor updates, a light check, a client packet
+ * and several lookups for every single block. A session collects edits,
+ * groups them by chunk section and on commit():
+ * - writes each section's palette directly under one lock
+ * - updates heightmaps and keeps block entities consistent
+ * - queues light checks only for blocks whose light properties changed,
+ *   after all writes, so the light engine processes them as one batch
+ * - sends one ChunkDeltaUpdate packet per section
+ *
+ * Neighbor updates and block callbacks (onBlockAdded - fluids starting to
+ * flow, etc.) only run with withUpdates(true). record() keeps the replaced
+ * blocks in a BlockTransaction for a later revert. Server thread only.
+ */
+public class BlockEditSession {
+
+    private static final Heightmap.Type[] HEIGHTMAPS = {
+        Heightmap.Type.MOTION_BLOCKING,
+        Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+        Heightmap.Type.OCEAN_FLOOR,
+        Heightmap.Type.WORLD_SURFACE
+    };
+
+    private final ServerWorld world;
+    private final Long2ObjectLinkedOpenHashMap<SectionEdits> sections = new Long2ObjectLinkedOpenHashMap<>();
+    private boolean updates = false;
+    private Predicate<BlockState> protectedStates = state -> false;
+    private BlockTransaction transaction = null;
+    private int queued = 0;
+
+    // Last section looked up by set() - edits usually come in runs
+    private long lastSectionKey = Long.MIN_VALUE;
+    private SectionEdits lastSection = null;
+
+    /**
+     * Edits for one 16x16x16 section, in the order they were made (last write wins)
+     */
+    private static class SectionEdits {
+        short[] positions = new short[64];
+        BlockState[] states = new BlockState[64];
+        int size = 0;
+
+        void add(short local, BlockState state) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                states = Arrays.copyOf(states, size * 2);
+            }
+            positions[size] = local;
+            states[size] = state;
+            size++;
+        }
+    }
+
+    public BlockEditSession(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Run neighbor updates and onBlockAdded for every changed block (default off)
+     */
+    public BlockEditSession withUpdates(boolean updates) {
+        this.updates = updates;
+        return this;
+    }
+
+    /**
+     * Blocks matching this are never overwritten (checked against the state at commit time)
+     */
+    public BlockEditSession protect(Predicate<BlockState> protectedStates) {
+        this.protectedStates = protectedStates;
+        return this;
+    }
+
+    /**
+     * Record every replaced block into transaction so the edit can be reverted
+     */
+    public BlockEditSession record(BlockTransaction transaction) {
+        this.transaction = transaction;
+        return this;
+    }
+
+    public BlockEditSession set(BlockPos pos, BlockState state) {
+        return set(pos.getX(), pos.getY(), pos.getZ(), state);
+    }
+
+    public BlockEditSession set(int x, int y, int z, BlockState state) {
+        if (world.isOutOfHeightLimit(y)) {
+            return this;
+        }
+
+        long key = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        if (key != lastSectionKey) {
+            lastSection = sections.computeIfAbsent(key, k -> new SectionEdits());
+            lastSectionKey = key;
+        }
+
+        lastSection.add(ChunkSectionPos.packLocal(new BlockPos(x & 15, y & 15, z & 15)), state);
+        queued++;
+        return this;
+    }
+
+    /**
+     * Fill the box between two corners (inclusive)
+     */
+    public BlockEditSession fill(BlockPos from, BlockPos to, BlockState state) {
+        int minX = Math.min(from.getX(), to.getX()), maxX = Math.max(from.getX(), to.getX());
+        int minY = Math.min(from.getY(), to.getY()), maxY = Math.max(from.getY(), to.getY());
+        int minZ = Math.min(from.getZ(), to.getZ()), maxZ = Math.max(from.getZ(), to.getZ());
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    set(x, y, z, state);
+                }
+            }
+        }
+        return this;
+    }
+
+    public int getQueuedCount() {
+        return queued;
+    }
+
+    /**
+     * Apply every queued edit - returns how many blocks actually changed
+     */
+    public int commit() {
+        LightingProvider lighting = world.getChunkManager().getLightingProvider();
+        List<BlockPos> lightChecks = new ArrayList<>();
+        List<BlockPos> changedPositions = updates ? new ArrayList<>() : null;
+        List<BlockState> replacedStates = updates ? new ArrayList<>() : null;
+        int changed = 0;
+
+        for (var entry : sections.long2ObjectEntrySet()) {
+            ChunkSectionPos sectionPos = ChunkSectionPos.from(entry.getLongKey());
+            SectionEdits edits = entry.getValue();
+            WorldChunk chunk = world.getChunk(sectionPos.getSectionX(), sectionPos.getSectionZ());
+            ChunkSection section = chunk.getSection(world.sectionCoordToIndex(sectionPos.getSectionY()));
+            boolean wasEmpty = section.isEmpty();
+
+            ShortOpenHashSet sectionChanged = new ShortOpenHashSet();
+            List<BlockPos> blockEntityChanges = new ArrayList<>();
+            int baseDelta = 0;
+            boolean coverChanged = false;
+
+            section.lock();
+            try {
+                for (int i = 0; i < edits.size; i++) {
+                    short local = edits.positions[i];
+                    int lx = ChunkSectionPos.unpackLocalX(local);
+                    int ly = ChunkSectionPos.unpackLocalY(local);
+                    int lz = ChunkSectionPos.unpackLocalZ(local);
+                    BlockState state = edits.states[i];
+                    BlockState old = section.getBlockState(lx, ly, lz);
+
+                    if (old == state || protectedStates.test(old)) {
+                        continue;
+                    }
+
+                    BlockPos pos = sectionPos.unpackBlockPos(local);
+                    if (transaction != null) {
+                        transaction.recordPrior(world, pos.asLong(), old, state,
+                                old.hasBlockEntity() ? chunk.getBlockEntities().get(pos) : null);
+                    }
+
+                    section.setBlockState(lx, ly, lz, state, false);
+                    sectionChanged.add(local);
+                    changed++;
+
+                    coverChanged |= CoverPoints.affectsCover(old, state);
+                    if (BaseIndex.isBaseBlock(old) != BaseIndex.isBaseBlock(state)) {
+                        baseDelta += BaseIndex.isBaseBlock(state) ? 1 : -1;
+                    }
+
+                    int y = sectionPos.getMinY() + ly;
+                    for (Heightmap.Type type : HEIGHTMAPS) {
+                        chunk.getHeightmap(type).trackUpdate(lx, y, lz, state);
+                    }
+
+                    if (old.hasBlockEntity() || state.hasBlockEntity()) {
+                        blockEntityChanges.add(pos);
+                    }
+                    if (old.getLuminance() != state.getLuminance() || old.getOpacity() != state.getOpacity()) {
+                        lightChecks.add(pos);
+                    }
+                    if (updates) {
+                        changedPositions.add(pos);
+                        replacedStates.add(old);
+                    }
+                }
+            } finally {
+                section.unlock();
+            }
+
+            if (sectionChanged.isEmpty()) {
+                continue;
+            }
+
+            // Same bookkeeping WorldChunk.setBlockState does, once per section
+            if (wasEmpty != section.isEmpty()) {
+                lighting.setSectionStatus(sectionPos, section.isEmpty());
+            }
+            for (BlockPos pos : blockEntityChanges) {
+                chunk.removeBlockEntity(pos);
+                if (chunk.getBlockState(pos).hasBlockEntity()) {
+                    chunk.getBlockEntity(pos, WorldChunk.CreationType.IMMEDIATE);
+                }
+            }
+            BaseIndex.adjust(chunk, sectionPos.getMinY(), baseDelta);
+            if (coverChanged) {
+                CoverPoints.onChunkChanged(chunk);
+            }
+            chunk.markNeedsSaving();
+
+            sendSection(chunk.getPos(), sectionPos, sectionChanged, section);
+        }
+
+        // One batch for the light engine instead of a check per setBlockState
+        for (BlockPos pos : lightChecks) {
+            lighting.checkBlock(pos);
+        }
+
+        if (updates) {
+            for (int i = 0; i < changedPositions.size(); i++) {
+                BlockPos pos = changedPositions.get(i);
+                BlockState state = world.getBlockState(pos);
+                state.onBlockAdded(world, pos, replacedStates.get(i), false);
+                world.updateNeighbors(pos, state.getBlock());
+            }
+        }
+
+        if (EventCostProbe.ENABLED) {
+            EventCostProbe.onBlockEdits(changed);
+        }
+
+        sections.clear();
+        lastSectionKey = Long.MIN_VALUE;
+        lastSection = null;
+        queued = 0;
+        return changed;
+    }
+
+    private void sendSection(ChunkPos chunkPos, ChunkSectionPos sectionPos, ShortOpenHashSet changed, ChunkSection section) {
+        List<ServerPlayerEntity> watching = world.getChunkManager().chunkLoadingManager.getPlayersWatchingChunk(chunkPos, false);
+        if (watching.isEmpty()) {
+            return;
+        }
+
+        ChunkDeltaUpdateS2CPacket packet = new ChunkDeltaUpdateS2CPacket(sectionPos, changed, section);
+        for (ServerPlayerEntity player : watching) {
+            player.networkHandler.sendPacket(packet);
+        }
+    }
+}
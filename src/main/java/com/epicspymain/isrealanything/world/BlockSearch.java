@@ -0,0 +1,184 @@
+package com.epicspymain.isrealanything.world;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.function.Predicate;
+
+/**
+ * BlockSearch - Palette-aware block search over a box
+ *
+ * Most sections in a search box contain none of the wanted blocks. Before
+ * touching any blocks, each section's palette is checked:
+ * - all-air sections are skipped outright (unless air is wanted)
+ * - sections whose palette has no wanted state are skipped (hasAny reads
+ *   the palette only, never the 4096 block entries)
+ * - otherwise the blocks in the box are matched, with each distinct state
+ *   tested against the predicate once per search and then by identity
+ * Positions come back as packed longs (BlockPos.asLong). Only loaded chunks
+ * are searched - unloaded parts of the box count as empty.
+ */
+public class BlockSearch {
+
+    /**
+     * Called for each match - return false to stop the search
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        boolean visit(int x, int y, int z, BlockState state);
+    }
+
+    /**
+     * Every matching position in the box
+     */
+    public static LongArrayList findAll(ServerWorld world, BlockBox box, Predicate<BlockState> wanted) {
+        LongArrayList found = new LongArrayList();
+        scan(world, box, wanted, (x, y, z, state) -> {
+            found.add(BlockPos.asLong(x, y, z));
+            return true;
+        });
+        return found;
+    }
+
+    /**
+     * Number of matches in the box, counting stops at limit
+     */
+    public static int count(ServerWorld world, BlockBox box, Predicate<BlockState> wanted, int limit) {
+        int[] count = {0};
+        scan(world, box, wanted, (x, y, z, state) -> ++count[0] < limit);
+        return count[0];
+    }
+
+    /**
+     * Closest match to center, or null
+     */
+    public static BlockPos findNearest(ServerWorld world, BlockBox box, BlockPos center, Predicate<BlockState> wanted) {
+        long[] best = {0L};
+        long[] bestDistance = {Long.MAX_VALUE};
+        scan(world, box, wanted, (x, y, z, state) -> {
+            long dx = x - center.getX(), dy = y - center.getY(), dz = z - center.getZ();
+            long distance = dx * dx + dy * dy + dz * dz;
+            if (distance < bestDistance[0]) {
+                bestDistance[0] = distance;
+                best[0] = BlockPos.asLong(x, y, z);
+            }
+            return true;
+        });
+        return bestDistance[0] == Long.MAX_VALUE ? null : BlockPos.fromLong(best[0]);
+    }
+
+    /**
+     * Visit every match in the box, section by section
+     */
+    public static void scan(ServerWorld world, BlockBox box, Predicate<BlockState> wanted, Visitor visitor) {
+        int minY = Math.max(box.getMinY(), world.getBottomY());
+        int maxY = Math.min(box.getMaxY(), world.getTopYInclusive());
+        if (minY > maxY) {
+            return;
+        }
+
+        boolean wantsAir = wanted.test(Blocks.AIR.getDefaultState());
+        StateFilter filter = new StateFilter(wanted);
+
+        for (int cx = box.getMinX() >> 4; cx <= box.getMaxX() >> 4; cx++) {
+            for (int cz = box.getMinZ() >> 4; cz <= box.getMaxZ() >> 4; cz++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(cx, cz);
+                if (chunk == null) {
+                    continue;
+                }
+
+                for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                    ChunkSection section = chunk.getSection(world.sectionCoordToIndex(sy));
+                    if (section.isEmpty() && !wantsAir) {
+                        continue;
+                    }
+
+                    // Palette check - no wanted state anywhere in this section
+                    if (!section.hasAny(wanted)) {
+                        continue;
+                    }
+
+                    if (!scanSection(section.getBlockStateContainer(), filter, box, cx, sy, cz, minY, maxY, visitor)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean scanSection(
+            PalettedContainer<BlockState> container,
+            StateFilter filter,
+            BlockBox box,
+            int cx, int sy, int cz,
+            int minY, int maxY,
+            Visitor visitor
+    ) {
+        int x0 = Math.max(box.getMinX(), cx << 4), x1 = Math.min(box.getMaxX(), (cx << 4) + 15);
+        int y0 = Math.max(minY, sy << 4), y1 = Math.min(maxY, (sy << 4) + 15);
+        int z0 = Math.max(box.getMinZ(), cz << 4), z1 = Math.min(box.getMaxZ(), (cz << 4) + 15);
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    BlockState state = container.get(x & 15, y & 15, z & 15);
+                    if (!filter.test(state)) {
+                        continue;
+                    }
+                    if (!visitor.visit(x, y, z, state)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The predicate, remembered per state - sections repeat the same few states
+     */
+    private static class StateFilter {
+        private final Predicate<BlockState> wanted;
+        private final ReferenceOpenHashSet<BlockState> matches = new ReferenceOpenHashSet<>();
+        private final ReferenceOpenHashSet<BlockState> misses = new ReferenceOpenHashSet<>();
+        private BlockState last = null;
+        private boolean lastResult = false;
+
+        StateFilter(Predicate<BlockState> wanted) {
+            this.wanted = wanted;
+        }
+
+        boolean test(BlockState state) {
+            if (state == last) {
+                return lastResult;
+            }
+            last = state;
+            if (matches.contains(state)) {
+                lastResult = true;
+            } else if (misses.contains(state)) {
+                lastResult = false;
+            } else {
+                lastResult = wanted.test(state);
+                (lastResult ? matches : misses).add(state);
+            }
+            return lastResult;
+        }
+    }
+
+    /**
+     * Box of the given half-extents around center
+     */
+    public static BlockBox around(BlockPos center, int radiusX, int radiusY, int radiusZ) {
+        return new BlockBox(
+                center.getX() - radiusX, center.getY() - radiusY, center.getZ() - radiusZ,
+                center.getX() + radiusX, center.getY() + radiusY, center.getZ() + radiusZ
+        );
+    }
+}
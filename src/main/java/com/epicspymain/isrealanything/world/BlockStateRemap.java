@@ -0,0 +1,139 @@
+package com.epicspymain.isrealanything.world;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.registry.RegistryIdRemapCallback;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.Registries;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BlockStateRemap - Dense BlockState -> BlockState table by raw state id
+ *
+ * Built from a block-level mapping: every state of a mapped block points at
+ * the target block's state with the same property values where the target
+ * has them (facing, axis, half...). Unmapped states map to themselves.
+ * A lookup is one array read, no hashing.
+ *
+ * Raw state ids aren't stable: mod blocks shift them and Fabric registry
+ * sync can renumber them. A remap keeps only its block mapping; the table is
+ * built on first use and thrown away on every server start and block
+ * registry remap, so it always matches the current Block.STATE_IDS.
+ *
+ * Usage:
+ *   BlockStateRemap swaps = BlockStateRemap.builder()
+ *       .swap(Blocks.STONE, Blocks.DIRT)
+ *       .map(Blocks.TORCH, Blocks.SOUL_TORCH)
+ *       .build();
+ *   BlockState swapped = swaps.apply(state);
+ */
+public class BlockStateRemap {
+
+    private static final List<BlockStateRemap> REMAPS = new ArrayList<>();
+
+    private final Map<Block, Block> mappings;
+    private volatile int[] table = null; // Built on first use, dropped when ids change
+
+    private BlockStateRemap(Map<Block, Block> mappings) {
+        this.mappings = mappings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Drop every table when state ids may have changed
+     */
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> invalidateAll());
+        RegistryIdRemapCallback.event(Registries.BLOCK).register(state -> invalidateAll());
+    }
+
+    public static void invalidateAll() {
+        synchronized (REMAPS) {
+            for (BlockStateRemap remap : REMAPS) {
+                remap.table = null;
+            }
+        }
+    }
+
+    public BlockState apply(BlockState state) {
+        int id = Block.getRawIdFromState(state);
+        int[] table = table();
+        if (id < 0 || id >= table.length) {
+            return state;
+        }
+        int target = table[id];
+        return target == id ? state : Block.getStateFromRawId(target);
+    }
+
+    public int apply(int rawId) {
+        int[] table = table();
+        return rawId < 0 || rawId >= table.length ? rawId : table[rawId];
+    }
+
+    /**
+     * Whether state maps to anything other than itself
+     */
+    public boolean remaps(BlockState state) {
+        int id = Block.getRawIdFromState(state);
+        int[] table = table();
+        return id >= 0 && id < table.length && table[id] != id;
+    }
+
+    private int[] table() {
+        int[] current = table;
+        if (current == null || current.length != Block.STATE_IDS.size()) {
+            current = buildTable();
+            table = current;
+        }
+        return current;
+    }
+
+    private int[] buildTable() {
+        int[] built = new int[Block.STATE_IDS.size()];
+        for (int i = 0; i < built.length; i++) {
+            built[i] = i;
+        }
+
+        mappings.forEach((from, to) -> {
+            for (BlockState state : from.getStateManager().getStates()) {
+                built[Block.getRawIdFromState(state)] = Block.getRawIdFromState(to.getStateWithProperties(state));
+            }
+        });
+        return built;
+    }
+
+    public static class Builder {
+
+        private final Map<Block, Block> mappings = new LinkedHashMap<>();
+
+        public Builder map(Block from, Block to) {
+            mappings.put(from, to);
+            return this;
+        }
+
+        /**
+         * Both directions
+         */
+        public Builder swap(Block a, Block b) {
+            return map(a, b).map(b, a);
+        }
+
+        /**
+         * The remap - its table isn't built until the first lookup
+         */
+        public BlockStateRemap build() {
+            BlockStateRemap remap = new BlockStateRemap(new LinkedHashMap<>(mappings));
+            synchronized (REMAPS) {
+                REMAPS.add(remap);
+            }
+            return remap;
+        }
+    }
+}
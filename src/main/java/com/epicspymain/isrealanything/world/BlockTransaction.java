@@ -0,0 +1,236 @@
+package com.epicspymain.isrealanything.world;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * BlockTransaction - Undo log for a temporary world change
+ *
+ * Records the state each block had before an edit and the state the edit
+ * set: packed positions and raw state ids in primitive arrays, block entity
+ * NBT only for blocks that had one. Attach it to a BlockEditSession with
+ * record(), or call record(pos) before editing by hand. revertAfter() hands it to the world's BlockUndoLog,
+ * which restores every block in one batched session once the time is up
+ * (persisted with the world, so a restart doesn't strand the change).
+ *
+ * A block edited twice keeps its first prior state. Blocks a player is
+ * standing in, or that no longer hold the state the edit set (the player
+ * built or broke there since), are left alone on revert.
+ */
+public class BlockTransaction {
+
+    private static final int UNKNOWN = -1; // No applied state recorded
+
+    private final String label;
+    private long[] positions = new long[32];
+    private int[] states = new int[32];
+    private int[] applied = new int[32]; // UNKNOWN for record(world, pos)
+    private int size = 0;
+    private final Int2ObjectMap<NbtCompound> blockEntities = new Int2ObjectOpenHashMap<>();
+    private long revertAt = -1;
+
+    public BlockTransaction(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Record the current state at pos - call before changing it
+     * The new state isn't known here, so the block is restored whatever it holds by then
+     */
+    public void record(ServerWorld world, BlockPos pos) {
+        recordPrior(world, pos.asLong(), world.getBlockState(pos), null, world.getBlockEntity(pos));
+    }
+
+    /**
+     * Record a block's state before an edit and the state it gets - called by BlockEditSession
+     */
+    void recordPrior(ServerWorld world, long pos, BlockState old, @Nullable BlockState state, @Nullable BlockEntity blockEntity) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+            applied = Arrays.copyOf(applied, size * 2);
+        }
+        if (blockEntity != null) {
+            blockEntities.put(size, blockEntity.createNbtWithIdentifyingData(world.getRegistryManager()));
+        }
+        positions[size] = pos;
+        states[size] = Block.getRawIdFromState(old);
+        applied[size] = state != null ? Block.getRawIdFromState(state) : UNKNOWN;
+        size++;
+    }
+
+    /**
+     * Schedule the revert ticks from now (world time)
+     */
+    public void revertAfter(ServerWorld world, long ticks) {
+        if (size == 0) {
+            return;
+        }
+        revertAt = world.getTime() + ticks;
+        BlockUndoLog.get(world).add(this);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    long getRevertAt() {
+        return revertAt;
+    }
+
+    /**
+     * Put every recorded block back - one session, then block entity data
+     */
+    void revert(ServerWorld world) {
+        List<Box> players = new ArrayList<>();
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            players.add(player.getBoundingBox());
+        }
+
+        BlockEditSession session = new BlockEditSession(world).withUpdates(true);
+        List<Integer> restoredEntities = new ArrayList<>();
+        LongSet seen = new LongOpenHashSet();
+        LongSet changedSince = new LongOpenHashSet();
+
+        // Newest first - the oldest record of a position is queued last and wins
+        for (int i = size - 1; i >= 0; i--) {
+            BlockPos pos = BlockPos.fromLong(positions[i]);
+
+            // The newest record holds what the edit left there - anything else is someone else's change
+            if (seen.add(positions[i]) && applied[i] != UNKNOWN
+                    && Block.getRawIdFromState(world.getBlockState(pos)) != applied[i]) {
+                changedSince.add(positions[i]);
+            }
+            if (changedSince.contains(positions[i])) {
+                continue;
+            }
+
+            BlockState state = Block.getStateFromRawId(states[i]);
+            if (!state.isAir() && intersectsAny(players, pos)) {
+                continue;
+            }
+            session.set(pos, state);
+            if (blockEntities.containsKey(i)) {
+                restoredEntities.add(i);
+            }
+        }
+        int restored = session.commit();
+
+        for (int i : restoredEntities) {
+            BlockPos pos = BlockPos.fromLong(positions[i]);
+            BlockEntity blockEntity = BlockEntity.createFromNbt(pos, world.getBlockState(pos), blockEntities.get(i), world.getRegistryManager());
+            if (blockEntity != null) {
+                world.addBlockEntity(blockEntity);
+            }
+        }
+
+        IsRealAnything.LOGGER.debug("Reverted {}: {} of {} blocks", label, restored, size);
+    }
+
+    private static boolean intersectsAny(List<Box> boxes, BlockPos pos) {
+        for (Box box : boxes) {
+            if (box.intersects(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ========================================
+    // PERSISTENCE (BlockUndoLog)
+    // ========================================
+
+    /**
+     * Raw state ids aren't stable across game versions - states are saved as
+     * a palette of state NBT plus an index per position
+     */
+    NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putString("Label", label);
+        nbt.putLong("RevertAt", revertAt);
+        nbt.putLongArray("Positions", Arrays.copyOf(positions, size));
+
+        Int2IntOpenHashMap paletteIndex = new Int2IntOpenHashMap();
+        NbtList palette = new NbtList();
+        int[] indices = new int[size];
+        int[] appliedIndices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = paletteIndex(paletteIndex, palette, states[i]);
+            appliedIndices[i] = applied[i] == UNKNOWN ? UNKNOWN : paletteIndex(paletteIndex, palette, applied[i]);
+        }
+        nbt.put("Palette", palette);
+        nbt.putIntArray("States", indices);
+        nbt.putIntArray("Applied", appliedIndices);
+
+        NbtCompound entities = new NbtCompound();
+        for (Int2ObjectMap.Entry<NbtCompound> entry : blockEntities.int2ObjectEntrySet()) {
+            entities.put(Integer.toString(entry.getIntKey()), entry.getValue());
+        }
+        nbt.put("BlockEntities", entities);
+        return nbt;
+    }
+
+    private static int paletteIndex(Int2IntOpenHashMap paletteIndex, NbtList palette, int rawId) {
+        if (!paletteIndex.containsKey(rawId)) {
+            paletteIndex.put(rawId, palette.size());
+            palette.add(NbtHelper.fromBlockState(Block.getStateFromRawId(rawId)));
+        }
+        return paletteIndex.get(rawId);
+    }
+
+    static BlockTransaction fromNbt(NbtCompound nbt) {
+        BlockTransaction transaction = new BlockTransaction(nbt.getString("Label"));
+        transaction.revertAt = nbt.getLong("RevertAt");
+
+        long[] positions = nbt.getLongArray("Positions");
+        int[] indices = nbt.getIntArray("States");
+        int[] appliedIndices = nbt.getIntArray("Applied"); // Missing in older saves - restore unconditionally
+        NbtList palette = nbt.getList("Palette", NbtElement.COMPOUND_TYPE);
+        int[] paletteIds = new int[palette.size()];
+        for (int i = 0; i < palette.size(); i++) {
+            paletteIds[i] = Block.getRawIdFromState(NbtHelper.toBlockState(Registries.BLOCK, palette.getCompound(i)));
+        }
+
+        int size = Math.min(positions.length, indices.length);
+        transaction.positions = Arrays.copyOf(positions, Math.max(size, 1));
+        transaction.states = new int[Math.max(size, 1)];
+        transaction.applied = new int[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            transaction.states[i] = paletteIds[indices[i]];
+            transaction.applied[i] = i < appliedIndices.length && appliedIndices[i] != UNKNOWN
+                    ? paletteIds[appliedIndices[i]] : UNKNOWN;
+        }
+        transaction.size = size;
+
+        NbtCompound entities = nbt.getCompound("BlockEntities");
+        for (String key : entities.getKeys()) {
+            transaction.blockEntities.put(Integer.parseInt(key), entities.getCompound(key));
+        }
+        return transaction;
+    }
+}
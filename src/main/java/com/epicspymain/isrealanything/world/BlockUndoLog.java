@@ -0,0 +1,106 @@
+package com.epicspymain.isrealanything.world;
+
+import com.epicspymain.isrealanything.scheduler.TickBudget;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.PersistentState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * BlockUndoLog - Pending BlockTransaction reverts for one world
+ *
+ * Saved with the world's other persistent state. Each tick, transactions
+ * whose revert time has passed are reverted through TickBudget. A due
+ * transaction stays in the log (and on disk) while its revert waits in the
+ * budget queue - it only leaves once the revert has run, so a save or a
+ * stop in between doesn't lose it.
+ */
+public class BlockUndoLog extends PersistentState {
+
+    private static final String DATA_NAME = "isrealanything_undo";
+
+    private final List<BlockTransaction> pending = new ArrayList<>();
+    private final Set<BlockTransaction> reverting = Collections.newSetFromMap(new IdentityHashMap<>()); // Queued in TickBudget
+
+    /**
+     * Get or create the undo log for a world
+     */
+    public static BlockUndoLog get(ServerWorld world) {
+        return world.getPersistentStateManager().getOrCreate(
+            BlockUndoLog::createFromNbt,
+            BlockUndoLog::new,
+            DATA_NAME
+        );
+    }
+
+    public static BlockUndoLog createFromNbt(NbtCompound nbt) {
+        BlockUndoLog log = new BlockUndoLog();
+        NbtList transactions = nbt.getList("Transactions", NbtElement.COMPOUND_TYPE);
+        for (int i = 0; i < transactions.size(); i++) {
+            log.pending.add(BlockTransaction.fromNbt(transactions.getCompound(i)));
+        }
+        return log;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound nbt) {
+        NbtList transactions = new NbtList();
+        for (BlockTransaction transaction : pending) {
+            transactions.add(transaction.toNbt());
+        }
+        nbt.put("Transactions", transactions);
+        return nbt;
+    }
+
+    void add(BlockTransaction transaction) {
+        pending.add(transaction);
+        markDirty();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Revert due transactions in every world that has a log - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        for (ServerWorld world : server.getWorlds()) {
+            BlockUndoLog log = world.getPersistentStateManager().get(BlockUndoLog::createFromNbt, DATA_NAME);
+            if (log != null) {
+                log.revertDue(world);
+            }
+        }
+    }
+
+    private void revertDue(ServerWorld world) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long now = world.getTime();
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            BlockTransaction transaction = pending.get(i);
+            if (transaction.getRevertAt() <= now && reverting.add(transaction)) {
+                TickBudget.submit("Revert " + transaction.getLabel(), () -> {
+                    try {
+                        transaction.revert(world);
+                        pending.remove(transaction);
+                        markDirty();
+                    } finally {
+                        // A failed revert stays pending and is queued again next time
+                        reverting.remove(transaction);
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.epicspymain.isrealanything.world;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * ChunkTicketHolder - Keeps a set of chunks loaded for deferred work
+ *
+ * Tickets make the chunk manager load chunks in the background instead of
+ * on the tick that needs them. The ticket type expires on its own, so a
+ * holder that is never released can't pin chunks forever; long-running
+ * holders call refresh() every TICKET_REFRESH_TICKS.
+ */
+public class ChunkTicketHolder {
+
+    public static final int TICKET_REFRESH_TICKS = 200; // Tickets expire after 300
+
+    private final ServerWorld world;
+    private final int radius;
+    private final LongOpenHashSet held = new LongOpenHashSet();
+
+    /**
+     * @param radius chunks around each held chunk that load with it
+     */
+    public ChunkTicketHolder(ServerWorld world, int radius) {
+        this.world = world;
+        this.radius = radius;
+    }
+
+    public ServerWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Hold a chunk - no-op if it is already held
+     */
+    public void hold(ChunkPos chunk) {
+        if (held.add(chunk.toLong())) {
+            world.getChunkManager().addTicket(ChunkTicketType.PORTAL, chunk, radius);
+        }
+    }
+
+    public void release(ChunkPos chunk) {
+        if (held.remove(chunk.toLong())) {
+            world.getChunkManager().removeTicket(ChunkTicketType.PORTAL, chunk, radius);
+        }
+    }
+
+    /**
+     * True once every held chunk is loaded
+     */
+    public boolean isLoaded() {
+        for (LongIterator it = held.iterator(); it.hasNext(); ) {
+            long chunk = it.nextLong();
+            if (!world.isChunkLoaded(ChunkPos.getPackedX(chunk), ChunkPos.getPackedZ(chunk))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Re-add every ticket so none expire
+     */
+    public void refresh() {
+        for (LongIterator it = held.iterator(); it.hasNext(); ) {
+            world.getChunkManager().addTicket(ChunkTicketType.PORTAL, new ChunkPos(it.nextLong()), radius);
+        }
+    }
+
+    public void releaseAll() {
+        for (LongIterator it = held.iterator(); it.hasNext(); ) {
+            world.getChunkManager().removeTicket(ChunkTicketType.PORTAL, new ChunkPos(it.nextLong()), radius);
+        }
+        held.clear();
+    }
+
+    public int size() {
+        return held.size();
+    }
+}
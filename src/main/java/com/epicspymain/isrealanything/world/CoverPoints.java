@@ -0,0 +1,489 @@
+package com.epicspymain.isrealanything.world;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CoverPoints - Places to peek from around each player
+ *
+ * A cover point is a spot an entity can stand on, next to the end of a wall
+ * or a door, from which a ray to one of the player's common spots (where they
+ * stood recently) is partly blocked - the head shows around the edge, the
+ * rest stays hidden.
+ *
+ * Each player's index covers the chunks within AREA_RADIUS of them and is
+ * built one chunk at a time: the chunk and its neighbours are snapshotted
+ * (section copies, main thread) and searched on the worker pool. Block
+ * changes that can move a cover point - air, solidity, full opaque cubes,
+ * doors - mark the chunk and its neighbours dirty (WorldChunkMixin,
+ * BlockEditSession), as does a new common spot or a large height change.
+ * Crops growing, fluids flowing, redstone and lamps toggling leave the index
+ * alone.
+ * pick() draws from a flat list - a few random tries, not a search.
+ */
+public class CoverPoints {
+
+    private static final int AREA_RADIUS = 1;       // Chunks around the player's chunk
+    private static final int HALF_HEIGHT = 12;      // Blocks above/below the player searched
+    private static final int REBUILD_HEIGHT_DRIFT = 8;
+    private static final int COMMON_SPOTS = 6;
+    private static final int SPOT_SAMPLE_INTERVAL = 100;
+    private static final double SPOT_SPACING = 4.0;
+    private static final double MAX_SIGHT = 16.0;   // One chunk - stays inside the snapshot's neighbour ring
+    private static final double EDGE_OFFSET = 0.45;  // Half a body width either side of the head
+    private static final double RAY_STEP = 0.25;
+    private static final int PICK_TRIES = 8;
+
+    private static final Map<UUID, PlayerCover> covers = new HashMap<>();
+    private static final Random RANDOM = Random.create();
+
+    private static class PlayerCover {
+        final RegistryKey<World> dimension;
+        final List<Vec3d> commonSpots = new ArrayList<>(); // Eye positions, oldest first
+        final Long2ObjectMap<long[]> pointsByChunk = new Long2ObjectOpenHashMap<>();
+        final Long2IntMap buildY = new Long2IntOpenHashMap();
+        final LongOpenHashSet dirty = new LongOpenHashSet();
+        @Nullable
+        LongArrayList flat = null; // All points, rebuilt when null
+        @Nullable
+        CompletableFuture<long[]> pending = null;
+        long pendingChunk;
+        int pendingY;
+
+        PlayerCover(RegistryKey<World> dimension) {
+            this.dimension = dimension;
+        }
+
+        void markDirty(long chunk) {
+            if (buildY.containsKey(chunk)) { // Only chunks in the area
+                dirty.add(chunk);
+            }
+        }
+    }
+
+    /**
+     * Sample common spots, track the area and run chunk builds - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            ServerWorld world = (ServerWorld) player.getWorld();
+            PlayerCover cover = covers.get(player.getUuid());
+            if (cover == null || cover.dimension != world.getRegistryKey()) {
+                cover = new PlayerCover(world.getRegistryKey());
+                covers.put(player.getUuid(), cover);
+            }
+
+            if (cover.commonSpots.isEmpty() || server.getTicks() % SPOT_SAMPLE_INTERVAL == 0) {
+                sampleSpot(cover, player.getEyePos());
+            }
+            trackArea(cover, player);
+            build(world, cover, player);
+        }
+    }
+
+    /**
+     * Whether a block going from old to state can add or remove a cover
+     * point - only what isStandable, isNextToEdge and the sight rays look at
+     */
+    public static boolean affectsCover(BlockState old, BlockState state) {
+        return old.isAir() != state.isAir()
+                || old.isSolid() != state.isSolid()
+                || old.isOpaqueFullCube() != state.isOpaqueFullCube()
+                || old.isIn(BlockTags.DOORS) != state.isIn(BlockTags.DOORS);
+    }
+
+    /**
+     * A block in chunk went from old to state - called by WorldChunkMixin
+     */
+    public static void onBlockChanged(WorldChunk chunk, BlockState old, BlockState state) {
+        if (!covers.isEmpty() && affectsCover(old, state)) {
+            onChunkChanged(chunk);
+        }
+    }
+
+    /**
+     * A block in this chunk changed in a way that matters (affectsCover) -
+     * its points and its neighbours' may be stale
+     */
+    public static void onChunkChanged(WorldChunk chunk) {
+        if (covers.isEmpty() || chunk.getWorld().isClient()) {
+            return;
+        }
+        RegistryKey<World> dimension = chunk.getWorld().getRegistryKey();
+        ChunkPos pos = chunk.getPos();
+        for (PlayerCover cover : covers.values()) {
+            if (cover.dimension != dimension) {
+                continue;
+            }
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    cover.markDirty(ChunkPos.toLong(pos.x + dx, pos.z + dz));
+                }
+            }
+        }
+    }
+
+    public static void remove(UUID playerUuid) {
+        covers.remove(playerUuid);
+    }
+
+    public static void clear() {
+        covers.clear();
+    }
+
+    // ========================================
+    // QUERIES
+    // ========================================
+
+    /**
+     * A random cover point within range of the player, or null
+     */
+    @Nullable
+    public static BlockPos pick(ServerPlayerEntity player, double range) {
+        PlayerCover cover = covers.get(player.getUuid());
+        ServerWorld world = (ServerWorld) player.getWorld();
+        if (cover == null || cover.dimension != world.getRegistryKey()) {
+            return null;
+        }
+
+        if (cover.flat == null) {
+            cover.flat = new LongArrayList();
+            for (long[] points : cover.pointsByChunk.values()) {
+                cover.flat.addElements(cover.flat.size(), points);
+            }
+        }
+        if (cover.flat.isEmpty()) {
+            return null;
+        }
+
+        BlockPos playerPos = player.getBlockPos();
+        for (int i = 0; i < PICK_TRIES; i++) {
+            BlockPos pos = BlockPos.fromLong(cover.flat.getLong(RANDOM.nextInt(cover.flat.size())));
+            if (pos.isWithinDistance(playerPos, range) && LoadedTerrain.isLoaded(world, pos)
+                    && world.getBlockState(pos).isAir() && world.getBlockState(pos.up()).isAir()
+                    && world.getBlockState(pos.down()).isSolidBlock(world, pos.down())) {
+                return pos;
+            }
+        }
+        return null;
+    }
+
+    public static int getPointCount(UUID playerUuid) {
+        PlayerCover cover = covers.get(playerUuid);
+        if (cover == null) {
+            return 0;
+        }
+        int total = 0;
+        for (long[] points : cover.pointsByChunk.values()) {
+            total += points.length;
+        }
+        return total;
+    }
+
+    // ========================================
+    // AREA AND BUILDS (main thread)
+    // ========================================
+
+    /**
+     * Remember where the player hangs around - a new spot changes every sight line
+     */
+    private static void sampleSpot(PlayerCover cover, Vec3d eye) {
+        for (Vec3d spot : cover.commonSpots) {
+            if (spot.squaredDistanceTo(eye) < SPOT_SPACING * SPOT_SPACING) {
+                return;
+            }
+        }
+        if (cover.commonSpots.size() >= COMMON_SPOTS) {
+            cover.commonSpots.remove(0);
+        }
+        cover.commonSpots.add(eye);
+        cover.dirty.addAll(cover.buildY.keySet());
+    }
+
+    /**
+     * Chunks near the player join the area, far ones leave it
+     */
+    private static void trackArea(PlayerCover cover, ServerPlayerEntity player) {
+        ChunkPos center = player.getChunkPos();
+        int y = player.getBlockY();
+
+        for (int dx = -AREA_RADIUS; dx <= AREA_RADIUS; dx++) {
+            for (int dz = -AREA_RADIUS; dz <= AREA_RADIUS; dz++) {
+                long chunk = ChunkPos.toLong(center.x + dx, center.z + dz);
+                if (!cover.buildY.containsKey(chunk)) {
+                    cover.buildY.put(chunk, y);
+                    cover.dirty.add(chunk);
+                } else if (Math.abs(cover.buildY.get(chunk) - y) > REBUILD_HEIGHT_DRIFT) {
+                    cover.dirty.add(chunk);
+                }
+            }
+        }
+
+        // One chunk of slack before dropping, so walking along a border doesn't thrash
+        for (LongIterator it = cover.buildY.keySet().iterator(); it.hasNext(); ) {
+            long chunk = it.nextLong();
+            if (Math.abs(ChunkPos.getPackedX(chunk) - center.x) > AREA_RADIUS + 1
+                    || Math.abs(ChunkPos.getPackedZ(chunk) - center.z) > AREA_RADIUS + 1) {
+                it.remove();
+                cover.dirty.remove(chunk);
+                if (cover.pointsByChunk.remove(chunk) != null) {
+                    cover.flat = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect a finished build, or start the next one (one in flight per player)
+     */
+    private static void build(ServerWorld world, PlayerCover cover, ServerPlayerEntity player) {
+        if (cover.pending != null) {
+            if (!cover.pending.isDone()) {
+                return;
+            }
+            long[] points = cover.pending.getNow(null);
+            if (points != null && cover.buildY.containsKey(cover.pendingChunk)) {
+                cover.pointsByChunk.put(cover.pendingChunk, points);
+                cover.buildY.put(cover.pendingChunk, cover.pendingY);
+                cover.flat = null;
+            }
+            cover.pending = null;
+        }
+
+        if (cover.dirty.isEmpty()) {
+            return;
+        }
+
+        // Nearest dirty chunk first
+        ChunkPos center = player.getChunkPos();
+        long next = 0;
+        int nextDistance = Integer.MAX_VALUE;
+        for (LongIterator it = cover.dirty.iterator(); it.hasNext(); ) {
+            long chunk = it.nextLong();
+            int distance = Math.abs(ChunkPos.getPackedX(chunk) - center.x) + Math.abs(ChunkPos.getPackedZ(chunk) - center.z);
+            if (distance < nextDistance) {
+                next = chunk;
+                nextDistance = distance;
+            }
+        }
+
+        int chunkX = ChunkPos.getPackedX(next);
+        int chunkZ = ChunkPos.getPackedZ(next);
+        if (world.getChunkManager().getWorldChunk(chunkX, chunkZ) == null) {
+            return; // Wait for it to load
+        }
+
+        cover.dirty.remove(next);
+        int y = player.getBlockY();
+        int minY = Math.max(y - HALF_HEIGHT, world.getBottomY() + 1);
+        int maxY = Math.min(y + HALF_HEIGHT, world.getTopYInclusive() - 1);
+        Snapshot snapshot = Snapshot.take(world, chunkX, chunkZ, minY - 1, maxY + 1);
+        List<Vec3d> spots = List.copyOf(cover.commonSpots);
+
+        cover.pendingChunk = next;
+        cover.pendingY = y;
+        cover.pending = CompletableFuture.supplyAsync(() -> findPoints(snapshot, chunkX, chunkZ, minY, maxY, spots),
+                Util.getMainWorkerExecutor()).exceptionally(e -> {
+                    IsRealAnything.LOGGER.error("Cover point build failed: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    // ========================================
+    // SEARCH (worker thread - snapshot only)
+    // ========================================
+
+    private static long[] findPoints(Snapshot snapshot, int chunkX, int chunkZ, int minY, int maxY, List<Vec3d> spots) {
+        LongArrayList points = new LongArrayList();
+        int baseX = chunkX << 4;
+        int baseZ = chunkZ << 4;
+
+        for (int x = baseX; x < baseX + 16; x++) {
+            for (int z = baseZ; z < baseZ + 16; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    if (isStandable(snapshot, x, y, z) && isNextToEdge(snapshot, x, y, z)
+                            && hasPartialSight(snapshot, x, y, z, spots)) {
+                        points.add(BlockPos.asLong(x, y, z));
+                    }
+                }
+            }
+        }
+        return points.toLongArray();
+    }
+
+    private static boolean isStandable(Snapshot snapshot, int x, int y, int z) {
+        return snapshot.get(x, y, z).isAir() && snapshot.get(x, y + 1, z).isAir() && snapshot.get(x, y - 1, z).isSolid();
+    }
+
+    /**
+     * Beside a door, or beside a wall that ends here (open diagonally past it)
+     */
+    private static boolean isNextToEdge(Snapshot snapshot, int x, int y, int z) {
+        for (Direction side : Direction.Type.HORIZONTAL) {
+            int nx = x + side.getOffsetX();
+            int nz = z + side.getOffsetZ();
+            BlockState feet = snapshot.get(nx, y, nz);
+
+            if (feet.isIn(BlockTags.DOORS)) {
+                return true;
+            }
+            if (!isWall(feet) || !isWall(snapshot.get(nx, y + 1, nz))) {
+                continue;
+            }
+
+            Direction along = side.rotateYClockwise();
+            for (int sign = -1; sign <= 1; sign += 2) {
+                int ex = nx + along.getOffsetX() * sign;
+                int ez = nz + along.getOffsetZ() * sign;
+                if (!isWall(snapshot.get(ex, y, ez)) && !isWall(snapshot.get(ex, y + 1, ez))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Some common spot sees part of the head but not all of it
+     */
+    private static boolean hasPartialSight(Snapshot snapshot, int x, int y, int z, List<Vec3d> spots) {
+        Vec3d head = new Vec3d(x + 0.5, y + 1.6, z + 0.5);
+
+        for (Vec3d spot : spots) {
+            Vec3d toHead = head.subtract(spot);
+            if (toHead.lengthSquared() > MAX_SIGHT * MAX_SIGHT || toHead.lengthSquared() < 1.0) {
+                continue;
+            }
+            // Rays to a spot above or below the snapshot would pass through terrain it doesn't have
+            if (!snapshot.covers(spot)) {
+                continue;
+            }
+
+            // Sideways across the line of sight
+            Vec3d across = new Vec3d(-toHead.z, 0, toHead.x).normalize().multiply(EDGE_OFFSET);
+            boolean center = isClear(snapshot, spot, head);
+            boolean left = isClear(snapshot, spot, head.add(across));
+            boolean right = isClear(snapshot, spot, head.subtract(across));
+
+            if ((center || left || right) && !(center && left && right)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Straight line from -> to through no wall blocks (end blocks excluded)
+     */
+    private static boolean isClear(Snapshot snapshot, Vec3d from, Vec3d to) {
+        Vec3d delta = to.subtract(from);
+        int steps = (int) Math.ceil(delta.length() / RAY_STEP);
+        BlockPos start = BlockPos.ofFloored(from);
+        BlockPos end = BlockPos.ofFloored(to);
+        long last = start.asLong();
+
+        for (int i = 1; i < steps; i++) {
+            double t = (double) i / steps;
+            int bx = (int) Math.floor(from.x + delta.x * t);
+            int by = (int) Math.floor(from.y + delta.y * t);
+            int bz = (int) Math.floor(from.z + delta.z * t);
+            long packed = BlockPos.asLong(bx, by, bz);
+            if (packed == last) {
+                continue;
+            }
+            last = packed;
+            if (packed != end.asLong() && isWall(snapshot.get(bx, by, bz))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWall(BlockState state) {
+        return state.isOpaqueFullCube();
+    }
+
+    /**
+     * Section copies of a chunk and its neighbours - terrain outside counts as air
+     */
+    private static class Snapshot {
+        private final Long2ObjectMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+        private final Box bounds;
+        private long lastKey = Long.MIN_VALUE;
+        @Nullable
+        private PalettedContainer<BlockState> lastSection = null;
+
+        private Snapshot(Box bounds) {
+            this.bounds = bounds;
+        }
+
+        static Snapshot take(ServerWorld world, int chunkX, int chunkZ, int minY, int maxY) {
+            Snapshot snapshot = new Snapshot(new Box((chunkX - 1) << 4, minY, (chunkZ - 1) << 4,
+                    (chunkX + 2) << 4, maxY + 1, (chunkZ + 2) << 4));
+            for (int cx = chunkX - 1; cx <= chunkX + 1; cx++) {
+                for (int cz = chunkZ - 1; cz <= chunkZ + 1; cz++) {
+                    WorldChunk chunk = world.getChunkManager().getWorldChunk(cx, cz);
+                    if (chunk == null) {
+                        continue;
+                    }
+                    for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                        ChunkSection section = chunk.getSection(world.sectionCoordToIndex(sy));
+                        if (!section.isEmpty()) {
+                            snapshot.sections.put(ChunkSectionPos.asLong(cx, sy, cz), section.getBlockStateContainer().copy());
+                        }
+                    }
+                }
+            }
+            return snapshot;
+        }
+
+        /**
+         * Whether pos lies in the copied area (a ray between two covered points stays in it)
+         */
+        boolean covers(Vec3d pos) {
+            return bounds.contains(pos);
+        }
+
+        BlockState get(int x, int y, int z) {
+            long key = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+            if (key != lastKey) {
+                lastKey = key;
+                lastSection = sections.get(key);
+            }
+            return lastSection == null ? Blocks.AIR.getDefaultState() : lastSection.get(x & 15, y & 15, z & 15);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.epicspymain.isrealanything.world;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.LightType;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkNibbleArray;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.chunk.light.ChunkLightingView;
+import net.minecraft.world.chunk.light.LightingProvider;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DarknessMap - Coarse map of dark places to stand around each player
+ *
+ * The area around a player is split into 4x4x4 cells, SIZE_XZ x SIZE_Y x
+ * SIZE_XZ of them. Each cell remembers its darkest standable spot (air for
+ * feet and head, solid block below) and that spot's light level. Light comes
+ * straight from the light engine's section nibble arrays and blocks from the
+ * chunk section - no per-block world.getLightLevel lookups.
+ *
+ * Cells are stored in a wrap-around grid indexed by absolute cell position,
+ * so when the player walks only the cells that entered the window are new;
+ * REFRESH_PER_TICK slots are re-scanned round-robin for whatever cell of the
+ * current window maps to them. Unloaded chunks are never touched.
+ *
+ * Usage:
+ *   BlockPos spot = DarknessMap.query(player).within(20).maxLight(3).pick();
+ */
+public class DarknessMap {
+
+    private static final int CELL = 4;
+    private static final int SIZE_XZ = 20; // 80 blocks across
+    private static final int SIZE_Y = 8;   // 32 blocks tall
+    private static final int SLOTS = SIZE_XZ * SIZE_Y * SIZE_XZ;
+    private static final int REFRESH_PER_TICK = 32; // Whole map every 100 ticks
+
+    private static final long NONE = Long.MIN_VALUE;
+    private static final byte NO_SPOT = 16;
+
+    private static final Map<UUID, Grid> grids = new HashMap<>();
+    private static final Random RANDOM = Random.create();
+
+    private static class Grid {
+        final RegistryKey<World> dimension;
+        final long[] spots = new long[SLOTS]; // Darkest standable spot in the slot's cell
+        final byte[] light = new byte[SLOTS];
+        int cursor = 0;
+
+        Grid(RegistryKey<World> dimension) {
+            this.dimension = dimension;
+            Arrays.fill(spots, NONE);
+            Arrays.fill(light, NO_SPOT);
+        }
+    }
+
+    /**
+     * Re-scan a few cells for every player - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            ServerWorld world = (ServerWorld) player.getWorld();
+            Grid grid = gridFor(player);
+            BlockPos center = player.getBlockPos();
+            for (int i = 0; i < REFRESH_PER_TICK; i++) {
+                scanSlot(world, grid, center, grid.cursor);
+                grid.cursor = (grid.cursor + 1) % SLOTS;
+            }
+        }
+    }
+
+    public static void remove(UUID playerUuid) {
+        grids.remove(playerUuid);
+    }
+
+    public static void clear() {
+        grids.clear();
+    }
+
+    // ========================================
+    // QUERIES
+    // ========================================
+
+    public static Query query(ServerPlayerEntity player) {
+        return new Query((ServerWorld) player.getWorld(), gridFor(player), player.getBlockPos());
+    }
+
+    /**
+     * Dark spots around a position, from the nearest player's map in that
+     * world - empty if no player is within reach of it
+     */
+    public static Query query(ServerWorld world, BlockPos center) {
+        ServerPlayerEntity nearest = null;
+        double nearestDistance = SIZE_XZ * CELL / 2.0;
+        nearestDistance *= nearestDistance;
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            double distance = player.getBlockPos().getSquaredDistance(center);
+            if (distance < nearestDistance) {
+                nearest = player;
+                nearestDistance = distance;
+            }
+        }
+        return new Query(world, nearest == null ? null : gridFor(nearest), center);
+    }
+
+    public static class Query {
+        private final ServerWorld world;
+        @Nullable
+        private final Grid grid;
+        private BlockPos center;
+        private double minDistance = 0;
+        private double maxDistance = SIZE_XZ * CELL;
+        private int maxLight = 7;
+
+        private Query(ServerWorld world, @Nullable Grid grid, BlockPos center) {
+            this.world = world;
+            this.grid = grid;
+            this.center = center;
+        }
+
+        /**
+         * Measure distances from here instead (e.g. a point behind the player)
+         */
+        public Query around(BlockPos center) {
+            this.center = center;
+            return this;
+        }
+
+        public Query distance(double min, double max) {
+            this.minDistance = min;
+            this.maxDistance = max;
+            return this;
+        }
+
+        public Query within(double max) {
+            return distance(0, max);
+        }
+
+        /**
+         * Light level at the spot at most level (default 7)
+         */
+        public Query maxLight(int level) {
+            this.maxLight = level;
+            return this;
+        }
+
+        /**
+         * A random dark spot matching the query, or null
+         */
+        @Nullable
+        public BlockPos pick() {
+            if (grid == null || grid.dimension != world.getRegistryKey()) {
+                return null;
+            }
+
+            IntArrayList matches = new IntArrayList();
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (grid.light[slot] > maxLight || grid.spots[slot] == NONE) {
+                    continue;
+                }
+                long spot = grid.spots[slot];
+                double dx = BlockPos.unpackLongX(spot) - center.getX();
+                double dy = BlockPos.unpackLongY(spot) - center.getY();
+                double dz = BlockPos.unpackLongZ(spot) - center.getZ();
+                double distanceSq = dx * dx + dy * dy + dz * dz;
+                if (distanceSq >= minDistance * minDistance && distanceSq <= maxDistance * maxDistance) {
+                    matches.add(slot);
+                }
+            }
+
+            // Random order until one is still free - lights and blocks may have changed
+            for (int i = 0; i < matches.size(); i++) {
+                int swap = i + RANDOM.nextInt(matches.size() - i);
+                int slot = matches.getInt(swap);
+                matches.set(swap, matches.getInt(i));
+
+                BlockPos pos = BlockPos.fromLong(grid.spots[slot]);
+                if (LoadedTerrain.isLoaded(world, pos) && isStandable(world, pos)
+                        && world.getLightLevel(pos) <= maxLight) {
+                    return pos;
+                }
+                grid.light[slot] = NO_SPOT;
+            }
+            return null;
+        }
+    }
+
+    // ========================================
+    // SCANNING
+    // ========================================
+
+    private static Grid gridFor(ServerPlayerEntity player) {
+        RegistryKey<World> dimension = player.getWorld().getRegistryKey();
+        Grid grid = grids.get(player.getUuid());
+        if (grid == null || grid.dimension != dimension) {
+            grid = new Grid(dimension);
+            grids.put(player.getUuid(), grid);
+        }
+        return grid;
+    }
+
+    /**
+     * Scan the cell of the window around center that maps to this slot
+     */
+    private static void scanSlot(ServerWorld world, Grid grid, BlockPos center, int slot) {
+        int sx = slot % SIZE_XZ;
+        int sy = (slot / SIZE_XZ) % SIZE_Y;
+        int sz = slot / (SIZE_XZ * SIZE_Y);
+
+        // The window's cell whose wrapped coordinates are (sx, sy, sz)
+        int cx = windowCell(Math.floorDiv(center.getX(), CELL), SIZE_XZ, sx);
+        int cy = windowCell(Math.floorDiv(center.getY(), CELL), SIZE_Y, sy);
+        int cz = windowCell(Math.floorDiv(center.getZ(), CELL), SIZE_XZ, sz);
+
+        grid.spots[slot] = NONE;
+        grid.light[slot] = NO_SPOT;
+
+        int minX = cx * CELL, minY = cy * CELL, minZ = cz * CELL;
+        if (world.isOutOfHeightLimit(minY)) {
+            return;
+        }
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(minX >> 4, minZ >> 4);
+        if (chunk == null) {
+            return;
+        }
+
+        ChunkSection section = chunk.getSection(world.sectionCoordToIndex(minY >> 4));
+        ChunkSectionPos sectionPos = ChunkSectionPos.from(minX >> 4, minY >> 4, minZ >> 4);
+        LightingProvider lighting = world.getChunkManager().getLightingProvider();
+        ChunkNibbleArray blockLight = lighting.get(LightType.BLOCK).getLightSection(sectionPos);
+        ChunkNibbleArray skyLight = null;
+        int uniformSky = 0;
+        if (world.getDimension().hasSkyLight()) {
+            ChunkLightingView skyView = lighting.get(LightType.SKY);
+            skyLight = skyView.getLightSection(sectionPos);
+            if (skyLight == null) {
+                // No array - the section's sky light is uniform
+                uniformSky = skyView.getLightLevel(new BlockPos(minX, minY, minZ));
+            }
+        }
+        int darkness = world.getAmbientDarkness();
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        int best = NO_SPOT;
+        for (int x = minX; x < minX + CELL; x++) {
+            for (int z = minZ; z < minZ + CELL; z++) {
+                for (int y = minY; y < minY + CELL; y++) {
+                    int lx = x & 15, ly = y & 15, lz = z & 15;
+                    int block = blockLight == null ? 0 : blockLight.get(lx, ly, lz);
+                    int sky = skyLight == null ? uniformSky : skyLight.get(lx, ly, lz);
+                    int level = Math.max(block, sky - darkness);
+                    if (level >= best || !section.getBlockState(lx, ly, lz).isAir()) {
+                        continue;
+                    }
+                    pos.set(x, y, z);
+                    if (isStandable(world, chunk, pos)) {
+                        best = level;
+                        grid.spots[slot] = pos.asLong();
+                    }
+                }
+            }
+        }
+        grid.light[slot] = (byte) best;
+    }
+
+    /**
+     * Cell coordinate within SIZE cells centered on centerCell whose wrapped index is index
+     */
+    private static int windowCell(int centerCell, int size, int index) {
+        int min = centerCell - size / 2;
+        return min + Math.floorMod(index - min, size);
+    }
+
+    /**
+     * Feet already known to be air - head air and solid ground, inside the scanned chunk
+     */
+    private static boolean isStandable(ServerWorld world, WorldChunk chunk, BlockPos.Mutable pos) {
+        int y = pos.getY();
+        boolean head = chunk.getBlockState(pos.setY(y + 1)).isAir();
+        BlockState ground = chunk.getBlockState(pos.setY(y - 1));
+        boolean solid = ground.isSolidBlock(world, pos);
+        pos.setY(y);
+        return head && solid;
+    }
+
+    private static boolean isStandable(ServerWorld world, BlockPos pos) {
+        return world.getBlockState(pos).isAir() && world.getBlockState(pos.up()).isAir()
+                && world.getBlockState(pos.down()).isSolidBlock(world, pos.down());
+    }
+}
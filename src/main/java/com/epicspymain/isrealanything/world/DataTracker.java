@@ -83,6 +83,19 @@ public class DataTracker extends PersistentState {
             }
         }
         
+        // Load player event counts
+        if (nbt.contains("PlayerEventCounts")) {
+            NbtCompound countData = nbt.getCompound("PlayerEventCounts");
+            for (String key : countData.getKeys()) {
+                NbtCompound playerCounts = countData.getCompound(key);
+                Map<String, Integer> counts = new HashMap<>();
+                for (String eventName : playerCounts.getKeys()) {
+                    counts.put(eventName, playerCounts.getInt(eventName));
+                }
+                state.playerEventCounts.put(UUID.fromString(key), counts);
+            }
+        }
+        
         // Load world state
         state.currentPhase = nbt.getInt("CurrentPhase");
         state.worldCreationTime = nbt.getLong("WorldCreationTime");
@@ -118,6 +131,17 @@ public class DataTracker extends PersistentState {
         }
         nbt.put("EventHistory", historyData);
         
+        // Save player event counts
+        NbtCompound countData = new NbtCompound();
+        for (Map.Entry<UUID, Map<String, Integer>> entry : playerEventCounts.entrySet()) {
+            NbtCompound playerCounts = new NbtCompound();
+            for (Map.Entry<String, Integer> count : entry.getValue().entrySet()) {
+                playerCounts.putInt(count.getKey(), count.getValue());
+            }
+            countData.put(entry.getKey().toString(), playerCounts);
+        }
+        nbt.put("PlayerEventCounts", countData);
+        
         // Save world state
         nbt.putInt("CurrentPhase", currentPhase);
         nbt.putLong("WorldCreationTime", worldCreationTime);
@@ -0,0 +1,164 @@
+package com.epicspymain.isrealanything.world;
+
+import com.epicspymain.isrealanything.IsRealAnything;
+import com.epicspymain.isrealanything.scheduler.TickScheduler;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LoadedTerrain - Position lookups that never load chunks
+ *
+ * World.getTopY / getTopPosition / getBlockState on an unloaded chunk load
+ * (or generate) it synchronously on the server thread. These return UNLOADED
+ * or null instead, so searches skip columns that aren't loaded.
+ *
+ * A search that has to reach unloaded terrain opts in with whenLoaded():
+ * the area is held with tickets, loads in the background, and the search runs
+ * on the first tick everything is ready (or is dropped after WAIT_TIMEOUT).
+ *
+ * Usage:
+ *   LoadedTerrain.whenLoaded(world, target, 8, () -> placeThing(world, target));
+ */
+public class LoadedTerrain {
+
+    public static final int UNLOADED = Integer.MIN_VALUE;
+
+    private static final int WAIT_TIMEOUT = 600; // 30 seconds
+
+    private static final List<Wait> waits = new ArrayList<>();
+
+    private record Wait(ChunkTicketHolder tickets, Runnable search, long startTick) {
+    }
+
+    // ========================================
+    // LOADED-ONLY LOOKUPS
+    // ========================================
+
+    @Nullable
+    public static WorldChunk getChunk(ServerWorld world, BlockPos pos) {
+        return world.getChunkManager().getWorldChunk(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    public static boolean isLoaded(ServerWorld world, BlockPos pos) {
+        return world.isChunkLoaded(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * True if every chunk within radius blocks of pos (horizontally) is loaded
+     */
+    public static boolean isLoaded(ServerWorld world, BlockPos pos, int radius) {
+        for (int cx = (pos.getX() - radius) >> 4; cx <= (pos.getX() + radius) >> 4; cx++) {
+            for (int cz = (pos.getZ() - radius) >> 4; cz <= (pos.getZ() + radius) >> 4; cz++) {
+                if (!world.isChunkLoaded(cx, cz)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as World.getTopY, or UNLOADED
+     */
+    public static int getTopY(ServerWorld world, Heightmap.Type type, int x, int z) {
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(x >> 4, z >> 4);
+        return chunk == null ? UNLOADED : chunk.getHeightmap(type).get(x & 15, z & 15);
+    }
+
+    /**
+     * Surface height spawns stand on (MOTION_BLOCKING_NO_LEAVES), or UNLOADED
+     */
+    public static int getSurfaceY(ServerWorld world, int x, int z) {
+        return getTopY(world, Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+    }
+
+    /**
+     * Same as World.getTopPosition, or null
+     */
+    @Nullable
+    public static BlockPos getTopPosition(ServerWorld world, Heightmap.Type type, BlockPos pos) {
+        int y = getTopY(world, type, pos.getX(), pos.getZ());
+        return y == UNLOADED ? null : new BlockPos(pos.getX(), y, pos.getZ());
+    }
+
+    @Nullable
+    public static BlockState getBlockState(ServerWorld world, BlockPos pos) {
+        WorldChunk chunk = getChunk(world, pos);
+        return chunk == null ? null : chunk.getBlockState(pos);
+    }
+
+    // ========================================
+    // ASYNC (OPT-IN)
+    // ========================================
+
+    /**
+     * Run search once every chunk within radius blocks of center is loaded -
+     * right away if they already are
+     */
+    public static void whenLoaded(ServerWorld world, BlockPos center, int radius, Runnable search) {
+        if (isLoaded(world, center, radius)) {
+            search.run();
+            return;
+        }
+
+        ChunkTicketHolder tickets = new ChunkTicketHolder(world, 0);
+        for (int cx = (center.getX() - radius) >> 4; cx <= (center.getX() + radius) >> 4; cx++) {
+            for (int cz = (center.getZ() - radius) >> 4; cz <= (center.getZ() + radius) >> 4; cz++) {
+                tickets.hold(new ChunkPos(cx, cz));
+            }
+        }
+        waits.add(new Wait(tickets, search, TickScheduler.getCurrentTick()));
+    }
+
+    /**
+     * Resume searches whose chunks are ready - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        if (waits.isEmpty()) {
+            return;
+        }
+
+        long now = TickScheduler.getCurrentTick();
+        for (int i = 0; i < waits.size(); i++) {
+            Wait wait = waits.get(i);
+            long waited = now - wait.startTick();
+
+            if (wait.tickets().isLoaded()) {
+                waits.remove(i--);
+                try {
+                    wait.search().run();
+                } catch (Exception e) {
+                    IsRealAnything.LOGGER.error("Error in deferred search: {}", e.getMessage());
+                }
+                wait.tickets().releaseAll();
+            } else if (waited >= WAIT_TIMEOUT) {
+                waits.remove(i--);
+                IsRealAnything.LOGGER.debug("Deferred search dropped: {} chunks not loaded after {} ticks",
+                        wait.tickets().size(), waited);
+                wait.tickets().releaseAll();
+            } else if (waited > 0 && waited % ChunkTicketHolder.TICKET_REFRESH_TICKS == 0) {
+                wait.tickets().refresh();
+            }
+        }
+    }
+
+    public static int getWaitingCount() {
+        return waits.size();
+    }
+
+    /**
+     * Drop every waiting search (server stopping - worlds are gone, tickets with them)
+     */
+    public static void clear() {
+        waits.clear();
+    }
+}
@@ -0,0 +1,79 @@
+package com.epicspymain.isrealanything.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.RaycastContext;
+import net.minecraft.world.World;
+
+/**
+ * SightLines - Cached block raycasts between pairs of entities
+ *
+ * A pair's result is reused for CACHE_TICKS ticks unless either end moved
+ * more than MOVE_THRESHOLD blocks since it was traced. Rays use visual
+ * shapes, so glass and other see-through blocks don't hide anything.
+ * The target counts as visible if its eyes or the middle of its body are.
+ *
+ * One instance per side - the integrated server and the client must not
+ * share entity ids.
+ */
+public class SightLines {
+
+    private static final int CACHE_TICKS = 5;
+    private static final double MOVE_THRESHOLD = 0.5;
+    private static final int EXPIRE_TICKS = 100;
+
+    private final Long2ObjectMap<Trace> traces = new Long2ObjectOpenHashMap<>();
+
+    private static class Trace {
+        Vec3d from;
+        Vec3d to;
+        long tick;
+        boolean clear;
+    }
+
+    /**
+     * True if no block stands between the viewer's eyes and the target
+     */
+    public boolean isClear(World world, Entity viewer, Entity target, long now) {
+        long key = ((long) viewer.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+        Vec3d from = viewer.getEyePos();
+        Vec3d to = target.getEyePos();
+
+        Trace trace = traces.get(key);
+        if (trace != null && now - trace.tick <= CACHE_TICKS
+                && trace.from.squaredDistanceTo(from) <= MOVE_THRESHOLD * MOVE_THRESHOLD
+                && trace.to.squaredDistanceTo(to) <= MOVE_THRESHOLD * MOVE_THRESHOLD) {
+            return trace.clear;
+        }
+
+        if (trace == null) {
+            trace = new Trace();
+            traces.put(key, trace);
+        }
+        trace.from = from;
+        trace.to = to;
+        trace.tick = now;
+        trace.clear = isRayClear(world, viewer, from, to)
+                || isRayClear(world, viewer, from, target.getBoundingBox().getCenter());
+        return trace.clear;
+    }
+
+    /**
+     * Forget traces nobody asked about for a while
+     */
+    public void prune(long now) {
+        traces.values().removeIf(trace -> now - trace.tick > EXPIRE_TICKS);
+    }
+
+    public void clear() {
+        traces.clear();
+    }
+
+    private static boolean isRayClear(World world, Entity viewer, Vec3d from, Vec3d to) {
+        return world.raycast(new RaycastContext(from, to, RaycastContext.ShapeType.VISUAL,
+                RaycastContext.FluidHandling.NONE, viewer)).getType() == HitResult.Type.MISS;
+    }
+}
@@ -0,0 +1,360 @@
+package com.epicspymain.isrealanything.world;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * SpawnCandidates - Cached surface spawn positions around each player
+ *
+ * Every player keeps RINGS rings of SLOTS_PER_RING columns (ring r covers
+ * distances r * RING_WIDTH to (r + 1) * RING_WIDTH). Each slot holds one
+ * probed column: its MOTION_BLOCKING_NO_LEAVES surface position, whether the
+ * feet/head blocks are air, whether the ground below is solid, and the light
+ * level. A few slots per tick are re-probed at a fresh random column around
+ * the player's current position, read straight from loaded chunk heightmaps
+ * (columns in unloaded chunks stay empty).
+ *
+ * Queries filter the fixed-size slot arrays, so they cost the same however
+ * far the search reaches:
+ *   BlockPos pos = SpawnCandidates.query(player)
+ *       .distance(16, 32)
+ *       .clear()
+ *       .maxLight(7)
+ *       .outOfView()
+ *       .pick();
+ * The picked position's blocks are re-checked before it is returned.
+ */
+public class SpawnCandidates {
+
+    private static final int RINGS = 9;
+    private static final int RING_WIDTH = 8; // Reaches 72 blocks
+    private static final int SLOTS_PER_RING = 32;
+    private static final int SLOTS = RINGS * SLOTS_PER_RING;
+    private static final int REFRESH_PER_TICK = 12; // Whole cache every 24 ticks
+
+    private static final byte FEET_AIR = 1;
+    private static final byte HEAD_AIR = 2;
+    private static final byte SOLID_GROUND = 4;
+    private static final byte PROBED = 8;
+
+    // Horizontal look dot products
+    private static final double BEHIND_DOT = -0.5;   // Back 120 degrees
+    private static final double OUT_OF_VIEW_DOT = 0.5; // Outside a 120 degree view cone
+
+    // Upper bound on where() predicate checks per pick
+    private static final int MAX_PREDICATE_CHECKS = 40;
+
+    private static final Map<UUID, Cache> caches = new HashMap<>();
+    private static final Random RANDOM = Random.create();
+
+    /**
+     * One player's slots - slot i belongs to ring i / SLOTS_PER_RING
+     */
+    private static class Cache {
+        final RegistryKey<World> dimension;
+        final long[] positions = new long[SLOTS];
+        final byte[] flags = new byte[SLOTS];
+        final byte[] light = new byte[SLOTS];
+        int cursor = 0;
+
+        Cache(RegistryKey<World> dimension) {
+            this.dimension = dimension;
+        }
+    }
+
+    /**
+     * Re-probe a few slots for every player - call once per server tick
+     */
+    public static void tick(MinecraftServer server) {
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            Cache cache = cacheFor(player);
+            ServerWorld world = (ServerWorld) player.getWorld();
+            for (int i = 0; i < REFRESH_PER_TICK; i++) {
+                probe(world, player.getBlockPos(), cache, cache.cursor);
+                cache.cursor = (cache.cursor + 1) % SLOTS;
+            }
+        }
+    }
+
+    public static void remove(UUID playerUuid) {
+        caches.remove(playerUuid);
+    }
+
+    public static void clear() {
+        caches.clear();
+    }
+
+    // ========================================
+    // QUERIES
+    // ========================================
+
+    /**
+     * Candidates around a player, distances measured from the player
+     */
+    public static Query query(ServerPlayerEntity player) {
+        return new Query((ServerWorld) player.getWorld(), cacheFor(player), player.getPos(), player);
+    }
+
+    /**
+     * Candidates around a position, served from the nearest player's cache in
+     * that world - empty if no player is within reach of it
+     */
+    public static Query query(ServerWorld world, BlockPos center) {
+        Vec3d centerPos = Vec3d.ofBottomCenter(center);
+        ServerPlayerEntity nearest = null;
+        double nearestDistance = RINGS * RING_WIDTH;
+        nearestDistance *= nearestDistance;
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            double distance = player.squaredDistanceTo(centerPos);
+            if (distance < nearestDistance) {
+                nearest = player;
+                nearestDistance = distance;
+            }
+        }
+        return new Query(world, nearest == null ? null : cacheFor(nearest), centerPos, nearest);
+    }
+
+    public static class Query {
+        private final ServerWorld world;
+        @Nullable
+        private final Cache cache;
+        private final Vec3d center;
+        @Nullable
+        private final ServerPlayerEntity viewer;
+        private double minDistance = 0;
+        private double maxDistance = RINGS * RING_WIDTH;
+        private byte requiredFlags = PROBED;
+        private int maxLight = 15;
+        private double maxLookDot = 1.0;
+        @Nullable
+        private Predicate<BlockPos> predicate = null;
+
+        private Query(ServerWorld world, @Nullable Cache cache, Vec3d center, @Nullable ServerPlayerEntity viewer) {
+            this.world = world;
+            this.cache = cache;
+            this.center = center;
+            this.viewer = viewer;
+        }
+
+        /**
+         * Horizontal distance from the center between min and max
+         */
+        public Query distance(double min, double max) {
+            this.minDistance = min;
+            this.maxDistance = max;
+            return this;
+        }
+
+        public Query within(double max) {
+            return distance(0, max);
+        }
+
+        /**
+         * Air at the surface block (room for a sign, a torch...)
+         */
+        public Query air() {
+            requiredFlags |= FEET_AIR;
+            return this;
+        }
+
+        /**
+         * Two blocks of air - room for a player-sized entity
+         */
+        public Query clear() {
+            requiredFlags |= FEET_AIR | HEAD_AIR;
+            return this;
+        }
+
+        public Query solidGround() {
+            requiredFlags |= SOLID_GROUND;
+            return this;
+        }
+
+        /**
+         * Light level at the surface block at most level
+         */
+        public Query maxLight(int level) {
+            this.maxLight = level;
+            return this;
+        }
+
+        /**
+         * Behind the viewing player (no-op without one)
+         */
+        public Query behind() {
+            maxLookDot = Math.min(maxLookDot, BEHIND_DOT);
+            return this;
+        }
+
+        /**
+         * Outside the viewing player's view cone (no-op without one)
+         */
+        public Query outOfView() {
+            maxLookDot = Math.min(maxLookDot, OUT_OF_VIEW_DOT);
+            return this;
+        }
+
+        /**
+         * Extra check run only on candidates passing the cached filters
+         */
+        public Query where(Predicate<BlockPos> predicate) {
+            this.predicate = this.predicate == null ? predicate : this.predicate.and(predicate);
+            return this;
+        }
+
+        /**
+         * A random matching candidate, or null
+         */
+        @Nullable
+        public BlockPos pick() {
+            if (cache == null || cache.dimension != world.getRegistryKey()) {
+                return null;
+            }
+
+            IntArrayList matches = new IntArrayList();
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (matches(slot)) {
+                    matches.add(slot);
+                }
+            }
+
+            // Partial shuffle - draw random matches until one survives the live checks
+            int checks = 0;
+            for (int i = 0; i < matches.size() && checks < MAX_PREDICATE_CHECKS; i++) {
+                int swap = i + RANDOM.nextInt(matches.size() - i);
+                int slot = matches.getInt(swap);
+                matches.set(swap, matches.getInt(i));
+
+                BlockPos pos = BlockPos.fromLong(cache.positions[slot]);
+                if (!isStillValid(slot, pos)) {
+                    continue;
+                }
+                if (predicate != null) {
+                    checks++;
+                    if (!predicate.test(pos)) {
+                        continue;
+                    }
+                }
+                return pos;
+            }
+            return null;
+        }
+
+        private boolean matches(int slot) {
+            byte flags = cache.flags[slot];
+            if ((flags & requiredFlags) != requiredFlags || cache.light[slot] > maxLight) {
+                return false;
+            }
+
+            long packed = cache.positions[slot];
+            double dx = BlockPos.unpackLongX(packed) + 0.5 - center.x;
+            double dz = BlockPos.unpackLongZ(packed) + 0.5 - center.z;
+            double distanceSq = dx * dx + dz * dz;
+            if (distanceSq < minDistance * minDistance || distanceSq > maxDistance * maxDistance) {
+                return false;
+            }
+
+            if (maxLookDot < 1.0 && viewer != null) {
+                Vec3d look = viewer.getRotationVector();
+                double lookLength = Math.sqrt(look.x * look.x + look.z * look.z);
+                double distance = Math.sqrt(distanceSq);
+                if (lookLength > 1.0E-4 && distance > 1.0E-4) {
+                    double dot = (look.x * dx + look.z * dz) / (lookLength * distance);
+                    return dot <= maxLookDot;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Re-read the blocks behind the cached flags - the world may have
+         * changed since the slot was probed
+         */
+        private boolean isStillValid(int slot, BlockPos pos) {
+            if (!world.isChunkLoaded(pos.getX() >> 4, pos.getZ() >> 4)) {
+                return false;
+            }
+            byte live = readFlags(world, pos);
+            if ((live & requiredFlags) != requiredFlags) {
+                cache.flags[slot] = live;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    // ========================================
+    // PROBING
+    // ========================================
+
+    private static Cache cacheFor(ServerPlayerEntity player) {
+        RegistryKey<World> dimension = player.getWorld().getRegistryKey();
+        Cache cache = caches.get(player.getUuid());
+        if (cache == null || cache.dimension != dimension) {
+            // New player or new world - fill every slot now so the first query has answers
+            cache = new Cache(dimension);
+            ServerWorld world = (ServerWorld) player.getWorld();
+            for (int slot = 0; slot < SLOTS; slot++) {
+                probe(world, player.getBlockPos(), cache, slot);
+            }
+            caches.put(player.getUuid(), cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Point a slot at a random column in its ring around center
+     */
+    private static void probe(ServerWorld world, BlockPos center, Cache cache, int slot) {
+        int ring = slot / SLOTS_PER_RING;
+        double angle = RANDOM.nextDouble() * Math.PI * 2;
+        double distance = (ring + RANDOM.nextDouble()) * RING_WIDTH;
+        int x = center.getX() + MathHelper.floor(Math.cos(angle) * distance);
+        int z = center.getZ() + MathHelper.floor(Math.sin(angle) * distance);
+
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(x >> 4, z >> 4);
+        if (chunk == null) {
+            cache.flags[slot] = 0;
+            return;
+        }
+
+        int y = chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES).get(x & 15, z & 15);
+        BlockPos pos = new BlockPos(x, y, z);
+        cache.positions[slot] = pos.asLong();
+        cache.flags[slot] = readFlags(world, pos);
+        cache.light[slot] = (byte) world.getLightLevel(pos);
+    }
+
+    private static byte readFlags(ServerWorld world, BlockPos pos) {
+        byte flags = PROBED;
+        if (world.getBlockState(pos).isAir()) {
+            flags |= FEET_AIR;
+        }
+        if (world.getBlockState(pos.up()).isAir()) {
+            flags |= HEAD_AIR;
+        }
+        BlockPos below = pos.down();
+        BlockState ground = world.getBlockState(below);
+        if (ground.isSolidBlock(world, below)) {
+            flags |= SOLID_GROUND;
+        }
+        return flags;
+    }
+}